@@ -0,0 +1,123 @@
+package com.example.task_management_loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Blocking HTTP calls against the server API. Every call returns the HTTP status so the driver can count
+ * errors; calls that create state also return what later requests need (tokens, task ids).
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public record Result(int status, JsonNode body) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    public String registerOrLogin(String username, String password) throws IOException, InterruptedException {
+        Result registered = send("POST", "/auth/register", null, Map.of(
+                "username", username,
+                "email", username + "@loadtest.example.com",
+                "password", password));
+        if (registered.ok()) {
+            return registered.body().get("token").asText();
+        }
+
+        Result login = send("POST", "/auth/login", null, Map.of("username", username, "password", password));
+        if (!login.ok()) {
+            throw new IOException("Could not register or log in " + username + ": HTTP " + login.status());
+        }
+        return login.body().get("token").asText();
+    }
+
+    public Result getTasks(String token) throws IOException, InterruptedException {
+        return send("GET", "/tasks", token, null);
+    }
+
+    public Result createTask(String token, String title, String status, List<String> assignees)
+            throws IOException, InterruptedException {
+        return send("POST", "/tasks", token, taskBody(title, status, assignees));
+    }
+
+    public Result updateTask(String token, long id, String title, String status, List<String> assignees)
+            throws IOException, InterruptedException {
+        return send("PUT", "/tasks/" + id, token, taskBody(title, status, assignees));
+    }
+
+    public Result deleteTask(String token, long id) throws IOException, InterruptedException {
+        return send("DELETE", "/tasks/" + id, token, null);
+    }
+
+    public Result getUsernames(String token) throws IOException, InterruptedException {
+        return send("GET", "/usernames", token, null);
+    }
+
+    public Result boardSummary(String token) throws IOException, InterruptedException {
+        return send("POST", "/telegram/summary", token, null);
+    }
+
+    private Map<String, Object> taskBody(String title, String status, List<String> assignees) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("title", title);
+        body.put("description", "Generated by the load test");
+        body.put("status", status);
+        body.put("assignees", assignees);
+        return body;
+    }
+
+    private Result send(String method, String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body));
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, publisher);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode json = response.body().length > 0 && response.statusCode() != 204
+                ? readQuietly(response.body())
+                : null;
+        return new Result(response.statusCode(), json);
+    }
+
+    private JsonNode readQuietly(byte[] body) {
+        try {
+            return mapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.task_management_loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint latency histograms. Latencies are measured from the <em>intended</em> start time of each
+ * request, so a stalled server shows up as queueing delay instead of being hidden (coordinated omission).
+ */
+public class LatencyRecorder {
+
+    private static final long LOWEST_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long HIGHEST_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation op : Operation.values()) {
+            recorders.put(op, new Recorder(LOWEST_NANOS, HIGHEST_NANOS, 3));
+            errors.put(op, new AtomicLong());
+        }
+    }
+
+    public void record(Operation op, long latencyNanos, boolean success) {
+        recorders.get(op).recordValue(Math.min(Math.max(latencyNanos, LOWEST_NANOS), HIGHEST_NANOS));
+        if (!success) {
+            errors.get(op).incrementAndGet();
+        }
+    }
+
+    /**
+     * Print a percentile table and write one {@code .hgrm} file per endpoint into {@code output}.
+     */
+    public void report(PrintStream out, double seconds, Path output) throws IOException {
+        Files.createDirectories(output);
+        out.printf(Locale.ROOT, "%-26s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (Operation op : Operation.values()) {
+            Histogram histogram = recorders.get(op).getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-26s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    op.label(),
+                    histogram.getTotalCount(),
+                    errors.get(op).get(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MS,
+                    histogram.getValueAtPercentile(90) / NANOS_PER_MS,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MS,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MS,
+                    histogram.getMaxValue() / NANOS_PER_MS);
+
+            Path file = output.resolve(op.name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(hgrm, NANOS_PER_MS);
+            }
+        }
+    }
+
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(counter -> counter.set(0));
+    }
+}
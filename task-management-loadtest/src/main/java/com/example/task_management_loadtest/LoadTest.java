@@ -0,0 +1,199 @@
+package com.example.task_management_loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: registers synthetic users, seeds their boards, then issues requests at a fixed
+ * target rate regardless of how fast the server answers, recording latency per endpoint.
+ * <p>
+ * {@code java -jar target/task-management-loadtest-0.0.1-SNAPSHOT.jar --users=50 --rate=200 --duration=60s}
+ */
+public class LoadTest {
+
+    private static final String PASSWORD = "LoadTest#2025";
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final int MAX_ASSIGNEES = 3;
+
+    private final LoadTestOptions options;
+    private final ApiClient api;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final List<SyntheticUser> users = Collections.synchronizedList(new ArrayList<>());
+
+    public LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.api = new ApiClient(options.baseUrl());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        TelegramStub stub = null;
+        if (options.telegramStubPort() > 0) {
+            stub = new TelegramStub(options.telegramStubPort());
+            stub.start();
+            System.out.printf("Telegram stub on http://127.0.0.1:%d (start the server with "
+                    + "--telegram.api.base-url=http://127.0.0.1:%1$d)%n", options.telegramStubPort());
+        }
+
+        try {
+            new LoadTest(options).run();
+        } finally {
+            if (stub != null) {
+                System.out.printf("Telegram stub: %d polls, %d messages%n", stub.polls(), stub.messages());
+                stub.close();
+            }
+        }
+    }
+
+    public void run() throws Exception {
+        registerUsers();
+        seedBoards();
+
+        System.out.printf("Warm-up %ds at %.0f req/s%n", options.warmup().toSeconds(), options.rate());
+        drive(options.warmup().toNanos(), new SplittableRandom(options.seed()));
+        recorder.reset();
+
+        System.out.printf("Measuring %ds at %.0f req/s%n", options.duration().toSeconds(), options.rate());
+        drive(options.duration().toNanos(), new SplittableRandom(options.seed() + 1));
+        recorder.report(System.out, options.duration().toNanos() / 1e9, options.output());
+    }
+
+    private void registerUsers() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<SyntheticUser>> futures = new ArrayList<>();
+            for (int i = 0; i < options.users(); i++) {
+                String username = options.runId() + "u" + i;
+                futures.add(executor.submit(() -> new SyntheticUser(username, api.registerOrLogin(username, PASSWORD))));
+            }
+            for (Future<SyntheticUser> future : futures) {
+                users.add(future.get());
+            }
+        }
+        users.sort((a, b) -> a.username().compareTo(b.username()));
+        System.out.printf("Registered %d users%n", users.size());
+    }
+
+    private void seedBoards() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(users.size(), 16))) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                SyntheticUser user = users.get(i);
+                SplittableRandom random = new SplittableRandom(options.seed() ^ (i * 0x9E3779B97F4A7C15L));
+                futures.add(executor.submit(() -> {
+                    for (int t = 0; t < options.tasksPerUser(); t++) {
+                        createTask(user, random);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        System.out.printf("Seeded %d tasks%n", users.size() * options.tasksPerUser());
+    }
+
+    /**
+     * Issue requests at fixed intervals for {@code durationNanos}. Each request gets its own virtual thread so
+     * a slow response never delays the next send; the random choices are drawn on the scheduling thread so the
+     * request sequence only depends on the seed.
+     */
+    private void drive(long durationNanos, SplittableRandom random) throws InterruptedException {
+        Operation[] weighted = weightedOperations(options.mix());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+        long start = System.nanoTime();
+        long end = start + durationNanos;
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation op = weighted[random.nextInt(weighted.length)];
+            SyntheticUser user = users.get(random.nextInt(users.size()));
+            SplittableRandom requestRandom = random.split();
+            executor.execute(() -> {
+                boolean success = execute(op, user, requestRandom);
+                recorder.record(op, System.nanoTime() - intended, success);
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(2, TimeUnit.MINUTES)) {
+            System.err.println("Requests still in flight after 2 minutes; results are incomplete");
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean execute(Operation op, SyntheticUser user, SplittableRandom random) {
+        try {
+            return switch (op) {
+                case GET_TASKS -> api.getTasks(user.token()).ok();
+                case CREATE_TASK -> createTask(user, random);
+                case UPDATE_TASK -> {
+                    Long id = user.ownedTasks().peekLast();
+                    if (id == null) {
+                        yield createTask(user, random);
+                    }
+                    yield api.updateTask(user.token(), id, "Updated " + random.nextInt(1_000_000),
+                            STATUSES[random.nextInt(STATUSES.length)], randomAssignees(user, random)).ok();
+                }
+                case DELETE_TASK -> {
+                    Long id = user.ownedTasks().pollFirst();
+                    if (id == null) {
+                        yield createTask(user, random);
+                    }
+                    yield api.deleteTask(user.token(), id).ok();
+                }
+                case GET_USERNAMES -> api.getUsernames(user.token()).ok();
+                case BOARD_SUMMARY -> api.boardSummary(user.token()).ok();
+            };
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean createTask(SyntheticUser user, SplittableRandom random) throws Exception {
+        ApiClient.Result result = api.createTask(user.token(), "Task " + random.nextInt(1_000_000),
+                STATUSES[random.nextInt(STATUSES.length)], randomAssignees(user, random));
+        if (result.ok() && result.body() != null && result.body().has("id")) {
+            user.ownedTasks().addLast(result.body().get("id").asLong());
+        }
+        return result.ok();
+    }
+
+    private List<String> randomAssignees(SyntheticUser owner, SplittableRandom random) {
+        int count = random.nextInt(MAX_ASSIGNEES + 1);
+        List<String> assignees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = users.get(random.nextInt(users.size())).username();
+            if (!username.equals(owner.username()) && !assignees.contains(username)) {
+                assignees.add(username);
+            }
+        }
+        return assignees;
+    }
+
+    private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(op);
+            }
+        });
+        return weighted.toArray(Operation[]::new);
+    }
+}
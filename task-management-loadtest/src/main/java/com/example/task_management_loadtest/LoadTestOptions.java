@@ -0,0 +1,97 @@
+package com.example.task_management_loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options, all given as {@code --name=value}.
+ *
+ * <pre>
+ * --base-url=http://localhost:8080   server under test
+ * --users=50                         synthetic users registered through /auth/register
+ * --tasks-per-user=20                tasks seeded per user before the measured run
+ * --rate=200                         target request rate (requests per second, open loop)
+ * --warmup=10s --duration=60s        warm-up (not recorded) and measured phase lengths
+ * --mix=GET_TASKS=55,CREATE_TASK=15,UPDATE_TASK=15,DELETE_TASK=5,GET_USERNAMES=5,BOARD_SUMMARY=5
+ * --seed=42                          makes the operation sequence and seeded boards reproducible
+ * --run-id=...                       username prefix; defaults to a value derived from the seed
+ * --telegram-stub-port=8089          local Telegram Bot API stub (0 disables it)
+ * --output=results                   directory for per-endpoint .hgrm percentile distributions
+ * </pre>
+ */
+public record LoadTestOptions(
+        String baseUrl,
+        int users,
+        int tasksPerUser,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        long seed,
+        String runId,
+        int telegramStubPort,
+        Path output
+) {
+
+    private static final String DEFAULT_MIX =
+            "GET_TASKS=55,CREATE_TASK=15,UPDATE_TASK=15,DELETE_TASK=5,GET_USERNAMES=5,BOARD_SUMMARY=5";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        long seed = Long.parseLong(values.getOrDefault("seed", "42"));
+        return new LoadTestOptions(
+                values.getOrDefault("base-url", "http://localhost:8080").replaceAll("/$", ""),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Integer.parseInt(values.getOrDefault("tasks-per-user", "20")),
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                seed,
+                values.getOrDefault("run-id", "lt" + Long.toString(Math.abs(seed), 36)),
+                Integer.parseInt(values.getOrDefault("telegram-stub-port", "8089")),
+                Path.of(values.getOrDefault("output", "results")));
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.task_management_loadtest;
+
+/**
+ * Endpoints driven by the load generator. The names are used in the {@code --mix} option.
+ */
+public enum Operation {
+    GET_TASKS("GET /tasks"),
+    CREATE_TASK("POST /tasks"),
+    UPDATE_TASK("PUT /tasks/{id}"),
+    DELETE_TASK("DELETE /tasks/{id}"),
+    GET_USERNAMES("GET /usernames"),
+    BOARD_SUMMARY("POST /telegram/summary");
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
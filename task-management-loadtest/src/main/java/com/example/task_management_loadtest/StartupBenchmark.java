@@ -0,0 +1,134 @@
+package com.example.task_management_loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start benchmark: launches the server command repeatedly and records, for each run, the time from process
+ * start until the port answers and until the first successful {@code GET /tasks} (register a user, then fetch
+ * its board). Everything after {@code --} is the server command line; give each run a fresh database.
+ * <pre>
+ * java -cp target/task-management-loadtest-0.0.1-SNAPSHOT.jar com.example.task_management_loadtest.StartupBenchmark \
+ *   --runs=5 --base-url=http://localhost:8080 -- \
+ *   java -XX:SharedArchiveFile=../task-management-server/target/extracted/application.jsa -Dspring.aot.enabled=true \
+ *   -jar ../task-management-server/target/extracted/task-management-server-0.0.1-SNAPSHOT.jar \
+ *   --spring.profiles.active=production --spring.datasource.url=jdbc:h2:mem:startup
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private static final String PASSWORD = "LoadTest#2025";
+    private static final long POLL_INTERVAL_MS = 10;
+
+    private record Run(long listeningMs, long firstTasksMs) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException("Usage: StartupBenchmark [--runs=5] [--base-url=...] [--timeout=120s] -- <server command>");
+        }
+
+        Map<String, String> options = new HashMap<>();
+        for (String arg : Arrays.copyOfRange(args, 0, separator)) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        List<String> command = List.of(Arrays.copyOfRange(args, separator + 1, args.length));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080").replaceAll("/$", "");
+        long timeoutMs = Long.parseLong(options.getOrDefault("timeout", "120s").replaceAll("s$", "")) * 1000;
+
+        List<Run> results = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            Run run = measure(command, new ApiClient(baseUrl), "startup" + i + "x" + System.nanoTime(), timeoutMs);
+            System.out.printf("run %d: listening after %d ms, first GET /tasks after %d ms%n",
+                    i + 1, run.listeningMs(), run.firstTasksMs());
+            results.add(run);
+        }
+
+        System.out.printf("%nlistening      %s%nfirst GET /tasks %s%n",
+                summary(results.stream().mapToLong(Run::listeningMs).toArray()),
+                summary(results.stream().mapToLong(Run::firstTasksMs).toArray()));
+    }
+
+    private static Run measure(List<String> command, ApiClient api, String username, long timeoutMs) throws Exception {
+        Path log = Files.createTempFile("startup-benchmark", ".log");
+        long started = System.nanoTime();
+        Process server = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = started + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+            // Any HTTP status (401 without a token) means the port is open and Spring MVC is answering
+            while (!answers(api)) {
+                checkAlive(server, deadline, log);
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+            long listening = elapsedMs(started);
+
+            String token = null;
+            while (true) {
+                try {
+                    if (token == null) {
+                        token = api.registerOrLogin(username, PASSWORD);
+                    }
+                    if (api.getTasks(token).status() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Not ready yet (for example the database is still migrating)
+                }
+                checkAlive(server, deadline, log);
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+            return new Run(listening, elapsedMs(started));
+        } finally {
+            server.destroy();
+            if (!server.waitFor(30, TimeUnit.SECONDS)) {
+                server.destroyForcibly().waitFor();
+            }
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private static boolean answers(ApiClient api) throws InterruptedException {
+        try {
+            api.getTasks(null);
+            return true;
+        } catch (IOException e) {
+            // Connection refused or reset while the server is still binding
+            return false;
+        }
+    }
+
+    private static void checkAlive(Process server, long deadline, Path log) throws IOException {
+        if (!server.isAlive()) {
+            throw new IllegalStateException("Server exited with code " + server.exitValue() + ":\n" + Files.readString(log));
+        }
+        if (System.nanoTime() > deadline) {
+            throw new IllegalStateException("Server did not answer GET /tasks before the timeout; log in " + log);
+        }
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    private static String summary(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return String.format("min %d ms, median %d ms, max %d ms",
+                sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.example.task_management_loadtest;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * A registered load-test user and the ids of the tasks it owns (only owners may delete).
+ */
+public record SyntheticUser(String username, String token, ConcurrentLinkedDeque<Long> ownedTasks) {
+
+    public SyntheticUser(String username, String token) {
+        this(username, token, new ConcurrentLinkedDeque<>());
+    }
+}
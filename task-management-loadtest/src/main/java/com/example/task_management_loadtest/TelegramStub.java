@@ -0,0 +1,74 @@
+package com.example.task_management_loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal stand-in for the Telegram Bot API so load tests never touch api.telegram.org. Start the server
+ * with {@code --telegram.api.base-url=http://localhost:<port>} to point it here.
+ * <p>
+ * {@code getUpdates} always returns an empty batch and {@code sendMessage} always succeeds; both are counted.
+ */
+public class TelegramStub implements AutoCloseable {
+
+    private static final byte[] EMPTY_UPDATES = "{\"ok\":true,\"result\":[]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE_SENT = "{\"ok\":true,\"result\":{}}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+
+    public TelegramStub(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public long polls() {
+        return polls.get();
+    }
+
+    public long messages() {
+        return messages.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        exchange.getRequestBody().readAllBytes();
+
+        byte[] body;
+        if (path.endsWith("/getUpdates")) {
+            polls.incrementAndGet();
+            body = EMPTY_UPDATES;
+        } else if (path.endsWith("/sendMessage")) {
+            messages.incrementAndGet();
+            body = MESSAGE_SENT;
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
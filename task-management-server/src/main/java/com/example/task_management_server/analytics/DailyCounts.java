@@ -0,0 +1,62 @@
+package com.example.task_management_server.analytics;
+
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.model.Task;
+
+/**
+ * What one task event adds to a day's rollup. Only creation, deletion and status changes count; an update
+ * that leaves the status alone is {@link #isEmpty() empty}.
+ * <p>
+ * A task is open until it is DONE. {@link #added()} and {@link #closed()} are the open tasks gained and
+ * lost, so the number of open tasks at the end of a day is the previous day's plus {@code added - closed}.
+ */
+public record DailyCounts(int created, int started, int completed, int reopened, int removed) {
+
+    public static final DailyCounts NONE = new DailyCounts(0, 0, 0, 0, 0);
+
+    public static DailyCounts of(TaskMessage message) {
+        Task.TaskStatus before = status(message.oldTaskRecord());
+        Task.TaskStatus after = status(message.newTaskRecord());
+        return switch (message.type()) {
+            case CREATED -> of(true, null, after, false);
+            case UPDATED -> before == after ? NONE : of(false, before, after, false);
+            case DELETED -> of(false, before, null, before != Task.TaskStatus.DONE);
+        };
+    }
+
+    private static DailyCounts of(boolean created, Task.TaskStatus before, Task.TaskStatus after, boolean removed) {
+        return new DailyCounts(
+                created ? 1 : 0,
+                after == Task.TaskStatus.IN_PROGRESS && before != Task.TaskStatus.IN_PROGRESS ? 1 : 0,
+                after == Task.TaskStatus.DONE && before != Task.TaskStatus.DONE ? 1 : 0,
+                before == Task.TaskStatus.DONE && after != null && after != Task.TaskStatus.DONE ? 1 : 0,
+                removed ? 1 : 0);
+    }
+
+    private static Task.TaskStatus status(TaskRecord record) {
+        return record != null ? record.status() : null;
+    }
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+
+    public int added() {
+        return created + reopened;
+    }
+
+    public int closed() {
+        return completed + removed;
+    }
+
+    public DailyCounts plus(DailyCounts other) {
+        return new DailyCounts(
+                created + other.created,
+                started + other.started,
+                completed + other.completed,
+                reopened + other.reopened,
+                removed + other.removed);
+    }
+
+}
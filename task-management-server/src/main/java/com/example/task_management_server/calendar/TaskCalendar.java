@@ -0,0 +1,137 @@
+package com.example.task_management_server.calendar;
+
+import com.example.task_management_server.model.TaskBoardView;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Tasks of one member due between {@code from} and {@code to} (inclusive dates), in due order, and their
+ * iCalendar (RFC 5545) rendering: one {@code VEVENT} per task, starting at its end date.
+ * <p>
+ * The rendering depends only on the tasks, so the same tasks always produce the same bytes and
+ * {@link #etag()} can be computed, and compared, without rendering.
+ */
+public record TaskCalendar(LocalDate from, LocalDate to, List<TaskBoardView> tasks) {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    /**
+     * Opaque validator over the window and every field that appears in a rendering.
+     */
+    public String etag() {
+        MessageDigest digest = sha256();
+        update(digest, from.toString());
+        update(digest, to.toString());
+        for (TaskBoardView task : tasks) {
+            update(digest, String.valueOf(task.getTaskId()));
+            update(digest, task.getTitle());
+            update(digest, task.getDescription());
+            update(digest, task.getStatus().name());
+            update(digest, String.valueOf(task.getEndDate()));
+            update(digest, String.valueOf(task.getCreatedAt()));
+            update(digest, task.getOwner());
+            update(digest, task.getAssignees());
+            // Also changes with the rank, which only the JSON rendering shows
+            update(digest, String.valueOf(task.getVersion()));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    public String toIcs(String name, Duration refreshInterval) {
+        StringBuilder ics = new StringBuilder(256 + tasks.size() * 256);
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//Manado//Task Management Server//EN");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "X-WR-CALNAME:" + escape(name));
+        // Polling hints for calendar apps; polls are answered with 304 until something changes
+        line(ics, "REFRESH-INTERVAL;VALUE=DURATION:" + refreshInterval);
+        line(ics, "X-PUBLISHED-TTL:" + refreshInterval);
+        for (TaskBoardView task : tasks) {
+            Instant stamp = task.getCreatedAt() != null ? task.getCreatedAt() : task.getEndDate();
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:task-" + task.getTaskId() + "@manado");
+            line(ics, "DTSTAMP:" + UTC_DATE_TIME.format(stamp));
+            line(ics, "DTSTART:" + UTC_DATE_TIME.format(task.getEndDate()));
+            line(ics, "SUMMARY:" + escape(task.getTitle()));
+            if (task.getDescription() != null && !task.getDescription().isEmpty()) {
+                line(ics, "DESCRIPTION:" + escape(task.getDescription()));
+            }
+            line(ics, "CATEGORIES:" + task.getStatus().name());
+            line(ics, "END:VEVENT");
+        }
+        line(ics, "END:VCALENDAR");
+        return ics.toString();
+    }
+
+    static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // Content lines are folded after 75 octets, never inside a UTF-8 sequence
+    static void line(StringBuilder out, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.append(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // Separator, so that moving text between adjacent fields changes the digest
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
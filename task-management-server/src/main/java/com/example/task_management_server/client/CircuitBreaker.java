@@ -0,0 +1,114 @@
+package com.example.task_management_server.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failed calls in a row the circuit opens
+ * and every call fails immediately with {@link OpenException} for {@code openDuration}. The first call after
+ * that is let through as a trial (half-open): success closes the circuit, failure opens it again.
+ * <p>
+ * Only exceptions accepted by the failure predicate count against the upstream; anything else (for example a
+ * 4xx caused by the request itself) is rethrown but treated as a healthy response.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Predicate<RuntimeException> isFailure;
+    private final LongSupplier clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+                          Predicate<RuntimeException> isFailure) {
+        this(name, failureThreshold, openDuration, isFailure, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+                   Predicate<RuntimeException> isFailure, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.isFailure = isFailure;
+        this.clock = clock;
+    }
+
+    public <T> T call(Supplier<T> action) {
+        if (!tryAcquirePermission()) {
+            throw new OpenException(name);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            if (isFailure.test(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // Exactly one caller wins the CAS and becomes the half-open trial
+        return current == State.OPEN
+                && clock.getAsLong() - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            logger.info("Circuit '{}' closed", name);
+        }
+    }
+
+    private void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+            // openedAt is written before the state so readers of OPEN never see a stale timestamp
+            openedAt = clock.getAsLong();
+            if (state.compareAndSet(current, State.OPEN)) {
+                logger.warn("Circuit '{}' opened after {} consecutive failures", name, failures);
+            }
+        }
+    }
+
+    public static class OpenException extends RuntimeException {
+
+        public OpenException(String name) {
+            super("Circuit '" + name + "' is open");
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.task_management_server.client;
+
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outbound calls to the Telegram Bot API. Requests go through one shared JDK {@link HttpClient}, which keeps
+ * connections alive and reuses them (HTTP/2 where the server negotiates it), with explicit connect and read
+ * timeouts. Every call passes through a {@link CircuitBreaker} that counts I/O errors, timeouts and 5xx
+ * responses; while it is open, calls fail immediately with {@link CircuitBreaker.OpenException}.
+ */
+public class TelegramClient {
+
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final String botUrl;
+
+    public TelegramClient(
+            String baseUrl,
+            String botToken,
+            Duration connectTimeout,
+            Duration readTimeout,
+            CircuitBreaker circuitBreaker) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.circuitBreaker = circuitBreaker;
+        this.botUrl = baseUrl + "/bot" + botToken;
+    }
+
+    public static boolean isUpstreamFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getUpdates(long offset, Duration longPollTimeout) {
+        String url = String.format("%s/getUpdates?offset=%d&timeout=%d", botUrl, offset, longPollTimeout.toSeconds());
+        return circuitBreaker.call(() -> restTemplate.getForObject(url, Map.class));
+    }
+
+    public void sendMessage(Map<String, String> body) {
+        circuitBreaker.call(() -> restTemplate.postForObject(botUrl + "/sendMessage", body, Object.class));
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+}
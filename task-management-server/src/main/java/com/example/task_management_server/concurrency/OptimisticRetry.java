@@ -0,0 +1,105 @@
+package com.example.task_management_server.concurrency;
+
+import com.example.task_management_server.exception.ConflictException;
+import com.example.task_management_server.exception.TaskConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a task mutation again when it lost a race: a concurrent transaction wrote the same task first and the
+ * {@code @Version} check failed with {@link OptimisticLockingFailureException}. The operation must start its own
+ * transaction, so every attempt reads the task afresh. Retries wait a random time of up to
+ * {@code initial-backoff * 2^(retry - 1)}, capped at {@code max-backoff}, so writers colliding on a hot task
+ * spread out instead of colliding again; after {@code max-attempts} the request fails with 409.
+ * <p>
+ * Metrics, tagged with the operation: {@code task.edit.retries} counts retried attempts, and
+ * {@code task.edit.conflicts} counts operations by {@code outcome}: {@code resolved} (succeeded after a retry),
+ * {@code rejected} (a real conflict, answered with 409) and {@code exhausted} (still losing after the last attempt).
+ */
+@Component
+public class OptimisticRetry {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Sleeper sleeper;
+
+    @Autowired
+    public OptimisticRetry(
+            MeterRegistry meterRegistry,
+            @Value("${app.optimistic-retry.max-attempts:5}") int maxAttempts,
+            @Value("${app.optimistic-retry.initial-backoff:5ms}") Duration initialBackoff,
+            @Value("${app.optimistic-retry.max-backoff:100ms}") Duration maxBackoff) {
+        this(meterRegistry, maxAttempts, initialBackoff, maxBackoff, nanos -> Thread.sleep(Duration.ofNanos(nanos)));
+    }
+
+    OptimisticRetry(
+            MeterRegistry meterRegistry,
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            Sleeper sleeper) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.sleeper = sleeper;
+    }
+
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    public <T> T run(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            T result;
+            try {
+                result = action.get();
+            } catch (TaskConflictException e) {
+                countConflict(operation, "rejected");
+                throw e;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    countConflict(operation, "exhausted");
+                    throw new ConflictException("The task is being changed by others; retry shortly");
+                }
+                meterRegistry.counter("task.edit.retries", "operation", operation).increment();
+                pause(attempt, e);
+                continue;
+            }
+
+            if (attempt > 1) {
+                countConflict(operation, "resolved");
+            }
+            return result;
+        }
+    }
+
+    // Upper bound of the pause before retry number {@code retry}, starting at 1
+    long backoffBound(int retry) {
+        long bound = initialBackoffNanos << Math.min(retry - 1, 30);
+        return bound < 0 || bound > maxBackoffNanos ? maxBackoffNanos : bound;
+    }
+
+    private void pause(int retry, OptimisticLockingFailureException cause) {
+        try {
+            sleeper.sleep(ThreadLocalRandom.current().nextLong(backoffBound(retry) + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private void countConflict(String operation, String outcome) {
+        meterRegistry.counter("task.edit.conflicts", "operation", operation, "outcome", outcome).increment();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.example.task_management_server.concurrency;
+
+import com.example.task_management_server.dto.TaskRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Three-way merge of the editable fields of a task: {@code base} is the state an edit was made against,
+ * {@code mine} is that state with the edit applied, and {@code theirs} is the current state. A field takes the
+ * edit's value when only the edit changed it and the current value otherwise. Both sides changing a field to
+ * different values is a conflict.
+ * <p>
+ * The merged record keeps everything else (owner, rank, chat ids, version) from {@code theirs}.
+ */
+public record TaskMerge(TaskRecord merged, List<String> conflicts) {
+
+    public static TaskMerge of(TaskRecord base, TaskRecord mine, TaskRecord theirs) {
+        List<String> conflicts = new ArrayList<>(0);
+        TaskRecord merged = new TaskRecord(
+                theirs.taskId(),
+                pick("title", base.title(), mine.title(), theirs.title(), conflicts),
+                pick("status", base.status(), mine.status(), theirs.status(), conflicts),
+                theirs.owner(),
+                pick("description", base.description(), mine.description(), theirs.description(), conflicts),
+                pick("endDate", base.endDate(), mine.endDate(), theirs.endDate(), conflicts),
+                theirs.createdAt(),
+                pick("assignees", base.assignees(), mine.assignees(), theirs.assignees(), conflicts),
+                theirs.telegramIds(),
+                theirs.rank(),
+                theirs.workspaceId(),
+                theirs.version());
+        return new TaskMerge(merged, conflicts);
+    }
+
+    /**
+     * The merge of an edit whose base is unknown: a field the two sides disagree on may have been changed by
+     * either of them, so each such field is a conflict. Without conflicts there is nothing to change.
+     */
+    public static TaskMerge withoutBase(TaskRecord mine, TaskRecord theirs) {
+        List<String> conflicts = new ArrayList<>(0);
+        differ("title", mine.title(), theirs.title(), conflicts);
+        differ("status", mine.status(), theirs.status(), conflicts);
+        differ("description", mine.description(), theirs.description(), conflicts);
+        differ("endDate", mine.endDate(), theirs.endDate(), conflicts);
+        differ("assignees", mine.assignees(), theirs.assignees(), conflicts);
+        return new TaskMerge(theirs, conflicts);
+    }
+
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+
+    /**
+     * Whether the merged record differs from {@code theirs} in an editable field, that is, whether there is
+     * anything to write.
+     */
+    public boolean changes(TaskRecord theirs) {
+        return !Objects.equals(merged.title(), theirs.title())
+                || merged.status() != theirs.status()
+                || !Objects.equals(merged.description(), theirs.description())
+                || !Objects.equals(merged.endDate(), theirs.endDate())
+                || !Arrays.equals(merged.assignees(), theirs.assignees());
+    }
+
+    // deepEquals compares the sorted assignee arrays by content
+    private static <T> T pick(String field, T base, T mine, T theirs, List<String> conflicts) {
+        if (Objects.deepEquals(mine, base) || Objects.deepEquals(mine, theirs)) {
+            return theirs;
+        }
+        if (!Objects.deepEquals(theirs, base)) {
+            conflicts.add(field);
+        }
+        return mine;
+    }
+
+    private static void differ(String field, Object mine, Object theirs, List<String> conflicts) {
+        if (!Objects.deepEquals(mine, theirs)) {
+            conflicts.add(field);
+        }
+    }
+
+}
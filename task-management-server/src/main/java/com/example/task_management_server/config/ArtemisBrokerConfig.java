@@ -0,0 +1,107 @@
+package com.example.task_management_server.config;
+
+import org.apache.activemq.artemis.core.io.aio.AIOSequentialFileFactory;
+import org.apache.activemq.artemis.core.server.JournalType;
+import org.apache.activemq.artemis.core.settings.impl.AddressFullMessagePolicy;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.connection.SingleConnectionFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Journal, memory and flow-control settings of the embedded broker ({@code spring.artemis.mode=embedded}).
+ * <ul>
+ *     <li>{@code app.artemis.journal.type}: {@code NIO}, {@code MAPPED} (memory-mapped files) or {@code ASYNCIO}
+ *     (Linux libaio, falling back to {@code MAPPED} where it is not available). Only used when the broker is
+ *     persistent ({@code spring.artemis.embedded.persistent=true}).</li>
+ *     <li>{@code app.artemis.journal.sync}: whether a send returns only once the journal is on disk. Without
+ *     it, sends are acknowledged from the journal buffer and a crash can lose the last few milliseconds.</li>
+ *     <li>{@code app.artemis.global-max-size} caps the heap the broker may use for messages, which otherwise
+ *     defaults to half the JVM heap; each address is also limited to {@code app.artemis.address.max-size},
+ *     beyond which {@code app.artemis.address.full-policy} applies ({@code PAGE} to disk by default).</li>
+ *     <li>{@code app.artemis.consumer-window-size}: bytes each consumer buffers ahead of its listener.
+ *     {@code 0} disables buffering, {@code -1} removes the limit.</li>
+ * </ul>
+ * The consumer window also applies to a native broker connection (the {@code broker} profile).
+ */
+@Configuration
+public class ArtemisBrokerConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtemisBrokerConfig.class);
+
+    @Value("${app.artemis.journal.type:NIO}")
+    private JournalType journalType;
+
+    @Value("${app.artemis.journal.sync:true}")
+    private boolean journalSync;
+
+    @Value("${app.artemis.global-max-size:128MB}")
+    private DataSize globalMaxSize;
+
+    @Value("${app.artemis.address.max-size:32MB}")
+    private DataSize addressMaxSize;
+
+    @Value("${app.artemis.address.page-size:4MB}")
+    private DataSize pageSize;
+
+    @Value("${app.artemis.address.full-policy:PAGE}")
+    private AddressFullMessagePolicy fullPolicy;
+
+    @Bean
+    public ArtemisConfigurationCustomizer brokerConfigurationCustomizer() {
+        return configuration -> {
+            JournalType type = journalType;
+            if (type == JournalType.ASYNCIO && !AIOSequentialFileFactory.isSupported()) {
+                logger.warn("AIO journal is not available on this platform; using a memory-mapped journal");
+                type = JournalType.MAPPED;
+            }
+            configuration.setJournalType(type);
+            configuration.setJournalDatasync(journalSync);
+            configuration.setJournalSyncTransactional(journalSync);
+            configuration.setJournalSyncNonTransactional(journalSync);
+            configuration.setGlobalMaxSize(globalMaxSize.toBytes());
+
+            // Paging writes to the journal's data directory, which a non-persistent broker does not have
+            AddressFullMessagePolicy policy = fullPolicy;
+            if (policy == AddressFullMessagePolicy.PAGE && !configuration.isPersistenceEnabled()) {
+                policy = AddressFullMessagePolicy.BLOCK;
+            }
+            // Merged into the catch-all settings, which the cluster configuration also adjusts
+            configuration.getAddressSettings().computeIfAbsent("#", match -> new AddressSettings())
+                    .setMaxSizeBytes(addressMaxSize.toBytes())
+                    .setPageSizeBytes(Math.toIntExact(pageSize.toBytes()))
+                    .setAddressFullMessagePolicy(policy);
+
+            logger.info("Embedded Artemis: persistent={}, journal={}, sync={}, global-max-size={}, "
+                            + "address max-size={} ({})", configuration.isPersistenceEnabled(), type, journalSync,
+                    globalMaxSize, addressMaxSize, policy);
+        };
+    }
+
+    // Static, so the post-processor does not force this configuration class to be created early
+    @Bean
+    public static BeanPostProcessor consumerWindowPostProcessor(
+            @Value("${app.artemis.consumer-window-size:1MB}") DataSize consumerWindowSize) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                Object target = bean instanceof SingleConnectionFactory caching
+                        ? caching.getTargetConnectionFactory()
+                        : bean;
+                if (target instanceof ActiveMQConnectionFactory artemis) {
+                    artemis.setConsumerWindowSize(Math.toIntExact(consumerWindowSize.toBytes()));
+                }
+                return bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.example.task_management_server.config;
+
+import org.apache.activemq.artemis.core.config.ClusterConnectionConfiguration;
+import org.apache.activemq.artemis.core.server.cluster.impl.MessageLoadBalancingType;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Joins the embedded broker of each server instance into an Artemis core cluster, so that events published
+ * on one node reach listeners on the others. Peers are listed statically
+ * ({@code app.artemis.cluster.peers}); queue messages are load-balanced to nodes with consumers and topic
+ * messages are forwarded to every node with a subscription.
+ * <p>
+ * For a shared standalone broker instead, use the {@code broker} profile ({@code spring.artemis.mode=native}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.artemis.cluster", name = "enabled", havingValue = "true")
+public class ArtemisClusterConfig {
+
+    private static final String SELF_CONNECTOR = "self";
+
+    @Value("${app.artemis.cluster.name:task-cluster}")
+    private String clusterName;
+
+    @Value("${app.artemis.cluster.node-name:${HOSTNAME:localhost}}")
+    private String nodeName;
+
+    @Value("${app.artemis.cluster.bind-url:tcp://0.0.0.0:61616}")
+    private String bindUrl;
+
+    @Value("${app.artemis.cluster.advertised-url:tcp://localhost:61616}")
+    private String advertisedUrl;
+
+    @Value("${app.artemis.cluster.peers:}")
+    private List<String> peers;
+
+    @Value("${app.artemis.cluster.user:cluster}")
+    private String clusterUser;
+
+    // No default: every node of a cluster must be given the same secret
+    @Value("${app.artemis.cluster.password:}")
+    private String clusterPassword;
+
+    @Bean
+    public ArtemisConfigurationCustomizer clusterConfigurationCustomizer() {
+        if (clusterPassword.isBlank()) {
+            throw new IllegalStateException(
+                    "app.artemis.cluster.password must be set when app.artemis.cluster.enabled=true");
+        }
+        return configuration -> {
+            try {
+                configuration.setName(nodeName);
+                configuration.addAcceptorConfiguration("cluster", bindUrl);
+                configuration.addConnectorConfiguration(SELF_CONNECTOR, advertisedUrl);
+
+                List<String> peerConnectors = new ArrayList<>();
+                for (int i = 0; i < peers.size(); i++) {
+                    String connector = "peer-" + i;
+                    configuration.addConnectorConfiguration(connector, peers.get(i).trim());
+                    peerConnectors.add(connector);
+                }
+
+                configuration.addClusterConfiguration(new ClusterConnectionConfiguration()
+                        .setName(clusterName)
+                        .setAddress("")
+                        .setConnectorName(SELF_CONNECTOR)
+                        .setStaticConnectors(peerConnectors)
+                        .setMessageLoadBalancingType(MessageLoadBalancingType.ON_DEMAND)
+                        .setMaxHops(1)
+                        .setRetryInterval(500)
+                        .setReconnectAttempts(-1));
+                configuration.setClusterUser(clusterUser);
+                configuration.setClusterPassword(clusterPassword);
+
+                // Move queued messages to a node that still has consumers when the local ones go away
+                configuration.getAddressSettings().computeIfAbsent("#", match -> new AddressSettings())
+                        .setRedistributionDelay(0);
+            } catch (Exception e) {
+                throw new IllegalStateException("Invalid Artemis cluster configuration", e);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.example.task_management_server.config;
+
+import com.example.task_management_server.diagnostics.RequestDiagnosticsFilter;
+import com.example.task_management_server.diagnostics.StatementTimingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Per-request JDBC diagnostics (see {@link RequestDiagnosticsFilter}), on unless {@code app.diagnostics.enabled}
+ * is false. Only the {@code dataSource} bean the application uses is wrapped, not the pools behind it in
+ * {@link DataSourceConfig}, so every statement is counted once whichever pool serves it.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.diagnostics", name = "enabled", matchIfMissing = true)
+public class DiagnosticsConfig {
+
+    private static final String DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor statementTimingPostProcessor(
+            @Value("${app.diagnostics.slow-statement:100ms}") Duration slowStatement) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE.equals(beanName)
+                        && !(bean instanceof StatementTimingDataSource)) {
+                    return new StatementTimingDataSource(dataSource, slowStatement);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public RequestDiagnosticsFilter requestDiagnosticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.diagnostics.server-timing:true}") boolean serverTiming,
+            @Value("${app.diagnostics.capture-statements:false}") boolean captureStatements,
+            @Value("${app.diagnostics.slow-request.statements:30}") int slowRequestStatements,
+            @Value("${app.diagnostics.slow-request.jdbc-time:250ms}") Duration slowRequestJdbcTime) {
+        return new RequestDiagnosticsFilter(
+                meterRegistry, serverTiming, captureStatements, slowRequestStatements, slowRequestJdbcTime);
+    }
+
+}
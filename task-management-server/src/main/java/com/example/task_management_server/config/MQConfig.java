@@ -15,7 +15,16 @@ import org.springframework.jms.support.converter.MessageType;
 @Configuration
 public class MQConfig {
 
+    // Point-to-point: each event is handled by exactly one node
     public static final String TASK_UPDATE_QUEUE = "task-updates";
+    public static final String TASK_PROJECTION_QUEUE = "task-projections";
+
+    // Publish/subscribe: each event reaches every node, for node-local state
+    public static final String TASK_EVENT_TOPIC = "task-events";
+
+    // Every task event carries its workspace id; queue messages are grouped by workspace (see MessageServiceImpl)
+    public static final String WORKSPACE_PROPERTY = "workspaceId";
+    public static final String GROUP_ID_PROPERTY = "JMSXGroupID";
 
     @Bean
     public JmsListenerContainerFactory<?> queueListenerFactory(
@@ -27,6 +36,19 @@ public class MQConfig {
         return factory;
     }
 
+    @Bean
+    public JmsListenerContainerFactory<?> topicListenerFactory(
+            @Qualifier("jmsConnectionFactory") ConnectionFactory connectionFactory,
+            DefaultJmsListenerContainerFactoryConfigurer configurer
+    ) {
+        DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setPubSubDomain(true);
+        // Each consumer of a non-shared subscription receives every message; one per node
+        factory.setConcurrency("1");
+        return factory;
+    }
+
     @Bean
     public MessageConverter jacksonJmsMessageConverter() {
         MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
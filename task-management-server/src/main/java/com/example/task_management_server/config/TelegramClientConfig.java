@@ -0,0 +1,31 @@
+package com.example.task_management_server.config;
+
+import com.example.task_management_server.client.CircuitBreaker;
+import com.example.task_management_server.client.TelegramClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TelegramClientConfig {
+
+    /**
+     * The read timeout bounds every call, including the getUpdates long poll, so it must be longer than
+     * {@code telegram.poller.long-poll-timeout}.
+     */
+    @Bean
+    public TelegramClient telegramClient(
+            @Value("${telegram.api.base-url:https://api.telegram.org}") String baseUrl,
+            @Value("${telegram.bot.token}") String botToken,
+            @Value("${telegram.client.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${telegram.client.read-timeout:10s}") Duration readTimeout,
+            @Value("${telegram.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${telegram.client.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                "telegram", failureThreshold, openDuration, TelegramClient::isUpstreamFailure);
+        return new TelegramClient(baseUrl, botToken, connectTimeout, readTimeout, circuitBreaker);
+    }
+
+}
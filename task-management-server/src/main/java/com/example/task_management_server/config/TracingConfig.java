@@ -0,0 +1,27 @@
+package com.example.task_management_server.config;
+
+import com.example.task_management_server.diagnostics.OtlpJsonFileSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes sampled spans to {@code app.tracing.file} as OTLP/JSON lines, for machines without a collector. Spring
+ * Boot hands every {@link SpanExporter} bean to its batch span processor, so this runs next to the OTLP exporter
+ * that {@code management.otlp.tracing.endpoint} enables.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tracing", name = "file")
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter otlpJsonFileSpanExporter(@Value("${app.tracing.file}") Path file) throws IOException {
+        return new OtlpJsonFileSpanExporter(file);
+    }
+
+}
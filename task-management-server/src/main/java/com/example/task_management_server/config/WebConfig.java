@@ -1,8 +1,13 @@
 package com.example.task_management_server.config;
 
 import com.example.task_management_server.interceptor.AuthInterceptor;
+import com.example.task_management_server.interceptor.CalendarFeedInterceptor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.lang.NonNull;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -13,15 +18,28 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthInterceptor authInterceptor;
+    private final CalendarFeedInterceptor calendarFeedInterceptor;
 
     @Autowired
-    public WebConfig(AuthInterceptor authInterceptor) {
+    public WebConfig(AuthInterceptor authInterceptor, CalendarFeedInterceptor calendarFeedInterceptor) {
         this.authInterceptor = authInterceptor;
+        this.calendarFeedInterceptor = calendarFeedInterceptor;
+    }
+
+    /**
+     * Serve {@code application/cbor} to clients that ask for it, using the same Jackson configuration as JSON.
+     * The schema is identical to the JSON one (see {@code TaskResponse}); only the encoding differs.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
     }
 
     @Override
     public void addInterceptors(@NonNull InterceptorRegistry registry) {
-        registry.addInterceptor(authInterceptor).excludePathPatterns("/auth/*");
+        // Calendar feeds are polled by calendar apps and authenticated by the signed key in their path
+        registry.addInterceptor(authInterceptor).excludePathPatterns("/auth/*", "/calendar/*");
+        registry.addInterceptor(calendarFeedInterceptor).addPathPatterns("/calendar/*");
     }
 
     @Override
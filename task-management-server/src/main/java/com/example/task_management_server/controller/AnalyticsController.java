@@ -0,0 +1,54 @@
+package com.example.task_management_server.controller;
+
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.BurndownResponse;
+import com.example.task_management_server.dto.ThroughputResponse;
+import com.example.task_management_server.exception.ResourceNotFoundException;
+import com.example.task_management_server.service.AnalyticsService;
+import com.example.task_management_server.service.WorkspaceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Daily task charts for the current workspace. {@code from} and {@code to} are inclusive ISO dates and default
+ * to the last 30 days.
+ */
+@RestController
+@RequestMapping("/analytics")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final WorkspaceService workspaceService;
+
+    @Autowired
+    public AnalyticsController(AnalyticsService analyticsService, WorkspaceService workspaceService) {
+        this.analyticsService = analyticsService;
+        this.workspaceService = workspaceService;
+    }
+
+    // Workspace totals, or one member's share with ?user=
+    @GetMapping("/throughput")
+    public ResponseEntity<ThroughputResponse> getThroughput(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestParam(name = "user", required = false) String username,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (username != null && !workspaceService.isMember(user.getWorkspaceId(), username)) {
+            throw new ResourceNotFoundException("User " + username + " is not a member of this workspace");
+        }
+        return ResponseEntity.ok(analyticsService.getThroughput(user.getWorkspaceId(), username, from, to));
+    }
+
+    @GetMapping("/burndown")
+    public ResponseEntity<BurndownResponse> getBurndown(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getBurndown(user.getWorkspaceId(), from, to));
+    }
+
+}
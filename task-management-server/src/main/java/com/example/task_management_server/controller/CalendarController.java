@@ -0,0 +1,147 @@
+package com.example.task_management_server.controller;
+
+import com.example.task_management_server.calendar.TaskCalendar;
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.CalendarFeedKey;
+import com.example.task_management_server.dto.CalendarResponse;
+import com.example.task_management_server.dto.TaskResponse;
+import com.example.task_management_server.service.CalendarService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Tasks by due date. {@code from} and {@code to} are inclusive ISO dates. Every response carries an ETag
+ * computed from the tasks in the window, and a matching {@code If-None-Match} is answered with
+ * {@code 304 Not Modified} before anything is rendered, so polling an unchanged calendar costs one index
+ * range scan and no body.
+ */
+@RestController
+public class CalendarController {
+
+    private static final String TEXT_CALENDAR_VALUE = "text/calendar";
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType(TEXT_CALENDAR_VALUE + ";charset=UTF-8");
+    // Clients may store responses but must revalidate them, which is cheap
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final CalendarService calendarService;
+
+    @Autowired
+    public CalendarController(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    @GetMapping("/tasks/calendar")
+    public ResponseEntity<CalendarResponse> getCalendar(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TaskCalendar calendar = calendarService.getCalendar(user.getWorkspaceId(), user.getUsername(), from, to);
+        // Weak: JSON and CBOR renderings of the same tasks are equivalent
+        String etag = "W/\"" + calendar.etag() + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(new CalendarResponse(
+                        calendar.from().toString(),
+                        calendar.to().toString(),
+                        calendar.tasks().stream().map(TaskResponse::from).toList()));
+    }
+
+    @GetMapping(value = "/tasks/calendar", produces = TEXT_CALENDAR_VALUE)
+    public ResponseEntity<String> getCalendarIcs(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ics(user.getWorkspaceId(), user.getUsername(), from, to, ifNoneMatch);
+    }
+
+    /**
+     * Path of the caller's subscribable ICS feed for the current workspace. The key in it stands in for the
+     * bearer token, which calendar apps cannot send, until the caller rotates it.
+     */
+    @GetMapping("/tasks/calendar/feed")
+    public ResponseEntity<Map<String, String>> getFeed(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        return feedPath(calendarService.getFeedKey(user.getWorkspaceId(), user.getUsername()));
+    }
+
+    /**
+     * Revoke every feed path issued to the caller for the current workspace, and return a new one.
+     */
+    @PostMapping("/tasks/calendar/feed")
+    public ResponseEntity<Map<String, String>> rotateFeed(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        return feedPath(calendarService.rotateFeedKey(user.getWorkspaceId(), user.getUsername()));
+    }
+
+    // Not behind AuthInterceptor (see WebConfig): CalendarFeedInterceptor checks the key and rate-limits the member
+    @GetMapping(value = "/calendar/{key}.ics", produces = TEXT_CALENDAR_VALUE)
+    public ResponseEntity<String> getFeedIcs(
+            @RequestAttribute(CalendarFeedKey.ATTRIBUTE) CalendarFeedKey feed,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ics(feed.workspaceId(), feed.username(), from, to, ifNoneMatch);
+    }
+
+    private static ResponseEntity<Map<String, String>> feedPath(String key) {
+        // The path is a credential: keep it out of caches
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(Map.of("path", "/calendar/" + key + ".ics"));
+    }
+
+    private ResponseEntity<String> ics(
+            long workspaceId, String username, LocalDate from, LocalDate to, String ifNoneMatch) {
+        TaskCalendar calendar = calendarService.getCalendar(workspaceId, username, from, to);
+        // Strong: the rendering is a pure function of the tasks
+        String etag = "\"ics-" + calendar.etag() + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(calendar.toIcs("Tasks - " + username, calendarService.getRefreshInterval()));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    // If-None-Match uses weak comparison: W/ prefixes are ignored on both sides
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || stripWeak(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+}
@@ -1,157 +1,252 @@
 package com.example.task_management_server.controller;
 
+import com.example.task_management_server.concurrency.OptimisticRetry;
+import com.example.task_management_server.dto.ArchivedTaskPageResponse;
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskEdit;
+import com.example.task_management_server.dto.TaskListResponse;
+import com.example.task_management_server.dto.TaskResponse;
 import com.example.task_management_server.exception.ForbiddenException;
 import com.example.task_management_server.exception.ResourceNotFoundException;
-import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.ArchivedTask;
 import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskBoardView;
+import com.example.task_management_server.service.TaskArchiveService;
+import com.example.task_management_server.service.TaskBoardViewService;
+import com.example.task_management_server.service.IdempotencyService;
+import com.example.task_management_server.service.TaskExportService;
 import com.example.task_management_server.service.TaskService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.Instant;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/tasks")
 public class TaskController {
 
+    private static final int MAX_ARCHIVE_PAGE_SIZE = 200;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    // Mutations sent with this header run at most once per key; retries get the stored response. Each attempt of
+    // an OptimisticRetry claims the key afresh, since a lost race releases it
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final TaskService taskService;
+    private final TaskBoardViewService taskBoardViewService;
+    private final TaskArchiveService taskArchiveService;
+    private final TaskExportService taskExportService;
+    private final IdempotencyService idempotencyService;
+    private final OptimisticRetry optimisticRetry;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(
+            TaskService taskService,
+            TaskBoardViewService taskBoardViewService,
+            TaskArchiveService taskArchiveService,
+            TaskExportService taskExportService,
+            IdempotencyService idempotencyService,
+            OptimisticRetry optimisticRetry) {
         this.taskService = taskService;
+        this.taskBoardViewService = taskBoardViewService;
+        this.taskArchiveService = taskArchiveService;
+        this.taskExportService = taskExportService;
+        this.idempotencyService = idempotencyService;
+        this.optimisticRetry = optimisticRetry;
     }
 
     @GetMapping
-    public ResponseEntity<?> getTasks(@RequestAttribute("username") String username) {
-        Set<Task> tasks;
-        try {
-            tasks = taskService.getTasksByUser(username);
-        } catch (IllegalArgumentException e) {
-            throw new ResourceNotFoundException(e.getMessage());
+    @Transactional(readOnly = true)
+    public ResponseEntity<TaskListResponse> getTasks(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        List<TaskBoardView> board = taskBoardViewService.getBoard(user.getWorkspaceId(), user.getUsername());
+        return ResponseEntity.ok(new TaskListResponse(board.stream().map(TaskResponse::from).toList()));
+    }
+
+    /**
+     * Stream every task on the caller's board as NDJSON. Compressed with gzip when the client's
+     * {@code Accept-Encoding} accepts it with a non-zero q-value. The body is written on an async thread, so nothing is buffered in memory.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String username = user.getUsername();
+        long workspaceId = user.getWorkspaceId();
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                taskExportService.exportTasks(workspaceId, username, compressed);
+                compressed.finish();
+            } else {
+                taskExportService.exportTasks(workspaceId, username, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("tasks-" + username + ".ndjson").build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
         }
+        return response.body(body);
+    }
 
-        return ResponseEntity.ok(Map.of("tasks", tasks.stream()
-                .map(task -> {
-                    Optional<String> description = Optional.ofNullable(task.getDescription());
-                    Optional<String> endDate = Optional.ofNullable(task.getEndDate()).map(Instant::toString);
-                    Optional<String> createdAt = Optional.ofNullable(task.getCreatedAt()).map(Instant::toString);
-                    List<String> assignees = Optional.ofNullable(task.getAssignees())
-                            .map(t -> t.stream().map(Account::getUsername).toList())
-                            .orElse(List.of());
-
-                    return Map.of(
-                            "id", task.getId(),
-                            "title", task.getTitle(),
-                            "description", description,
-                            "endDate", endDate,
-                            "createdAt", createdAt,
-                            "status", task.getStatus().name(),
-                            "owner", task.getOwner().getUsername(),
-                            "assignees", assignees
-                    );
-                }).toList()
-        ));
+    @GetMapping("/archive")
+    public ResponseEntity<ArchivedTaskPageResponse> getArchivedTasks(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestParam(name = "before", required = false) Long beforeId,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        List<ArchivedTask> archived = taskArchiveService.getArchive(
+                user.getWorkspaceId(), user.getUsername(), beforeId, Math.clamp(limit, 1, MAX_ARCHIVE_PAGE_SIZE));
+
+        Long nextBefore = archived.isEmpty() ? null : archived.get(archived.size() - 1).getId();
+        return ResponseEntity.ok(new ArchivedTaskPageResponse(
+                archived.stream().map(TaskResponse::from).toList(),
+                nextBefore));
     }
 
     @PostMapping
-    @Transactional
-    public ResponseEntity<?> createTask(
-            @RequestAttribute("username") String username,
+    public ResponseEntity<TaskResponse> createTask(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @Valid @RequestBody CreateTaskRequest req) {
+        return idempotencyService.execute(scope(user), idempotencyKey, "POST /tasks", req, TaskResponse.class, () -> {
+            Task saved;
+            try {
+                saved = taskService.createTask(
+                        user,
+                        req.title(),
+                        req.description(),
+                        req.endDate(),
+                        req.status(),
+                        req.assignees()
+                );
+            } catch (IllegalArgumentException e) {
+                throw new ResourceNotFoundException(e.getMessage());
+            }
 
-        Task saved;
-        try {
-            saved = taskService.createTask(
-                    username,
-                    req.title(),
-                    req.description(),
-                    req.endDate(),
-                    req.status(),
-                    req.assignees()
-            );
-        } catch (IllegalArgumentException e) {
-            throw new ResourceNotFoundException(e.getMessage());
-        }
-
-        Optional<String> description = Optional.ofNullable(saved.getDescription());
-        Optional<String> endDate = Optional.ofNullable(saved.getEndDate()).map(Instant::toString);
-        Optional<String> createdAt = Optional.ofNullable(saved.getCreatedAt()).map(Instant::toString);
-        List<String> assignees = Optional.ofNullable(saved.getAssignees())
-                .map(t -> t.stream().map(Account::getUsername).toList())
-                .orElse(List.of());
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
-                "id", saved.getId(),
-                "title", saved.getTitle(),
-                "description", description,
-                "endDate", endDate,
-                "createdAt", createdAt,
-                "owner", saved.getOwner().getUsername(),
-                "status", saved.getStatus().name(),
-                "assignees", assignees
-        ));
+            return ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.from(saved));
+        });
     }
 
+    /**
+     * Update a task. Send the {@code version} of the task as you read it to have changes made since then merged
+     * with yours; without it the edit is merged only with concurrent updates. Fields changed on both sides are
+     * answered with 409 and the current task.
+     */
     @PutMapping("/{id}")
-    @Transactional
-    public ResponseEntity<?> updateTask(
-            @RequestAttribute("username") String username,
+    public ResponseEntity<TaskResponse> updateTask(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @PathVariable("id") Long id,
             @RequestBody UpdateTaskRequest req) {
+        TaskEdit edit = new TaskEdit(
+                req.title(), req.description(), req.endDate(), req.status(), req.assignees(), req.version());
+        return optimisticRetry.run("update", () -> idempotencyService.execute(
+                scope(user), idempotencyKey, "PUT /tasks/" + id, req, TaskResponse.class, () -> {
+                    Optional<Task> savedOpt = taskService.updateTaskIfAllowed(user, id, edit);
 
-        Optional<Task> savedOpt = taskService.updateTaskIfAllowed(
-                username,
-                id,
-                req.title(),
-                req.description(),
-                req.endDate(),
-                req.status(),
-                req.assignees()
-        );
-
-        if (savedOpt.isEmpty()) {
-            throw new ForbiddenException("Only owner is allowed to update this task");
-        }
-        Task saved = savedOpt.get();
-
-        Optional<String> description = Optional.ofNullable(saved.getDescription());
-        Optional<String> createdAt = Optional.ofNullable(saved.getCreatedAt()).map(Instant::toString);
-        Optional<String> endDate = Optional.ofNullable(saved.getEndDate()).map(Instant::toString);
-        List<String> assignees = Optional.ofNullable(saved.getAssignees())
-                .map(t -> t.stream().map(Account::getUsername).toList())
-                .orElse(List.of());
-
-        return ResponseEntity.ok(Map.of(
-                "id", saved.getId(),
-                "createdAt", createdAt,
-                "title", saved.getTitle(),
-                "description", description,
-                "endDate", endDate,
-                "owner", saved.getOwner().getUsername(),
-                "status", saved.getStatus().name(),
-                "assignees", assignees)
-        );
+                    if (savedOpt.isEmpty()) {
+                        throw new ForbiddenException("Only owner is allowed to update this task");
+                    }
+
+                    return ResponseEntity.ok(TaskResponse.from(savedOpt.get()));
+                }));
+    }
+
+    /**
+     * Persist a drag-and-drop: place the task between two neighbouring cards, optionally in another column.
+     * Answers 409 when the neighbours have moved in the meantime; reload the board and retry.
+     */
+    @PutMapping("/{id}/position")
+    public ResponseEntity<TaskResponse> moveTask(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @PathVariable("id") Long id,
+            @RequestBody MoveTaskRequest req) {
+        return optimisticRetry.run("move", () -> idempotencyService.execute(
+                scope(user), idempotencyKey, "PUT /tasks/" + id + "/position", req, TaskResponse.class, () -> {
+                    Optional<Task> savedOpt = taskService.moveTaskIfAllowed(
+                            user,
+                            id,
+                            req.status(),
+                            req.afterId(),
+                            req.beforeId()
+                    );
+
+                    if (savedOpt.isEmpty()) {
+                        throw new ForbiddenException("Only owner and assignees are allowed to move this task");
+                    }
+
+                    return ResponseEntity.ok(TaskResponse.from(savedOpt.get()));
+                }));
     }
 
     @DeleteMapping("/{id}")
-    @Transactional
-    public ResponseEntity<?> deleteTask(
-            @RequestAttribute("username") String username,
+    public ResponseEntity<Void> deleteTask(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @PathVariable("id") Long id) {
-        boolean ok = taskService.deleteIfOwner(username, id);
-        if (!ok) {
-            throw new ForbiddenException("Only owner is allowed to update this task");
+        return optimisticRetry.run("delete", () -> idempotencyService.execute(
+                scope(user), idempotencyKey, "DELETE /tasks/" + id, null, Void.class, () -> {
+                    boolean ok = taskService.deleteIfOwner(user, id);
+                    if (!ok) {
+                        throw new ForbiddenException("Only owner is allowed to update this task");
+                    }
+                    return ResponseEntity.noContent().build();
+                }));
+    }
+
+    // gzip (or x-gzip) is acceptable when listed with q > 0, or when "*" is and gzip is not listed on its own
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
         }
-        return ResponseEntity.noContent().build();
+        Double q = gzip != null ? gzip : wildcard;
+        return q != null && q > 0;
+    }
+
+    // Keys are chosen by clients, so each user and workspace has its own key space
+    private static String scope(AuthenticatedUser user) {
+        return "tasks:" + user.getWorkspaceId() + ":" + user.getUsername();
     }
 
     public static record CreateTaskRequest(
@@ -162,12 +257,19 @@ public class TaskController {
             List<String> assignees) {
     }
 
+    public static record MoveTaskRequest(
+            String status,
+            Long afterId,
+            Long beforeId) {
+    }
+
     public static record UpdateTaskRequest(
             String title,
             String description,
             String endDate,
             String status,
-            List<String> assignees) {
+            List<String> assignees,
+            Long version) {
     }
 
 }
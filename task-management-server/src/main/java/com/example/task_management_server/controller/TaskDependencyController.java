@@ -0,0 +1,47 @@
+package com.example.task_management_server.controller;
+
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskDependenciesResponse;
+import com.example.task_management_server.service.TaskDependencyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/tasks/{id}")
+public class TaskDependencyController {
+
+    private final TaskDependencyService taskDependencyService;
+
+    @Autowired
+    public TaskDependencyController(TaskDependencyService taskDependencyService) {
+        this.taskDependencyService = taskDependencyService;
+    }
+
+    @GetMapping("/dependencies")
+    public ResponseEntity<TaskDependenciesResponse> getDependencies(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @PathVariable("id") Long id) {
+        return ResponseEntity.ok(taskDependencyService.getDependencies(user, id));
+    }
+
+    // Idempotent: adding an existing blocker or removing a missing one succeeds without a change
+    @PutMapping("/blockers/{blockerId}")
+    public ResponseEntity<TaskDependenciesResponse> addBlocker(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @PathVariable("id") Long id,
+            @PathVariable("blockerId") Long blockerId) {
+        taskDependencyService.addBlocker(user, id, blockerId);
+        return ResponseEntity.ok(taskDependencyService.getDependencies(user, id));
+    }
+
+    @DeleteMapping("/blockers/{blockerId}")
+    public ResponseEntity<TaskDependenciesResponse> removeBlocker(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @PathVariable("id") Long id,
+            @PathVariable("blockerId") Long blockerId) {
+        taskDependencyService.removeBlocker(user, id, blockerId);
+        return ResponseEntity.ok(taskDependencyService.getDependencies(user, id));
+    }
+
+}
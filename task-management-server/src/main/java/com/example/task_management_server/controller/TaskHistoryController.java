@@ -0,0 +1,45 @@
+package com.example.task_management_server.controller;
+
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskHistoryEntry;
+import com.example.task_management_server.dto.TaskHistoryPageResponse;
+import com.example.task_management_server.service.TaskHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+public class TaskHistoryController {
+
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 200;
+
+    private final TaskHistoryService taskHistoryService;
+
+    @Autowired
+    public TaskHistoryController(TaskHistoryService taskHistoryService) {
+        this.taskHistoryService = taskHistoryService;
+    }
+
+    @GetMapping("/tasks/{id}/history")
+    public ResponseEntity<TaskHistoryPageResponse> getTaskHistory(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @PathVariable("id") Long id) {
+        List<TaskHistoryEntry> entries = taskHistoryService.getTaskHistory(user.getUsername(), id);
+        return ResponseEntity.ok(new TaskHistoryPageResponse(entries, null));
+    }
+
+    @GetMapping("/activity")
+    public ResponseEntity<TaskHistoryPageResponse> getActivity(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @RequestParam(name = "before", required = false) Long beforeId,
+            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        List<TaskHistoryEntry> entries = taskHistoryService.getActivity(
+                user.getUsername(), beforeId, Math.clamp(limit, 1, MAX_ACTIVITY_PAGE_SIZE));
+
+        Long nextBefore = entries.isEmpty() ? null : entries.get(entries.size() - 1).id();
+        return ResponseEntity.ok(new TaskHistoryPageResponse(entries, nextBefore));
+    }
+
+}
@@ -1,7 +1,7 @@
 package com.example.task_management_server.controller;
 
+import com.example.task_management_server.dto.AuthenticatedUser;
 import com.example.task_management_server.model.Account;
-import com.example.task_management_server.repository.AccountRepository;
 import com.example.task_management_server.service.ChatbotService;
 import com.example.task_management_server.service.JwtService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,23 +21,22 @@ public class TelegramController {
     @Autowired
     private JwtService jwtService;
 
-    @Autowired
-    private AccountRepository accountRepository;
-
     @GetMapping("/key")
-    public ResponseEntity<Map<String, String>> getTelegramKey(@RequestAttribute("username") String username) {
-        Optional<Account> accountOpt = accountRepository.findById(username);
+    public ResponseEntity<Map<String, String>> getTelegramKey(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        Optional<Account> accountOpt = user.getAccount();
         if (accountOpt.isEmpty()) {
             return ResponseEntity.status(404).body(Map.of("key", ""));
         }
 
-        String telegramKey = accountOpt.get().getTelegramId() == null ? jwtService.generateTelegramKey(username) : null;
+        String telegramKey = accountOpt.get().getTelegramId() == null ? jwtService.generateTelegramKey(user.getUsername()) : null;
         return ResponseEntity.ok(Map.of("key", telegramKey != null ? telegramKey : ""));
     }
 
     @PostMapping("/summary")
-    public ResponseEntity<Map<String, String>> getBoardSummary(@RequestHeader("Authorization") String token) {
-        String summary = chatbotService.sendBoardSummary(token);
+    public ResponseEntity<Map<String, String>> getBoardSummary(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        String summary = chatbotService.sendBoardSummary(user);
         return ResponseEntity.ok(Map.of("summary", summary));
     }
 
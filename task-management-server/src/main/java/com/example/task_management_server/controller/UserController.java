@@ -1,11 +1,13 @@
 package com.example.task_management_server.controller;
 
-import com.example.task_management_server.model.Account;
-import com.example.task_management_server.service.AccountService;
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.service.WorkspaceService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,17 +18,19 @@ import java.util.Map;
 @RequestMapping("/usernames")
 public class UserController {
 
-    private final AccountService accountService;
+    private final WorkspaceService workspaceService;
 
     @Autowired
-    public UserController(AccountService accountService) {
-        this.accountService = accountService;
+    public UserController(WorkspaceService workspaceService) {
+        this.workspaceService = workspaceService;
     }
 
+    // Members of the caller's current workspace, i.e. everyone a task there can be assigned to
     @GetMapping
-    public ResponseEntity<?> getUsernames() {
-        List<Account> accounts = accountService.findAll();
-        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("usernames", accounts.stream().map(Account::getUsername)));
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getUsernames(@RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        List<String> usernames = workspaceService.getMemberUsernames(user.getWorkspaceId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("usernames", usernames));
     }
 
 }
@@ -0,0 +1,62 @@
+package com.example.task_management_server.controller;
+
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.WorkspaceListResponse;
+import com.example.task_management_server.dto.WorkspaceResponse;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.service.WorkspaceService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Workspaces the caller belongs to. Task endpoints act on the workspace named by the {@code X-Workspace-Id}
+ * header, or the default workspace without it.
+ */
+@RestController
+@RequestMapping("/workspaces")
+public class WorkspaceController {
+
+    private final WorkspaceService workspaceService;
+
+    @Autowired
+    public WorkspaceController(WorkspaceService workspaceService) {
+        this.workspaceService = workspaceService;
+    }
+
+    @GetMapping
+    public ResponseEntity<WorkspaceListResponse> getWorkspaces(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user) {
+        List<Workspace> workspaces = workspaceService.getWorkspaces(user.getUsername());
+        return ResponseEntity.ok(new WorkspaceListResponse(workspaces.stream().map(WorkspaceResponse::from).toList()));
+    }
+
+    @PostMapping
+    public ResponseEntity<WorkspaceResponse> createWorkspace(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @Valid @RequestBody CreateWorkspaceRequest req) {
+        Workspace workspace = workspaceService.createWorkspace(user, req.name().strip());
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkspaceResponse.from(workspace));
+    }
+
+    // Idempotent: adding an existing member succeeds without a change
+    @PutMapping("/{id}/members/{username}")
+    public ResponseEntity<Void> addMember(
+            @RequestAttribute(AuthenticatedUser.ATTRIBUTE) AuthenticatedUser user,
+            @PathVariable("id") Long id,
+            @PathVariable("username") String username) {
+        workspaceService.addMember(user, id, username);
+        return ResponseEntity.noContent().build();
+    }
+
+    public static record CreateWorkspaceRequest(
+            @NotBlank(message = "Name cannot be empty") @Size(max = 128, message = "Name must be at most 128 characters") String name) {
+    }
+
+}
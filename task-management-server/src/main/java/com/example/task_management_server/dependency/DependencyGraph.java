@@ -0,0 +1,335 @@
+package com.example.task_management_server.dependency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory "A blocks B" graph over task ids with a maintained transitive closure, so cycle checks and
+ * "what does this transitively block" queries are bit lookups instead of graph walks.
+ * <p>
+ * Tasks that share a dependency belong to the same component. Each task has a component-local index and a
+ * {@link BitSet} of the local indexes it reaches, so memory is quadratic in the size of the largest
+ * component rather than in the number of tasks. Adding an edge merges the two components and ORs the
+ * target's closure into every task that reaches the source. Removing an edge recomputes the closure of the
+ * source and its ancestors only. Components are not split when edges are removed; tasks without edges
+ * leave the graph, and their indexes are reclaimed once a component is mostly empty.
+ * <p>
+ * Thread-safe: queries share a read lock, changes take the write lock.
+ */
+public class DependencyGraph {
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int edgeCount;
+
+    /**
+     * Add "blocker blocks blocked".
+     *
+     * @return false if the edge already exists
+     * @throws IllegalArgumentException if the edge would close a cycle
+     */
+    public boolean addEdge(long blocker, long blocked) {
+        lock.writeLock().lock();
+        try {
+            if (reaches(blocked, blocker)) {
+                throw new IllegalArgumentException("Task " + blocker + " blocking task " + blocked + " would create a cycle");
+            }
+            Node from = nodes.computeIfAbsent(blocker, Node::new);
+            Node to = nodes.computeIfAbsent(blocked, Node::new);
+            if (from.successors.contains(to)) {
+                return false;
+            }
+            merge(from, to);
+
+            from.successors.add(to);
+            to.predecessors.add(from);
+            edgeCount++;
+
+            BitSet added = (BitSet) to.reach.clone();
+            added.set(to.local);
+            for (Node node : from.component.members) {
+                if (node != null && (node == from || node.reach.get(from.local))) {
+                    node.reach.or(added);
+                }
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false if the edge did not exist
+     */
+    public boolean removeEdge(long blocker, long blocked) {
+        lock.writeLock().lock();
+        try {
+            Node from = nodes.get(blocker);
+            Node to = nodes.get(blocked);
+            if (from == null || to == null || !from.successors.remove(to)) {
+                return false;
+            }
+            to.predecessors.remove(from);
+            edgeCount--;
+
+            recomputeAncestorsOf(from);
+            releaseIfIsolated(from);
+            releaseIfIsolated(to);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * True if adding "blocker blocks blocked" would close a cycle, i.e. {@code blocked} already blocks
+     * {@code blocker}, directly or transitively.
+     */
+    public boolean wouldCreateCycle(long blocker, long blocked) {
+        lock.readLock().lock();
+        try {
+            return reaches(blocked, blocker);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks blocked by {@code taskId}, directly or transitively.
+     */
+    public long[] blockedBy(long taskId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(taskId);
+            if (node == null) {
+                return new long[0];
+            }
+            return taskIds(node.component, node.reach);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks that block {@code taskId}, directly or transitively.
+     */
+    public long[] blockersOf(long taskId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(taskId);
+            if (node == null) {
+                return new long[0];
+            }
+            BitSet ancestors = new BitSet();
+            List<Node> members = node.component.members;
+            for (int i = 0; i < members.size(); i++) {
+                Node member = members.get(i);
+                if (member != null && member.reach.get(node.local)) {
+                    ancestors.set(i);
+                }
+            }
+            return taskIds(node.component, ancestors);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] directlyBlockedBy(long taskId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(taskId);
+            return node == null ? new long[0] : node.successors.stream().mapToLong(n -> n.taskId).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] directBlockersOf(long taskId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(taskId);
+            return node == null ? new long[0] : node.predecessors.stream().mapToLong(n -> n.taskId).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int taskCount() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int edgeCount() {
+        lock.readLock().lock();
+        try {
+            return edgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean reaches(long from, long to) {
+        if (from == to) {
+            return true;
+        }
+        Node source = nodes.get(from);
+        Node target = nodes.get(to);
+        return source != null && target != null
+                && source.component == target.component
+                && source.reach.get(target.local);
+    }
+
+    // Move the smaller component into the larger one, shifting its local indexes past the larger one's
+    private static void merge(Node a, Node b) {
+        if (a.component == b.component) {
+            return;
+        }
+        Component into = a.component.members.size() >= b.component.members.size() ? a.component : b.component;
+        Component from = into == a.component ? b.component : a.component;
+
+        int offset = into.members.size();
+        for (Node node : from.members) {
+            into.members.add(node);
+            if (node == null) {
+                continue;
+            }
+            node.component = into;
+            node.local += offset;
+            BitSet shifted = new BitSet(offset + node.reach.length());
+            for (int bit = node.reach.nextSetBit(0); bit >= 0; bit = node.reach.nextSetBit(bit + 1)) {
+                shifted.set(bit + offset);
+            }
+            node.reach = shifted;
+        }
+        into.free += from.free;
+    }
+
+    // Ancestors of the source of a removed edge may have reached tasks only through that edge. Everyone else's
+    // closure is unchanged, so only the ancestors are recomputed, successors first.
+    private static void recomputeAncestorsOf(Node source) {
+        List<Node> members = source.component.members;
+        BitSet affected = new BitSet();
+        affected.set(source.local);
+        for (Node node : members) {
+            if (node != null && node.reach.get(source.local)) {
+                affected.set(node.local);
+            }
+        }
+
+        // Iterative post-order DFS over the affected tasks; the graph is acyclic, so a task that has been
+        // entered is either finished or on the stack below the current one
+        BitSet entered = new BitSet();
+        Deque<Node> stack = new ArrayDeque<>();
+        Deque<Integer> nextSuccessor = new ArrayDeque<>();
+        for (int start = affected.nextSetBit(0); start >= 0; start = affected.nextSetBit(start + 1)) {
+            if (entered.get(start)) {
+                continue;
+            }
+            entered.set(start);
+            stack.push(members.get(start));
+            nextSuccessor.push(0);
+            while (!stack.isEmpty()) {
+                Node node = stack.peek();
+                int next = nextSuccessor.pop();
+                if (next < node.successors.size()) {
+                    nextSuccessor.push(next + 1);
+                    Node successor = node.successors.get(next);
+                    if (affected.get(successor.local) && !entered.get(successor.local)) {
+                        entered.set(successor.local);
+                        stack.push(successor);
+                        nextSuccessor.push(0);
+                    }
+                    continue;
+                }
+                stack.pop();
+                BitSet reach = new BitSet();
+                for (Node successor : node.successors) {
+                    reach.set(successor.local);
+                    reach.or(successor.reach);
+                }
+                node.reach = reach;
+            }
+        }
+    }
+
+    private void releaseIfIsolated(Node node) {
+        if (!node.successors.isEmpty() || !node.predecessors.isEmpty()) {
+            return;
+        }
+        nodes.remove(node.taskId);
+        Component component = node.component;
+        component.members.set(node.local, null);
+        component.free++;
+        if (component.free > 32 && component.free * 2 > component.members.size()) {
+            component.compact();
+        }
+    }
+
+    private static long[] taskIds(Component component, BitSet locals) {
+        long[] ids = new long[locals.cardinality()];
+        int i = 0;
+        for (int bit = locals.nextSetBit(0); bit >= 0; bit = locals.nextSetBit(bit + 1)) {
+            ids[i++] = component.members.get(bit).taskId;
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static final class Node {
+        final long taskId;
+        final List<Node> successors = new ArrayList<>(2);
+        final List<Node> predecessors = new ArrayList<>(2);
+        Component component;
+        int local;
+        BitSet reach = new BitSet();
+
+        Node(long taskId) {
+            this.taskId = taskId;
+            this.component = new Component();
+            this.component.members.add(this);
+        }
+    }
+
+    private static final class Component {
+        // Index is the local index; null where a task has left the graph
+        final List<Node> members = new ArrayList<>(1);
+        int free;
+
+        // Renumber the remaining tasks densely and translate their closures
+        void compact() {
+            int[] mapping = new int[members.size()];
+            List<Node> remaining = new ArrayList<>(members.size() - free);
+            for (int i = 0; i < members.size(); i++) {
+                Node node = members.get(i);
+                if (node != null) {
+                    mapping[i] = remaining.size();
+                    remaining.add(node);
+                }
+            }
+            for (Node node : remaining) {
+                BitSet reach = new BitSet(remaining.size());
+                for (int bit = node.reach.nextSetBit(0); bit >= 0; bit = node.reach.nextSetBit(bit + 1)) {
+                    reach.set(mapping[bit]);
+                }
+                node.reach = reach;
+                node.local = mapping[node.local];
+            }
+            members.clear();
+            members.addAll(remaining);
+            free = 0;
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.example.task_management_server.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends exported spans to a local file in the OTLP/JSON encoding, one {@code ExportTraceServiceRequest} per
+ * line: the format of the OpenTelemetry Collector's {@code file} exporter, which its {@code otlpjsonfile} receiver
+ * (and most trace viewers that import OTLP) read back. Called from the batch span processor's thread, never from
+ * request threads.
+ */
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(OtlpJsonFileSpanExporter.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path file;
+    private BufferedWriter writer;
+
+    public OtlpJsonFileSpanExporter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.file = file;
+        this.writer = Files.newBufferedWriter(
+                file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (writer == null) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            writer.write(objectMapper.writeValueAsString(request(spans)));
+            writer.newLine();
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            logger.warn("Could not write {} spans to {}: {}", spans.size(), file, e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        if (writer == null) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        } finally {
+            writer = null;
+        }
+    }
+
+    // resourceSpans -> scopeSpans -> spans, grouped like the OTLP exporters do
+    private ObjectNode request(Collection<SpanData> spans) {
+        Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> grouped = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            grouped.computeIfAbsent(span.getResource(), resource -> new LinkedHashMap<>())
+                    .computeIfAbsent(span.getInstrumentationScopeInfo(), scope -> new ArrayList<>())
+                    .add(span);
+        }
+
+        ObjectNode request = objectMapper.createObjectNode();
+        ArrayNode resourceSpans = request.putArray("resourceSpans");
+        grouped.forEach((resource, scopes) -> {
+            ObjectNode resourceNode = resourceSpans.addObject();
+            putAttributes(resourceNode.putObject("resource"), resource.getAttributes());
+            ArrayNode scopeSpans = resourceNode.putArray("scopeSpans");
+            scopes.forEach((scope, scopeSpanData) -> {
+                ObjectNode scopeNode = scopeSpans.addObject();
+                ObjectNode scopeInfo = scopeNode.putObject("scope").put("name", scope.getName());
+                if (scope.getVersion() != null) {
+                    scopeInfo.put("version", scope.getVersion());
+                }
+                ArrayNode spanNodes = scopeNode.putArray("spans");
+                scopeSpanData.forEach(span -> putSpan(spanNodes.addObject(), span));
+            });
+        });
+        return request;
+    }
+
+    private void putSpan(ObjectNode node, SpanData span) {
+        node.put("traceId", span.getTraceId());
+        node.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            node.put("parentSpanId", span.getParentSpanId());
+        }
+        node.put("name", span.getName());
+        // SpanKind and StatusCode are declared in the order of their OTLP enums, which start at 1 and 0
+        node.put("kind", span.getKind().ordinal() + 1);
+        node.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        node.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        putAttributes(node, span.getAttributes());
+        if (!span.getEvents().isEmpty()) {
+            ArrayNode events = node.putArray("events");
+            for (EventData event : span.getEvents()) {
+                ObjectNode eventNode = events.addObject()
+                        .put("timeUnixNano", Long.toString(event.getEpochNanos()))
+                        .put("name", event.getName());
+                putAttributes(eventNode, event.getAttributes());
+            }
+        }
+        ObjectNode status = node.putObject("status").put("code", span.getStatus().getStatusCode().ordinal());
+        if (!span.getStatus().getDescription().isEmpty()) {
+            status.put("message", span.getStatus().getDescription());
+        }
+    }
+
+    private void putAttributes(ObjectNode node, Attributes attributes) {
+        ArrayNode list = node.putArray("attributes");
+        attributes.forEach((key, value) -> {
+            ObjectNode attribute = list.addObject().put("key", key.getKey());
+            putValue(attribute.putObject("value"), key, value);
+        });
+    }
+
+    private static void putValue(ObjectNode node, AttributeKey<?> key, Object value) {
+        switch (key.getType()) {
+            case BOOLEAN -> node.put("boolValue", (Boolean) value);
+            // int64 values are strings in OTLP/JSON
+            case LONG -> node.put("intValue", value.toString());
+            case DOUBLE -> node.put("doubleValue", (Double) value);
+            case STRING_ARRAY, BOOLEAN_ARRAY, LONG_ARRAY, DOUBLE_ARRAY -> {
+                ArrayNode values = node.putObject("arrayValue").putArray("values");
+                for (Object element : (List<?>) value) {
+                    ObjectNode elementNode = values.addObject();
+                    switch (key.getType()) {
+                        case BOOLEAN_ARRAY -> elementNode.put("boolValue", (Boolean) element);
+                        case LONG_ARRAY -> elementNode.put("intValue", element.toString());
+                        case DOUBLE_ARRAY -> elementNode.put("doubleValue", (Double) element);
+                        default -> elementNode.put("stringValue", String.valueOf(element));
+                    }
+                }
+            }
+            default -> node.put("stringValue", String.valueOf(value));
+        }
+    }
+
+}
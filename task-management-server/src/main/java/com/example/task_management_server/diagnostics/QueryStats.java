@@ -0,0 +1,105 @@
+package com.example.task_management_server.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JDBC statements executed on behalf of one request: how many, the time spent in them and the slowest one.
+ * {@link StatementTimingDataSource} records into the stats started on the executing thread, so work handed to
+ * other threads (JMS listeners, streamed export bodies) is not counted. Stats may be nested; statements are
+ * counted by every enclosing one.
+ */
+public final class QueryStats {
+
+    /** Request attribute holding the stats of the request, see {@link RequestDiagnosticsFilter} */
+    public static final String ATTRIBUTE = QueryStats.class.getName();
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+    private static final int MAX_CAPTURED_STATEMENTS = 200;
+
+    private final QueryStats outer;
+    private final List<String> statements;
+    private int statementCount;
+    private long jdbcNanos;
+    private long slowestNanos;
+    private String slowestSql;
+
+    private QueryStats(QueryStats outer, boolean captureStatements) {
+        this.outer = outer;
+        this.statements = captureStatements ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Start collecting on the current thread until {@link #stop()}. With {@code captureStatements} the SQL of the
+     * first statements is kept as well, for test failures and debugging.
+     */
+    public static QueryStats start(boolean captureStatements) {
+        QueryStats stats = new QueryStats(CURRENT.get(), captureStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public void stop() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        jdbcNanos += nanos;
+        if (slowestSql == null || nanos > slowestNanos) {
+            slowestNanos = nanos;
+            slowestSql = sql;
+        }
+        if (statements != null && statements.size() < MAX_CAPTURED_STATEMENTS) {
+            statements.add(sql);
+        }
+        if (outer != null) {
+            outer.record(sql, nanos);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getSlowestNanos() {
+        return slowestNanos;
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+
+    /** SQL of the statements in execution order; empty unless started with {@code captureStatements} */
+    public List<String> getStatements() {
+        return statements == null ? List.of() : Collections.unmodifiableList(statements);
+    }
+
+    @Override
+    public String toString() {
+        String summary = String.format(Locale.ROOT, "%d statements, %.1f ms in JDBC",
+                statementCount, jdbcNanos / 1e6);
+        if (slowestSql == null) {
+            return summary;
+        }
+        return String.format(Locale.ROOT, "%s, slowest %.1f ms: %s", summary, slowestNanos / 1e6, slowestSql);
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.example.task_management_server.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the {@link QueryStats} of each request and reports them:
+ * <ul>
+ *     <li>as a {@code Server-Timing} response header ({@code db} with the statement count, {@code db-slowest} and
+ *     {@code total}, in milliseconds), added just before the response is committed, so it covers the work of
+ *     the handler but not statements run while the body is written</li>
+ *     <li>as metrics {@code request.jdbc.statements} and {@code request.jdbc.time}, tagged with the method and the
+ *     handler pattern like {@code http.server.requests}</li>
+ *     <li>as a warning with the slowest statement for requests over {@code slowRequestStatements} statements or
+ *     {@code slowRequestJdbcTime} in JDBC (a threshold of 0 turns the check off)</li>
+ * </ul>
+ * The stats stay available as the request attribute {@link QueryStats#ATTRIBUTE}.
+ */
+public class RequestDiagnosticsFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestDiagnosticsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTiming;
+    private final boolean captureStatements;
+    private final int slowRequestStatements;
+    private final long slowRequestJdbcNanos;
+
+    public RequestDiagnosticsFilter(
+            MeterRegistry meterRegistry,
+            boolean serverTiming,
+            boolean captureStatements,
+            int slowRequestStatements,
+            Duration slowRequestJdbcTime) {
+        this.meterRegistry = meterRegistry;
+        this.serverTiming = serverTiming;
+        this.captureStatements = captureStatements;
+        this.slowRequestStatements = slowRequestStatements;
+        this.slowRequestJdbcNanos = slowRequestJdbcTime.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        QueryStats stats = QueryStats.start(captureStatements);
+        request.setAttribute(QueryStats.ATTRIBUTE, stats);
+        ServerTimingResponse timedResponse = serverTiming ? new ServerTimingResponse(response, stats, started) : null;
+        try {
+            filterChain.doFilter(request, timedResponse != null ? timedResponse : response);
+        } finally {
+            stats.stop();
+            if (timedResponse != null) {
+                // Responses without a body (204, 304, 401 from the interceptor) are committed by the container
+                timedResponse.addServerTiming();
+            }
+            report(request, stats, System.nanoTime() - started);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats, long totalNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        DistributionSummary.builder("request.jdbc.statements")
+                .description("JDBC statements executed per request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("request.jdbc.time")
+                .description("Time per request spent executing JDBC statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        boolean tooManyStatements = slowRequestStatements > 0 && stats.getStatementCount() > slowRequestStatements;
+        boolean tooSlow = slowRequestJdbcNanos > 0 && stats.getJdbcNanos() > slowRequestJdbcNanos;
+        if (tooManyStatements || tooSlow) {
+            logger.warn("{} {} took {} ms: {}",
+                    request.getMethod(), request.getRequestURI(), totalNanos / 1_000_000, stats);
+        }
+    }
+
+    static String serverTiming(QueryStats stats, long totalNanos) {
+        StringBuilder header = new StringBuilder(String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\"",
+                stats.getJdbcNanos() / 1e6, stats.getStatementCount()));
+        if (stats.getStatementCount() > 0) {
+            header.append(String.format(Locale.ROOT, ", db-slowest;dur=%.1f", stats.getSlowestNanos() / 1e6));
+        }
+        return header.append(String.format(Locale.ROOT, ", total;dur=%.1f", totalNanos / 1e6)).toString();
+    }
+
+    // Adds the header when the response is about to be committed, which is the last moment headers can be set
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private final long started;
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, QueryStats stats, long started) {
+            super(response);
+            this.stats = stats;
+            this.started = started;
+        }
+
+        void addServerTiming() {
+            if (added || isCommitted()) {
+                return;
+            }
+            added = true;
+            setHeader(SERVER_TIMING, serverTiming(stats, System.nanoTime() - started));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.example.task_management_server.diagnostics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Times every statement executed through the connections of the wrapped data source and records it in the
+ * {@link QueryStats} of the executing thread. Each {@code execute*} call counts as one statement, so a JDBC batch
+ * counts once. Statements slower than {@code slowStatement} are logged with their SQL, with or without stats.
+ * <p>
+ * Connections and statements are wrapped in JDK proxies; {@code unwrap} reaches the driver's objects as before.
+ */
+public class StatementTimingDataSource extends DelegatingDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementTimingDataSource.class);
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final long slowStatementNanos;
+
+    public StatementTimingDataSource(DataSource target, Duration slowStatement) {
+        super(target);
+        this.slowStatementNanos = slowStatement.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // The bean replaces the pool it wraps, so it has to close the pool on shutdown as well
+    @Override
+    public void close() throws IOException {
+        if (obtainTargetDataSource() instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private void record(String sql, long nanos) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.record(sql, nanos);
+        }
+        if (slowStatementNanos > 0 && nanos >= slowStatementNanos) {
+            logger.warn("Slow statement ({} ms): {}", nanos / 1_000_000, sql);
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                // The return type is Statement, PreparedStatement or CallableStatement, the latter two with their SQL
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Connection connection;
+        private String batchSql;
+
+        StatementHandler(Statement target, String preparedSql, Connection connection) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                case "addBatch":
+                    if (args != null && args.length == 1 && args[0] instanceof String sql) {
+                        batchSql = sql;
+                    }
+                    return invokeTarget(target, method, args);
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s
+                    ? s
+                    : preparedSql != null ? preparedSql : batchSql;
+            long started = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                record(sql, System.nanoTime() - started);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(
+                StatementTimingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
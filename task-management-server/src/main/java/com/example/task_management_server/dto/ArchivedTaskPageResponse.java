@@ -0,0 +1,9 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+public record ArchivedTaskPageResponse(
+        List<TaskResponse> tasks,
+        Long nextBefore
+) {
+}
@@ -0,0 +1,50 @@
+package com.example.task_management_server.dto;
+
+import com.example.task_management_server.model.Account;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The caller of the current request, set by {@code AuthInterceptor} under {@link #ATTRIBUTE} once the token has
+ * been validated. The username comes straight from the token; the {@link Account} row is loaded on first use
+ * and then reused for the rest of the request, so endpoints that only need the name never touch the table.
+ * The workspace comes from the {@code X-Workspace-Id} header and has already been checked for membership.
+ * <p>
+ * Instances are confined to one request and are not thread-safe.
+ */
+public final class AuthenticatedUser {
+
+    public static final String ATTRIBUTE = "principal";
+
+    private final String username;
+    private final long workspaceId;
+    private final Function<String, Optional<Account>> accountLoader;
+    private Optional<Account> account;
+
+    public AuthenticatedUser(String username, long workspaceId, Function<String, Optional<Account>> accountLoader) {
+        this.username = username;
+        this.workspaceId = workspaceId;
+        this.accountLoader = accountLoader;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public Optional<Account> getAccount() {
+        if (account == null) {
+            account = accountLoader.apply(username);
+        }
+        return account;
+    }
+
+    public Account requireAccount() {
+        return getAccount().orElseThrow(() -> new IllegalArgumentException("user not found"));
+    }
+
+}
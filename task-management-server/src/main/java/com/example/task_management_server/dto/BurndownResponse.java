@@ -0,0 +1,16 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+/**
+ * Open (not DONE) tasks of a workspace at the end of each day of the range. {@code added} counts created and
+ * reopened tasks, {@code closed} completed ones and open tasks that were deleted.
+ */
+public record BurndownResponse(
+        String from,
+        String to,
+        List<Day> days
+) {
+    public record Day(String date, long open, int added, int closed) {
+    }
+}
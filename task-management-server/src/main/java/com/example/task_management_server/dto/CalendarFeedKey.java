@@ -0,0 +1,13 @@
+package com.example.task_management_server.dto;
+
+/**
+ * Whose calendar a feed key unlocks. Calendar apps cannot send a bearer token, so the signed key in the feed
+ * URL stands in for one; it only grants reading that member's calendar in that workspace, and only while
+ * {@code version} is the member's current calendar key version. Set by {@code CalendarFeedInterceptor} under
+ * {@link #ATTRIBUTE} once the key has been checked.
+ */
+public record CalendarFeedKey(String username, long workspaceId, long version) {
+
+    public static final String ATTRIBUTE = "calendarFeed";
+
+}
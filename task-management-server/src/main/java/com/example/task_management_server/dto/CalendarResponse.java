@@ -0,0 +1,13 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+/**
+ * Tasks due between {@code from} and {@code to} (inclusive dates), in due order.
+ */
+public record CalendarResponse(
+        String from,
+        String to,
+        List<TaskResponse> tasks
+) {
+}
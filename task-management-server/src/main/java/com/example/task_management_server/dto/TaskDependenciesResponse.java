@@ -0,0 +1,16 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+/**
+ * Blocking relationships of one task. {@code blockers} and {@code blocking} are direct; the {@code all*}
+ * lists include everything reachable through other tasks.
+ */
+public record TaskDependenciesResponse(
+        Long taskId,
+        List<Long> blockers,
+        List<Long> blocking,
+        List<Long> allBlockers,
+        List<Long> allBlocking
+) {
+}
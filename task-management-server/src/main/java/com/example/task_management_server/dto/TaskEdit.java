@@ -0,0 +1,73 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+/**
+ * The fields sent with {@code PUT /tasks/{id}}. A null title or status keeps the current value; description, end
+ * date and assignees are replaced as sent. {@code version} is the task version the client edited, if it sent one.
+ * <p>
+ * An update that loses a race to a concurrent one is retried, and the retry has to merge against the state the
+ * first attempt saw, so the first attempt stores it here as the {@linkplain #getBase() base}. Instances are
+ * confined to one request and are not thread-safe.
+ */
+public final class TaskEdit {
+
+    private final String title;
+    private final String description;
+    private final String endDate;
+    private final String status;
+    private final List<String> assignees;
+    private final Long version;
+    private TaskRecord base;
+
+    public TaskEdit(
+            String title,
+            String description,
+            String endDate,
+            String status,
+            List<String> assignees,
+            Long version) {
+        this.title = title;
+        this.description = description;
+        this.endDate = endDate;
+        this.status = status;
+        this.assignees = assignees;
+        this.version = version;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getEndDate() {
+        return endDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public List<String> getAssignees() {
+        return assignees;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * The state this edit is applied to, or null before the first attempt.
+     */
+    public TaskRecord getBase() {
+        return base;
+    }
+
+    public void setBase(TaskRecord base) {
+        this.base = base;
+    }
+
+}
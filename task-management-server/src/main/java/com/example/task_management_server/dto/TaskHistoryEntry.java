@@ -0,0 +1,54 @@
+package com.example.task_management_server.dto;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One task event from the history log. {@code id} is the log position and doubles as the paging cursor.
+ */
+public record TaskHistoryEntry(
+        long id,
+        Long taskId,
+        String type,
+        String occurredAt,
+        String summary,
+        Snapshot before,
+        Snapshot after
+) {
+
+    public static TaskHistoryEntry from(long id, String occurredAt, TaskMessage message) {
+        TaskRecord record = message.newTaskRecord() != null ? message.newTaskRecord() : message.oldTaskRecord();
+        return new TaskHistoryEntry(
+                id,
+                record.taskId(),
+                message.type().name(),
+                occurredAt,
+                message.changeDescription(),
+                Snapshot.from(message.oldTaskRecord()),
+                Snapshot.from(message.newTaskRecord()));
+    }
+
+    // TaskRecord without the Telegram chat ids, which are not shown to other users
+    public record Snapshot(
+            String title,
+            String status,
+            String owner,
+            String description,
+            String endDate,
+            List<String> assignees) {
+
+        static Snapshot from(TaskRecord record) {
+            if (record == null) {
+                return null;
+            }
+            return new Snapshot(
+                    record.title(),
+                    record.status().name(),
+                    record.owner(),
+                    record.description(),
+                    record.endDate(),
+                    Arrays.asList(record.assignees()));
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+public record TaskHistoryPageResponse(
+        List<TaskHistoryEntry> entries,
+        Long nextBefore
+) {
+}
@@ -1,74 +1,127 @@
 package com.example.task_management_server.dto;
 
+import com.example.task_management_server.model.Workspace;
+
 import java.io.Serializable;
-import java.util.*;
+import java.util.Arrays;
+import java.util.Objects;
 
+/**
+ * A task event. The notification text and its recipients are computed once, when the event is created, and
+ * travel with it, so consumers neither re-render the text nor rebuild the recipient set. Both were already part
+ * of the JSON written by earlier versions (as bean getters), so the wire format is unchanged.
+ *
+ * @param occurredAt        epoch millis at which the change was published; 0 for messages sent before this field
+ *                          existed
+ * @param changeDescription human-readable summary, used for notifications and the task history
+ * @param telegramIds       distinct chat ids of everyone involved before or after the change
+ */
 public record TaskMessage(
         TaskRecord oldTaskRecord,
         TaskRecord newTaskRecord,
-        MessageType type
+        MessageType type,
+        long occurredAt,
+        String changeDescription,
+        String[] telegramIds
 ) implements Serializable {
 
-    public String getChangeDescription() {
-        return switch (type) {
-            case CREATED -> String.format("📢 New task created: %s", newTaskRecord.title());
-            case UPDATED -> {
-                List<String> changes = new ArrayList<>();
-                if (!oldTaskRecord.title().equals(newTaskRecord.title())) {
-                    changes.add("Title");
-                }
-                if (!oldTaskRecord.status().equals(newTaskRecord.status())) {
-                    changes.add("Status");
-                }
-                if (!Objects.equals(oldTaskRecord.description(), newTaskRecord.description())) {
-                    changes.add("Description");
-                }
-                if (!Objects.equals(oldTaskRecord.assignees(), newTaskRecord.assignees())) {
-                    changes.add("Assignees");
-                }
-                if (!Objects.equals(oldTaskRecord.endDate(), newTaskRecord.endDate())) {
-                    changes.add("End date");
-                }
+    // Fills in whatever a message decoded from an older producer lacks; the text and ids of a decoded message
+    // are used as they are
+    public TaskMessage {
+        if (changeDescription == null) {
+            changeDescription = describe(type, oldTaskRecord, newTaskRecord);
+        }
+        telegramIds = telegramIds == null
+                ? recipients(type, oldTaskRecord, newTaskRecord)
+                : TaskRecord.distinctNonNull(telegramIds);
+    }
 
-                if (changes.isEmpty()) {
-                    yield "📝 Task updated with no field changes";
-                }
+    public TaskMessage(TaskRecord oldTaskRecord, TaskRecord newTaskRecord, MessageType type) {
+        this(oldTaskRecord, newTaskRecord, type, System.currentTimeMillis(), null, null);
+    }
+
+    /**
+     * Workspace of the task; the default workspace for messages sent before tasks had one.
+     */
+    public long workspaceId() {
+        TaskRecord record = newTaskRecord != null ? newTaskRecord : oldTaskRecord;
+        return record != null && record.workspaceId() != null ? record.workspaceId() : Workspace.DEFAULT_ID;
+    }
 
-                yield String.format("📝 Task '%s' updated: %s changed",
-                        newTaskRecord.title(),
-                        String.join(", ", changes));
+    /**
+     * True for updates that change a field users are notified about (title, status, description, assignees,
+     * end date).
+     */
+    public boolean hasImportantChanges() {
+        return type == MessageType.UPDATED
+                && (!Objects.equals(oldTaskRecord.title(), newTaskRecord.title())
+                || oldTaskRecord.status() != newTaskRecord.status()
+                || !Objects.equals(oldTaskRecord.description(), newTaskRecord.description())
+                || !Arrays.equals(oldTaskRecord.assignees(), newTaskRecord.assignees())
+                || !Objects.equals(oldTaskRecord.endDate(), newTaskRecord.endDate()));
+    }
+
+    private static String describe(MessageType type, TaskRecord oldRecord, TaskRecord newRecord) {
+        return switch (type) {
+            case CREATED -> "📢 New task created: " + newRecord.title();
+            case UPDATED -> {
+                String changes = changedFields(oldRecord, newRecord);
+                yield changes == null
+                        ? "📝 Task updated with no field changes"
+                        : "📝 Task '" + newRecord.title() + "' updated: " + changes + " changed";
             }
-            case DELETED -> String.format("🗑️ Task deleted: %s", oldTaskRecord.title());
+            case DELETED -> "🗑️ Task deleted: " + oldRecord.title();
         };
     }
 
-    public boolean hasImportantChanges() {
-        if (type != MessageType.UPDATED) {
-            return false;
+    // Comma-separated names of the changed fields, or null if none changed
+    private static String changedFields(TaskRecord oldRecord, TaskRecord newRecord) {
+        StringBuilder changes = null;
+        changes = appendIf(changes, !Objects.equals(oldRecord.title(), newRecord.title()), "Title");
+        changes = appendIf(changes, oldRecord.status() != newRecord.status(), "Status");
+        changes = appendIf(changes, !Objects.equals(oldRecord.description(), newRecord.description()), "Description");
+        changes = appendIf(changes, !Arrays.equals(oldRecord.assignees(), newRecord.assignees()), "Assignees");
+        changes = appendIf(changes, !Objects.equals(oldRecord.endDate(), newRecord.endDate()), "End date");
+        return changes != null ? changes.toString() : null;
+    }
+
+    private static StringBuilder appendIf(StringBuilder changes, boolean changed, String field) {
+        if (!changed) {
+            return changes;
         }
+        return changes == null ? new StringBuilder(field) : changes.append(", ").append(field);
+    }
 
-        return !oldTaskRecord.status().equals(newTaskRecord.status())
-                || !oldTaskRecord.title().equals(newTaskRecord.title())
-                || !Objects.equals(oldTaskRecord.description(), newTaskRecord.description())
-                || !Objects.equals(oldTaskRecord.endDate(), newTaskRecord.endDate())
-                || !Objects.equals(oldTaskRecord.assignees(), newTaskRecord.assignees());
+    private static String[] recipients(MessageType type, TaskRecord oldRecord, TaskRecord newRecord) {
+        return switch (type) {
+            case CREATED -> newRecord.telegramIds();
+            case UPDATED -> union(newRecord.telegramIds(), oldRecord.telegramIds());
+            case DELETED -> oldRecord.telegramIds();
+        };
     }
 
-    public Set<String> getTelegramIds() {
-        Set<String> users = new HashSet<>();
-        switch (type) {
-            case CREATED -> {
-                users.addAll(newTaskRecord.telegramIds());
-            }
-            case UPDATED -> {
-                users.addAll(newTaskRecord.telegramIds());
-                users.addAll(oldTaskRecord.telegramIds());
+    // Usually nobody joined or left the task, and the new record's array is returned as it is
+    private static String[] union(String[] current, String[] previous) {
+        String[] union = current;
+        int size = current.length;
+        for (String id : previous) {
+            if (!contains(union, size, id)) {
+                if (union == current) {
+                    union = Arrays.copyOf(current, current.length + previous.length);
+                }
+                union[size++] = id;
             }
-            case DELETED -> {
-                users.addAll(oldTaskRecord.telegramIds());
+        }
+        return union == current ? current : Arrays.copyOf(union, size);
+    }
+
+    private static boolean contains(String[] values, int length, String value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i].equals(value)) {
+                return true;
             }
         }
-        return users;
+        return false;
     }
 
     public enum MessageType {
@@ -4,42 +4,145 @@ import com.example.task_management_server.model.Account;
 import com.example.task_management_server.model.Task;
 
 import java.io.Serializable;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+/**
+ * Immutable state of a task as carried by task events. Built once per mutation, so it avoids collections:
+ * {@code assignees} is a sorted array of distinct, interned usernames (two records have the same assignees
+ * exactly when the arrays are {@link Arrays#equals equal}), {@code status} is the enum constant, and
+ * {@code telegramIds} holds the distinct, non-null chat ids of the owner and assignees. On the wire the arrays
+ * are JSON arrays and the status is its name, as before. {@code version} is the task's version after the change
+ * (before it, for deletions).
+ * <p>
+ * The arrays must not be modified.
+ */
 public record TaskRecord(
         Long taskId,
         String title,
-        String status,
+        Task.TaskStatus status,
         String owner,
         String description,
         String endDate,
-        Set<String> assignees,
-        Set<String> telegramIds
+        String createdAt,
+        String[] assignees,
+        String[] telegramIds,
+        String rank,
+        Long workspaceId,
+        Long version
 ) implements Serializable {
+
+    private static final String[] NONE = new String[0];
+
+    // Records decoded from older messages may hold unsorted assignees or null chat ids
+    public TaskRecord {
+        assignees = sortedDistinct(assignees);
+        telegramIds = distinctNonNull(telegramIds);
+    }
+
+    // Records published before tasks had a version
+    public TaskRecord(
+            Long taskId,
+            String title,
+            Task.TaskStatus status,
+            String owner,
+            String description,
+            String endDate,
+            String createdAt,
+            String[] assignees,
+            String[] telegramIds,
+            String rank,
+            Long workspaceId) {
+        this(taskId, title, status, owner, description, endDate, createdAt, assignees, telegramIds, rank,
+                workspaceId, null);
+    }
+
+    // Records published before tasks had a rank or a workspace
+    public TaskRecord(
+            Long taskId,
+            String title,
+            String status,
+            String owner,
+            String description,
+            String endDate,
+            String createdAt,
+            Set<String> assignees,
+            Set<String> telegramIds) {
+        this(taskId, title, Task.TaskStatus.valueOf(status), owner, description, endDate, createdAt,
+                assignees.toArray(NONE), telegramIds.toArray(NONE), null, null, null);
+    }
+
     public static TaskRecord build(Task task) {
+        Account owner = task.getOwner();
+        Set<Account> assigneeAccounts = task.getAssignees();
+
+        String[] assignees = new String[assigneeAccounts.size()];
+        String[] telegramIds = new String[assigneeAccounts.size() + 1];
+        int chats = 0;
+        if (owner.getTelegramId() != null) {
+            telegramIds[chats++] = owner.getTelegramId();
+        }
+        int i = 0;
+        for (Account assignee : assigneeAccounts) {
+            assignees[i++] = assignee.getUsername().intern();
+            String chatId = assignee.getTelegramId();
+            // Owners often assign themselves
+            if (chatId != null && indexOf(telegramIds, chats, chatId) < 0) {
+                telegramIds[chats++] = chatId;
+            }
+        }
+        Arrays.sort(assignees);
+
         return new TaskRecord(
                 task.getId(),
                 task.getTitle(),
-                task.getStatus().name(),
-                task.getOwner().getUsername(),
+                task.getStatus(),
+                owner.getUsername().intern(),
                 task.getDescription(),
                 task.getEndDate() != null ? task.getEndDate().toString() : null,
-                getUsernames(task.getAssignees()),
-                getTelegramIds(task.getOwner(), task.getAssignees())
+                task.getCreatedAt() != null ? task.getCreatedAt().toString() : null,
+                assignees,
+                chats == telegramIds.length ? telegramIds : Arrays.copyOf(telegramIds, chats),
+                task.getRank(),
+                task.getWorkspaceId(),
+                task.getVersion()
         );
     }
 
-    private static Set<String> getUsernames(Set<Account> assignees) {
-        return assignees.stream().map(Account::getUsername).collect(Collectors.toSet());
+    // Both return the argument itself when it is already canonical, which is the case for built records
+    private static String[] sortedDistinct(String[] values) {
+        if (values == null || values.length == 0) {
+            return NONE;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null || (i > 0 && values[i - 1].compareTo(values[i]) >= 0)) {
+                return Arrays.stream(values).filter(Objects::nonNull).distinct().sorted().toArray(String[]::new);
+            }
+        }
+        return values;
+    }
+
+    static String[] distinctNonNull(String[] values) {
+        if (values == null || values.length == 0) {
+            return NONE;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null || indexOf(values, i, values[i]) >= 0) {
+                return Arrays.stream(values).filter(Objects::nonNull).distinct().toArray(String[]::new);
+            }
+        }
+        return values;
     }
 
-    private static Set<String> getTelegramIds(Account owner, Set<Account> assignees) {
-        Set<String> ids = new HashSet<>();
-        ids.add(owner.getTelegramId());
-        ids.addAll(assignees.stream().map(Account::getTelegramId).collect(Collectors.toSet()));
-        return ids;
+    // Chat ids are few per task, so a linear scan beats building a set
+    private static int indexOf(String[] values, int length, String value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
 }
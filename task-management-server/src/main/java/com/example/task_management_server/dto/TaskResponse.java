@@ -0,0 +1,88 @@
+package com.example.task_management_server.dto;
+
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.ArchivedTask;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskBoardView;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Wire schema of a task for both JSON and CBOR responses. Field names and order are part of the contract
+ * with mobile clients; add new fields at the end and never rename or reorder existing ones.
+ */
+@JsonPropertyOrder({"id", "title", "description", "endDate", "createdAt", "status", "owner", "assignees", "archivedAt", "rank", "version"})
+public record TaskResponse(
+        Long id,
+        String title,
+        String description,
+        String endDate,
+        String createdAt,
+        String status,
+        String owner,
+        List<String> assignees,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String archivedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String rank,
+        // Send back as the version of an update to have concurrent changes merged, see PUT /tasks/{id}
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long version
+) {
+
+    public static TaskResponse from(Task task) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                format(task.getEndDate()),
+                format(task.getCreatedAt()),
+                task.getStatus().name(),
+                task.getOwner().getUsername(),
+                Optional.ofNullable(task.getAssignees())
+                        .map(t -> t.stream().map(Account::getUsername).sorted().toList())
+                        .orElse(List.of()),
+                null,
+                task.getRank(),
+                task.getVersion()
+        );
+    }
+
+    public static TaskResponse from(TaskBoardView task) {
+        return new TaskResponse(
+                task.getTaskId(),
+                task.getTitle(),
+                task.getDescription(),
+                format(task.getEndDate()),
+                format(task.getCreatedAt()),
+                task.getStatus().name(),
+                task.getOwner(),
+                task.getAssigneeList(),
+                null,
+                task.getRank(),
+                task.getVersion()
+        );
+    }
+
+    public static TaskResponse from(ArchivedTask task) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                format(task.getEndDate()),
+                format(task.getCreatedAt()),
+                task.getStatus().name(),
+                task.getOwner(),
+                task.getAssignees().stream().sorted().toList(),
+                format(task.getArchivedAt()),
+                null,
+                null
+        );
+    }
+
+    private static String format(Instant instant) {
+        return instant != null ? instant.toString() : null;
+    }
+
+}
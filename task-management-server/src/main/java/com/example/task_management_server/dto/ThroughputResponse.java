@@ -0,0 +1,17 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+/**
+ * Tasks created, started and completed per day, every day of the range included. {@code username} is null
+ * for workspace totals.
+ */
+public record ThroughputResponse(
+        String username,
+        String from,
+        String to,
+        List<Day> days
+) {
+    public record Day(String date, int created, int started, int completed) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.task_management_server.dto;
+
+import java.util.List;
+
+public record WorkspaceListResponse(
+        List<WorkspaceResponse> workspaces
+) {
+}
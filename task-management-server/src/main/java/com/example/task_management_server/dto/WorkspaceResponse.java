@@ -0,0 +1,19 @@
+package com.example.task_management_server.dto;
+
+import com.example.task_management_server.model.Workspace;
+
+public record WorkspaceResponse(
+        Long id,
+        String name,
+        String createdAt
+) {
+
+    public static WorkspaceResponse from(Workspace workspace) {
+        return new WorkspaceResponse(
+                workspace.getId(),
+                workspace.getName(),
+                workspace.getCreatedAt() != null ? workspace.getCreatedAt().toString() : null
+        );
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.example.task_management_server.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
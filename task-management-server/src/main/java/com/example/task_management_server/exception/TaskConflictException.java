@@ -0,0 +1,33 @@
+package com.example.task_management_server.exception;
+
+import com.example.task_management_server.dto.TaskResponse;
+
+import java.util.List;
+
+/**
+ * An edit changed fields that were also changed, to different values, since the version it was based on.
+ * Answered with 409 and the current state of the task, so the client can reapply its edit to it.
+ */
+public class TaskConflictException extends ConflictException {
+
+    private final List<String> fields;
+    private final TaskResponse current;
+
+    public TaskConflictException(List<String> fields, TaskResponse current) {
+        this("Task " + current.id() + " was changed concurrently: " + String.join(", ", fields), fields, current);
+    }
+
+    public TaskConflictException(String message, List<String> fields, TaskResponse current) {
+        super(message);
+        this.fields = fields;
+        this.current = current;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public TaskResponse getCurrent() {
+        return current;
+    }
+}
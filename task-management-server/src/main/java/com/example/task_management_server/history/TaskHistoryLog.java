@@ -0,0 +1,373 @@
+package com.example.task_management_server.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of task events, stored in fixed-size, memory-mapped segment files
+ * ({@code 00000000000000000001.log}, ...). Each record carries the task id and the usernames it concerns, so
+ * the in-memory indexes (task id and username to record positions) can be rebuilt by scanning the segments
+ * without decoding payloads.
+ * <p>
+ * Record layout:
+ * <pre>
+ *   int   length        bytes after the 8-byte header; written last, 0 marks the end of a segment
+ *   int   crc32c        over the body
+ *   long  timestamp     epoch millis
+ *   long  taskId
+ *   short userCount, then per user: short length + UTF-8 bytes
+ *   int   payloadLength, then the payload bytes
+ * </pre>
+ * The body and checksum are written before the length, so a record cut short by a crash reads as either
+ * "end of segment" (length still 0) or a checksum mismatch. {@link #open} stops at the first such record and
+ * zeroes the rest of the segment, which also discards anything after it.
+ * <p>
+ * Writes land in the page cache as soon as they are made, so they survive a process crash; {@link #flush()}
+ * forces the active segment to disk for OS crashes and power loss. A position is
+ * {@code segmentId << 32 | offset}, so positions increase in append order. One writer at a time; readers share
+ * a read lock with each other.
+ */
+public class TaskHistoryLog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryLog.class);
+
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private final Map<Long, Positions> byTask = new HashMap<>();
+    private final Map<String, Positions> byUser = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CRC32C crc = new CRC32C();
+
+    private TaskHistoryLog(Path directory, int segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    public record LogRecord(long position, long timestamp, long taskId, Set<String> users, byte[] payload) {
+    }
+
+    /**
+     * Open the log in {@code directory}, creating it if needed, and rebuild the indexes from the segments.
+     */
+    public static TaskHistoryLog open(Path directory, int segmentBytes) throws IOException {
+        Files.createDirectories(directory);
+        TaskHistoryLog log = new TaskHistoryLog(directory, segmentBytes);
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long id = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+            Segment segment = Segment.map(id, file, Math.max(segmentBytes, (int) Files.size(file)));
+            log.segments.put(id, segment);
+            log.recover(segment);
+        }
+        if (log.segments.isEmpty()) {
+            log.roll();
+        }
+        return log;
+    }
+
+    /**
+     * @return the position of the new record
+     * @throws IllegalArgumentException if the record cannot fit in an empty segment
+     */
+    public long append(long timestamp, long taskId, Collection<String> users, byte[] payload) throws IOException {
+        byte[][] names = users.stream().map(user -> user.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+        int bodyBytes = 8 + 8 + 2 + 4 + payload.length;
+        for (byte[] name : names) {
+            bodyBytes += 2 + name.length;
+        }
+        if (HEADER_BYTES + bodyBytes > segmentBytes) {
+            throw new IllegalArgumentException("History record of " + bodyBytes + " bytes exceeds the segment size");
+        }
+
+        lock.writeLock().lock();
+        try {
+            Segment segment = segments.lastEntry().getValue();
+            if (segment.writePosition + HEADER_BYTES + bodyBytes > segment.capacity()) {
+                segment = roll();
+            }
+
+            int start = segment.writePosition;
+            ByteBuffer body = segment.buffer.duplicate();
+            body.position(start + HEADER_BYTES);
+            body.putLong(timestamp).putLong(taskId).putShort((short) names.length);
+            for (byte[] name : names) {
+                body.putShort((short) name.length).put(name);
+            }
+            body.putInt(payload.length).put(payload);
+
+            crc.reset();
+            crc.update(segment.buffer.slice(start + HEADER_BYTES, bodyBytes));
+            segment.buffer.putInt(start + 4, (int) crc.getValue());
+            segment.buffer.putInt(start, bodyBytes);
+
+            segment.writePosition = start + HEADER_BYTES + bodyBytes;
+            segment.lastTimestamp = Math.max(segment.lastTimestamp, timestamp);
+
+            long position = position(segment.id, start);
+            index(position, taskId, users);
+            return position;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records for a task, oldest first.
+     */
+    public List<LogRecord> readTask(long taskId) {
+        lock.readLock().lock();
+        try {
+            Positions positions = byTask.get(taskId);
+            if (positions == null) {
+                return List.of();
+            }
+            List<LogRecord> records = new ArrayList<>(positions.size);
+            for (int i = 0; i < positions.size; i++) {
+                records.add(read(positions.values[i]));
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records concerning a user with a position below {@code before}, newest first.
+     */
+    public List<LogRecord> readUser(String username, long before, int limit) {
+        lock.readLock().lock();
+        try {
+            Positions positions = byUser.get(username);
+            if (positions == null) {
+                return List.of();
+            }
+            List<LogRecord> records = new ArrayList<>(Math.min(limit, positions.size));
+            for (int i = positions.lastBelow(before); i >= 0 && records.size() < limit; i--) {
+                records.add(read(positions.values[i]));
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Delete closed segments whose newest record is older than {@code cutoffMillis}. The active segment is
+     * always kept.
+     *
+     * @return number of segments deleted
+     */
+    public int deleteSegmentsOlderThan(long cutoffMillis) throws IOException {
+        lock.writeLock().lock();
+        try {
+            List<Segment> expired = new ArrayList<>();
+            for (Segment segment : segments.headMap(segments.lastKey()).values()) {
+                if (segment.lastTimestamp >= cutoffMillis) {
+                    break;
+                }
+                expired.add(segment);
+            }
+            if (expired.isEmpty()) {
+                return 0;
+            }
+
+            for (Segment segment : expired) {
+                segments.remove(segment.id);
+                segment.channel.close();
+                // The mapping is released when the buffer is collected; Linux allows deleting mapped files
+                Files.delete(segment.path);
+            }
+
+            long firstPosition = position(segments.firstKey(), 0);
+            LongPredicate retained = position -> position >= firstPosition;
+            byTask.values().removeIf(positions -> positions.retain(retained));
+            byUser.values().removeIf(positions -> positions.retain(retained));
+            return expired.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void flush() {
+        lock.readLock().lock();
+        try {
+            segments.lastEntry().getValue().buffer.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+                segment.channel.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Segment roll() throws IOException {
+        long id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        Path file = directory.resolve(String.format("%020d%s", id, SUFFIX));
+        Segment segment = Segment.map(id, file, segmentBytes);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void recover(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || offset + HEADER_BYTES + length > buffer.capacity() || !checksumMatches(buffer, offset, length)) {
+                logger.warn("Truncating history segment {} at offset {} (torn or corrupt record)", segment.path, offset);
+                for (int i = offset; i < buffer.capacity(); i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                buffer.force();
+                break;
+            }
+
+            LogRecord record = decode(buffer, position(segment.id, offset));
+            index(record.position(), record.taskId(), record.users());
+            segment.lastTimestamp = Math.max(segment.lastTimestamp, record.timestamp());
+            offset += HEADER_BYTES + length;
+        }
+        segment.writePosition = offset;
+    }
+
+    private boolean checksumMatches(MappedByteBuffer buffer, int offset, int length) {
+        crc.reset();
+        crc.update(buffer.slice(offset + HEADER_BYTES, length));
+        return (int) crc.getValue() == buffer.getInt(offset + 4);
+    }
+
+    private LogRecord read(long position) {
+        return decode(segments.get(position >>> 32).buffer, position);
+    }
+
+    private static LogRecord decode(MappedByteBuffer segmentBuffer, long position) {
+        ByteBuffer buffer = segmentBuffer.duplicate();
+        buffer.position((int) position + HEADER_BYTES);
+        long timestamp = buffer.getLong();
+        long taskId = buffer.getLong();
+        int userCount = buffer.getShort();
+        Set<String> users = new LinkedHashSet<>(userCount * 2);
+        for (int i = 0; i < userCount; i++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            users.add(new String(name, StandardCharsets.UTF_8));
+        }
+        byte[] payload = new byte[buffer.getInt()];
+        buffer.get(payload);
+        return new LogRecord(position, timestamp, taskId, users, payload);
+    }
+
+    private void index(long position, long taskId, Collection<String> users) {
+        byTask.computeIfAbsent(taskId, id -> new Positions()).add(position);
+        for (String user : users) {
+            byUser.computeIfAbsent(user, name -> new Positions()).add(position);
+        }
+    }
+
+    private static long position(long segmentId, int offset) {
+        return segmentId << 32 | offset;
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private long lastTimestamp;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment map(long id, Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(
+                    path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        int capacity() {
+            return buffer.capacity();
+        }
+    }
+
+    // Growable array of positions in ascending order (appends only ever add larger positions)
+    private static final class Positions {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        int lastBelow(long before) {
+            int index = Arrays.binarySearch(values, 0, size, before);
+            return (index >= 0 ? index : -index - 1) - 1;
+        }
+
+        // Keeps matching positions; returns true when nothing is left
+        boolean retain(LongPredicate keep) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (keep.test(values[i])) {
+                    values[kept++] = values[i];
+                }
+            }
+            size = kept;
+            return size == 0;
+        }
+    }
+
+}
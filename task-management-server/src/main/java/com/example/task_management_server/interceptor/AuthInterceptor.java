@@ -1,24 +1,44 @@
 package com.example.task_management_server.interceptor;
 
+import com.example.task_management_server.dto.AuthenticatedUser;
 import com.example.task_management_server.exception.AuthenticationException;
+import com.example.task_management_server.exception.BadRequestException;
+import com.example.task_management_server.exception.ForbiddenException;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.repository.AccountRepository;
 import com.example.task_management_server.service.JwtService;
+import com.example.task_management_server.service.WorkspaceService;
+import io.micrometer.common.KeyValue;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
-    ;
     private static final String AUTH_HEADER = "Authorization";
     private static final String AUTH_HEADER_PREFIX = "Bearer ";
+    private static final String WORKSPACE_HEADER = "X-Workspace-Id";
     private final JwtService jwtService;
+    private final RateLimiter rateLimiter;
+    private final AccountRepository accountRepository;
+    private final WorkspaceService workspaceService;
 
     @Autowired
-    public AuthInterceptor(JwtService jwtService) {
+    public AuthInterceptor(
+            JwtService jwtService,
+            RateLimiter rateLimiter,
+            AccountRepository accountRepository,
+            WorkspaceService workspaceService) {
         this.jwtService = jwtService;
+        this.rateLimiter = rateLimiter;
+        this.accountRepository = accountRepository;
+        this.workspaceService = workspaceService;
     }
 
     @Override
@@ -27,7 +47,8 @@ public class AuthInterceptor implements HandlerInterceptor {
             @NonNull HttpServletResponse response, @NonNull Object handler)
             throws AuthenticationException {
 
-        if (request.getMethod().equals("OPTIONS")) {
+        // Async dispatches (streamed responses) were authenticated and rate-limited on the original request
+        if (request.getMethod().equals("OPTIONS") || request.getDispatcherType() == DispatcherType.ASYNC) {
             return true;
         }
 
@@ -36,7 +57,14 @@ public class AuthInterceptor implements HandlerInterceptor {
             String token = authHeader.substring(AUTH_HEADER_PREFIX.length());
             String username = jwtService.validateToken(token);
             if (username != null) {
-                request.setAttribute("username", username);
+                checkRateLimit(request, username);
+                long workspaceId = resolveWorkspace(request, username);
+                // Lets traces of this request be found by workspace; task events carry it as a message property
+                ServerHttpObservationFilter.findObservationContext(request).ifPresent(context ->
+                        context.addHighCardinalityKeyValue(KeyValue.of("workspace.id", Long.toString(workspaceId))));
+                request.setAttribute(
+                        AuthenticatedUser.ATTRIBUTE,
+                        new AuthenticatedUser(username, workspaceId, accountRepository::findById));
                 return true;
             }
         }
@@ -44,4 +72,24 @@ public class AuthInterceptor implements HandlerInterceptor {
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         return false;
     }
+
+    private long resolveWorkspace(HttpServletRequest request, String username) {
+        String header = request.getHeader(WORKSPACE_HEADER);
+        long workspaceId;
+        try {
+            workspaceId = header == null || header.isBlank() ? Workspace.DEFAULT_ID : Long.parseLong(header.strip());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid " + WORKSPACE_HEADER + ": " + header);
+        }
+        // Same answer for missing and foreign workspaces, so ids cannot be probed
+        if (!workspaceService.isMember(workspaceId, username)) {
+            throw new ForbiddenException("Not a member of workspace " + workspaceId);
+        }
+        return workspaceId;
+    }
+
+    private void checkRateLimit(HttpServletRequest request, String username) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        rateLimiter.acquire(username, request.getMethod(), pattern != null ? pattern.toString() : "/**");
+    }
 }
\ No newline at end of file
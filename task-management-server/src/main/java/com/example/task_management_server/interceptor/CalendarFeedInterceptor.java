@@ -0,0 +1,64 @@
+package com.example.task_management_server.interceptor;
+
+import com.example.task_management_server.dto.CalendarFeedKey;
+import com.example.task_management_server.exception.ResourceNotFoundException;
+import com.example.task_management_server.service.CalendarService;
+import com.example.task_management_server.service.JwtService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Authenticates calendar feed requests ({@code /calendar/{key}.ics}), which calendar apps send without a bearer
+ * token, by the key in their path. The signature is checked first and the member's rate limit applied before the
+ * key version is read from the database, so a flood of requests for one feed costs no queries. Unknown, revoked
+ * and malformed keys get the same 404.
+ */
+@Component
+public class CalendarFeedInterceptor implements HandlerInterceptor {
+
+    private final JwtService jwtService;
+    private final CalendarService calendarService;
+    private final RateLimiter rateLimiter;
+
+    @Autowired
+    public CalendarFeedInterceptor(JwtService jwtService, CalendarService calendarService, RateLimiter rateLimiter) {
+        this.jwtService = jwtService;
+        this.calendarService = calendarService;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (request.getMethod().equals("OPTIONS")) {
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String key = variables != null ? variables.get("key") : null;
+        CalendarFeedKey feed = key != null ? jwtService.validateCalendarKey(key) : null;
+        if (feed == null) {
+            throw new ResourceNotFoundException("Unknown calendar feed");
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        rateLimiter.acquire(feed.username(), request.getMethod(), pattern != null ? pattern.toString() : "/**");
+
+        if (!calendarService.isCurrentFeedKey(feed)) {
+            throw new ResourceNotFoundException("Unknown calendar feed");
+        }
+        request.setAttribute(CalendarFeedKey.ATTRIBUTE, feed);
+        return true;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.example.task_management_server.interceptor;
+
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * One entry of {@code app.rate-limit.routes}: {@code [METHOD ]pattern:requests-per-second:burst}, for example
+ * {@code POST /tasks:5:10} or {@code /tasks/**:10:30}. The pattern is matched against the handler mapping
+ * pattern of the request (such as {@code /tasks/{id}}), not against the raw URI.
+ *
+ * @param method             HTTP method, or null for any method
+ * @param pattern            Ant-style pattern
+ * @param emissionNanos      time to refill one request
+ * @param burstToleranceNanos how far ahead of the steady rate a user may get, i.e. {@code burst * emissionNanos}
+ */
+public record RateLimitRule(String method, String pattern, long emissionNanos, long burstToleranceNanos) {
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    public static RateLimitRule parse(String rule) {
+        String[] parts = rule.trim().split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Rate limit rule must be '[METHOD ]pattern:rate:burst': " + rule);
+        }
+
+        String route = parts[0].trim();
+        String method = null;
+        int space = route.indexOf(' ');
+        if (space > 0) {
+            method = route.substring(0, space).toUpperCase();
+            route = route.substring(space + 1).trim();
+        }
+
+        double perSecond = Double.parseDouble(parts[1].trim());
+        int burst = Integer.parseInt(parts[2].trim());
+        if (perSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive: " + rule);
+        }
+
+        long emission = (long) (1_000_000_000L / perSecond);
+        return new RateLimitRule(method, route, emission, emission * burst);
+    }
+
+    public boolean matches(String requestMethod, String handlerPattern) {
+        return (method == null || method.equals(requestMethod)) && MATCHER.match(pattern, handlerPattern);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.example.task_management_server.interceptor;
+
+import com.example.task_management_server.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user, per-route token buckets, implemented as GCRA (generic cell rate algorithm): each bucket is a
+ * single "theoretical arrival time" that a request pushes forward by one emission interval, and a request is
+ * rejected when that would put it more than the burst tolerance ahead of now. A check is one lock-free read
+ * of the user's entry plus one CAS; there is no refill thread and no lock.
+ * <p>
+ * Each user has one {@link AtomicLongArray} with a slot per rule, stored in a {@link ConcurrentHashMap}
+ * (lock-free reads, per-bin locking only when a user is first seen). An entry whose slots are all in the past
+ * is indistinguishable from a full bucket, so {@link #evictIdle()} can drop it without changing any decision.
+ */
+@Component
+public class RateLimiter {
+
+    /**
+     * Result of {@link #resolveRoute} for requests that no rule applies to.
+     */
+    public static final int UNLIMITED = -1;
+
+    private final RateLimitRule[] rules;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+    // (method, handler pattern) -> rule index; bounded by the number of handler mappings
+    private final ConcurrentMap<String, Integer> routes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RateLimiter(@Value("${app.rate-limit.routes:}") List<String> rules) {
+        this(rules, nanoClock());
+    }
+
+    RateLimiter(List<String> rules, LongSupplier clock) {
+        this.rules = rules.stream()
+                .filter(rule -> !rule.isBlank())
+                .map(RateLimitRule::parse)
+                .toArray(RateLimitRule[]::new);
+        this.clock = clock;
+    }
+
+    /**
+     * @return index of the first rule matching the request, or {@link #UNLIMITED}
+     */
+    public int resolveRoute(String method, String handlerPattern) {
+        return routes.computeIfAbsent(method + ' ' + handlerPattern, key -> {
+            for (int i = 0; i < rules.length; i++) {
+                if (rules[i].matches(method, handlerPattern)) {
+                    return i;
+                }
+            }
+            return UNLIMITED;
+        });
+    }
+
+    /**
+     * Take one request from the user's bucket for the given route.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until it would be
+     */
+    public long tryAcquire(String username, int route) {
+        if (route == UNLIMITED) {
+            return 0;
+        }
+
+        AtomicLongArray arrivals = buckets.get(username);
+        if (arrivals == null) {
+            arrivals = buckets.computeIfAbsent(username, key -> new AtomicLongArray(rules.length));
+        }
+
+        RateLimitRule rule = rules[route];
+        long now = clock.getAsLong();
+        while (true) {
+            long current = arrivals.get(route);
+            long next = Math.max(current, now) + rule.emissionNanos();
+            long wait = next - now - rule.burstToleranceNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrivals.compareAndSet(route, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Take one request from the user's bucket for the rule matching the request's handler pattern.
+     *
+     * @throws TooManyRequestsException if the bucket is empty, with the seconds until it is not
+     */
+    public void acquire(String username, String method, String handlerPattern) {
+        long waitNanos = tryAcquire(username, resolveRoute(method, handlerPattern));
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TooManyRequestsException("Rate limit exceeded, retry in " + retryAfter + "s", retryAfter);
+        }
+    }
+
+    /**
+     * Drop users whose buckets have all refilled. A request racing with the removal may have its token
+     * "returned", which at worst lets one extra request through.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(arrivals -> {
+            for (int i = 0; i < arrivals.length(); i++) {
+                if (arrivals.get(i) > now) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    // Non-negative, so the zero-initialized slots of a new user always read as "in the past"
+    private static LongSupplier nanoClock() {
+        long origin = System.nanoTime();
+        return () -> System.nanoTime() - origin;
+    }
+
+}
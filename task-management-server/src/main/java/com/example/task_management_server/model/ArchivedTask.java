@@ -0,0 +1,57 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * A DONE task moved out of the hot {@code task} table by the archival job. Owner and assignees are kept
+ * as plain usernames; the archive has no foreign keys into {@code account}.
+ */
+@Entity
+@Table(name = "task_archive", schema = "public")
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String title;
+
+    @Column(columnDefinition = "text")
+    private String description;
+
+    private Instant endDate;
+
+    @Column(nullable = false, columnDefinition = "integer")
+    @Enumerated(EnumType.ORDINAL)
+    private Task.TaskStatus status;
+
+    @Column(name = "owner_id", nullable = false, length = 64)
+    private String owner;
+
+    @ElementCollection
+    @CollectionTable(name = "account_task_archive", schema = "public", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "user_id", length = 64)
+    private Set<String> assignees;
+
+}
@@ -0,0 +1,64 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A request made with an idempotency key: in progress while {@code status} is null, otherwise the response
+ * to replay for retries with the same key.
+ */
+@Entity
+@Table(name = "idempotency_key", schema = "public")
+@IdClass(IdempotencyRecord.Key.class)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class IdempotencyRecord {
+
+    @Id
+    @Column(nullable = false, length = 128)
+    private String scope;
+
+    @Id
+    @Column(name = "idem_key", nullable = false)
+    private String key;
+
+    // SHA-256 of the operation and request body, so a key reused for another request is detected
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    private Integer status;
+
+    @Column(columnDefinition = "text")
+    @ToString.Exclude
+    private String body;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public boolean isCompleted() {
+        return status != null;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String scope;
+        private String key;
+    }
+
+}
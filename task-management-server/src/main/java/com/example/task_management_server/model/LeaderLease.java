@@ -0,0 +1,31 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A named lease held by one server instance until {@code expiresAt}. Acquisition and renewal are single
+ * conditional updates, see {@link com.example.task_management_server.repository.LeaderLeaseRepository}.
+ */
+@Entity
+@Table(name = "leader_lease", schema = "public")
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class LeaderLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 128)
+    private String holder;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+}
@@ -3,6 +3,7 @@ package com.example.task_management_server.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 import java.util.Set;
@@ -20,10 +21,22 @@ public class Task {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Checked and incremented by every update, so concurrent read-modify-writes cannot overwrite each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "workspace_id", nullable = false, updatable = false)
+    private Long workspaceId;
+
     @Column(nullable = false, columnDefinition = "text")
     private String title;
 
@@ -36,6 +49,10 @@ public class Task {
     @Enumerated(EnumType.ORDINAL)
     private TaskStatus status;
 
+    // Position within the status column, see TaskRank
+    @Column(name = "sort_rank", nullable = false)
+    private String rank;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private Account owner;
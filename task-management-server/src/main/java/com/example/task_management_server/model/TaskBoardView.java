@@ -0,0 +1,116 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query-side projection of a task as it appears on one member's board. Owner and assignees are
+ * denormalized so board reads never join {@code task}, {@code account} and {@code account_task}.
+ */
+@Entity
+@Table(name = "task_board_view", schema = "public")
+@IdClass(TaskBoardView.Key.class)
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TaskBoardView {
+
+    private static final String ASSIGNEE_SEPARATOR = ",";
+
+    @Id
+    @Column(nullable = false, length = 64)
+    private String username;
+
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String title;
+
+    @Column(columnDefinition = "text")
+    private String description;
+
+    @Column(nullable = false, columnDefinition = "integer")
+    @Enumerated(EnumType.ORDINAL)
+    private Task.TaskStatus status;
+
+    @Column(name = "sort_rank", nullable = false)
+    private String rank;
+
+    private Instant endDate;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    // Usernames are alphanumeric, so a comma-separated list is unambiguous
+    @Column(nullable = false, columnDefinition = "text")
+    private String assignees;
+
+    // Version of the task this row shows (Task.version)
+    @Column(nullable = false)
+    private Long version;
+
+    public List<String> getAssigneeList() {
+        if (assignees == null || assignees.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(assignees.split(ASSIGNEE_SEPARATOR));
+    }
+
+    public boolean isAssignedTo(String username) {
+        return getAssigneeList().contains(username);
+    }
+
+    public boolean isOwnedBy(String username) {
+        return owner.equals(username);
+    }
+
+    public boolean hasSameContent(TaskBoardView other) {
+        return Objects.equals(workspaceId, other.workspaceId)
+                && Objects.equals(title, other.title)
+                && Objects.equals(description, other.description)
+                && status == other.status
+                && Objects.equals(rank, other.rank)
+                && Objects.equals(endDate, other.endDate)
+                && Objects.equals(createdAt, other.createdAt)
+                && Objects.equals(owner, other.owner)
+                && Objects.equals(assignees, other.assignees)
+                && Objects.equals(version, other.version);
+    }
+
+    // Task records hold their assignees sorted, which keeps the column comparable in consistency checks
+    public static String joinAssignees(String[] sortedUsernames) {
+        return String.join(ASSIGNEE_SEPARATOR, sortedUsernames);
+    }
+
+    public Key getKey() {
+        return new Key(username, taskId);
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String username;
+        private Long taskId;
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.example.task_management_server.model;
+
+/**
+ * One status column of one workspace's board; the unit that ranks are ordered and rebalanced within.
+ */
+public record TaskColumn(Long workspaceId, Task.TaskStatus status) {
+}
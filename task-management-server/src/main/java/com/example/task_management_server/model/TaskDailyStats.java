@@ -0,0 +1,73 @@
+package com.example.task_management_server.model;
+
+import com.example.task_management_server.analytics.DailyCounts;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * One day of task activity in a workspace, either for one member or, under {@link #WORKSPACE_TOTAL}, for the
+ * whole workspace.
+ */
+@Entity
+@Table(name = "task_daily_stats", schema = "public")
+@IdClass(TaskDailyStats.Key.class)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TaskDailyStats {
+
+    public static final String WORKSPACE_TOTAL = "";
+
+    @Id
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Id
+    @Column(nullable = false, length = 64)
+    private String username;
+
+    @Id
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private int created;
+
+    @Column(nullable = false)
+    private int started;
+
+    @Column(nullable = false)
+    private int completed;
+
+    @Column(nullable = false)
+    private int reopened;
+
+    @Column(nullable = false)
+    private int removed;
+
+    public static TaskDailyStats of(Long workspaceId, String username, LocalDate day, DailyCounts counts) {
+        return new TaskDailyStats(workspaceId, username, day, counts.created(), counts.started(),
+                counts.completed(), counts.reopened(), counts.removed());
+    }
+
+    public DailyCounts getCounts() {
+        return new DailyCounts(created, started, completed, reopened, removed);
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long workspaceId;
+        private String username;
+        private LocalDate day;
+    }
+
+}
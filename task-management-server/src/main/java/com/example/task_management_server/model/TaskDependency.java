@@ -0,0 +1,41 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * "blocker blocks blocked". Rows are only written through
+ * {@link com.example.task_management_server.service.TaskDependencyService}, which also records each change in
+ * {@link TaskDependencyChange} for the in-memory graphs of all nodes.
+ */
+@Entity
+@Table(name = "task_dependency", schema = "public")
+@IdClass(TaskDependency.Key.class)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TaskDependency {
+
+    @Id
+    @Column(name = "blocker_id", nullable = false)
+    private Long blockerId;
+
+    @Id
+    @Column(name = "blocked_id", nullable = false)
+    private Long blockedId;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long blockerId;
+        private Long blockedId;
+    }
+
+}
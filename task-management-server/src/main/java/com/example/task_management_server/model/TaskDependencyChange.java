@@ -0,0 +1,37 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One insert ({@code added}) or delete of a {@link TaskDependency}. Sequence numbers follow commit order
+ * because dependency writes are serialized on {@code task_dependency_lock}.
+ */
+@Entity
+@Table(name = "task_dependency_change", schema = "public")
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TaskDependencyChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "blocker_id", nullable = false)
+    private Long blockerId;
+
+    @Column(name = "blocked_id", nullable = false)
+    private Long blockedId;
+
+    @Column(nullable = false)
+    private boolean added;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+}
@@ -0,0 +1,128 @@
+package com.example.task_management_server.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fractional-index keys that order tasks within a status column. A key is a base-36 fraction written as a
+ * string of {@code [0-9a-z]} digits ("i" is 0.5), so comparing keys as strings compares the fractions. Keys
+ * never end in '0', which guarantees there is always another key between any two keys. Inserting between two
+ * cards therefore produces a new key without touching any other row. Keys only grow when cards are inserted
+ * repeatedly at the same spot; {@link #spread(int)} hands out short, evenly spaced keys again.
+ */
+public final class TaskRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final char LAST_DIGIT = DIGITS.charAt(BASE - 1);
+    private static final String MIDDLE = String.valueOf(DIGITS.charAt(BASE / 2));
+
+    private TaskRank() {
+    }
+
+    /**
+     * A key strictly between {@code lower} and {@code upper}. Either bound may be null for the start or end of
+     * the column.
+     *
+     * @throws IllegalArgumentException if a bound is not a valid key or {@code lower} is not below {@code upper}
+     */
+    public static String between(String lower, String upper) {
+        validate(lower);
+        validate(upper);
+        if (upper == null) {
+            return lower == null ? MIDDLE : after(lower);
+        }
+        String from = lower == null ? "" : lower;
+        if (from.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not below " + upper);
+        }
+        return midpoint(from, upper);
+    }
+
+    /**
+     * A short key greater than {@code rank}: its first digit below 'z' incremented, or "1" appended when every
+     * digit is 'z'. Appending card after card to a column adds a character about every 35 cards.
+     */
+    public static String after(String rank) {
+        if (rank == null) {
+            return MIDDLE;
+        }
+        for (int i = 0; i < rank.length(); i++) {
+            char digit = rank.charAt(i);
+            if (digit != LAST_DIGIT) {
+                return rank.substring(0, i) + DIGITS.charAt(DIGITS.indexOf(digit) + 1);
+            }
+        }
+        return rank + DIGITS.charAt(1);
+    }
+
+    /**
+     * {@code count} increasing keys of equal length, evenly spaced so that each gap still fits about 36
+     * further keys of the same length.
+     */
+    public static List<String> spread(int count) {
+        int length = 1;
+        long space = BASE;
+        while (space / (count + 1L) < BASE) {
+            length++;
+            space *= BASE;
+        }
+
+        List<String> ranks = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            ranks.add(encode(i * space / (count + 1L), length));
+        }
+        return ranks;
+    }
+
+    // Greenspan's midpoint: copy the common prefix, then pick a digit between the first differing digits,
+    // recursing into the lower key when they are adjacent
+    private static String midpoint(String lower, String upper) {
+        int common = 0;
+        while (common < upper.length() && digitAt(lower, common) == digitAt(upper, common)) {
+            common++;
+        }
+        if (common > 0) {
+            return upper.substring(0, common)
+                    + midpoint(lower.substring(Math.min(common, lower.length())), upper.substring(common));
+        }
+
+        int low = digitAt(lower, 0);
+        int high = digitAt(upper, 0);
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high) / 2));
+        }
+        if (upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + after(lower.length() > 1 ? lower.substring(1) : null);
+    }
+
+    private static int digitAt(String rank, int index) {
+        return index < rank.length() ? DIGITS.indexOf(rank.charAt(index)) : 0;
+    }
+
+    private static String encode(long value, int length) {
+        char[] digits = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int end = length;
+        while (digits[end - 1] == '0') {
+            end--;
+        }
+        return new String(digits, 0, end);
+    }
+
+    private static void validate(String rank) {
+        if (rank == null) {
+            return;
+        }
+        if (rank.isEmpty() || rank.charAt(rank.length() - 1) == '0'
+                || rank.chars().anyMatch(c -> DIGITS.indexOf(c) < 0)) {
+            throw new IllegalArgumentException("Invalid rank: " + rank);
+        }
+    }
+
+}
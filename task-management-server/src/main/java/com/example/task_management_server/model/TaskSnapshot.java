@@ -0,0 +1,48 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * The state of a task at one version, as the JSON of its {@link com.example.task_management_server.dto.TaskRecord}.
+ * Edits sent with an older version are merged against it.
+ */
+@Entity
+@Table(name = "task_snapshot", schema = "public")
+@IdClass(TaskSnapshot.Key.class)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TaskSnapshot {
+
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Id
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(columnDefinition = "text", nullable = false)
+    @ToString.Exclude
+    private String record;
+
+    @Column(name = "recorded_at", nullable = false)
+    private Instant recordedAt;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long taskId;
+        private Long version;
+    }
+
+}
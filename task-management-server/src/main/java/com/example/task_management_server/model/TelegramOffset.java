@@ -0,0 +1,25 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Last Telegram {@code update_id} handled by the poller, so a new leader resumes where the old one stopped.
+ */
+@Entity
+@Table(name = "telegram_offset", schema = "public")
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TelegramOffset {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "last_update_id", nullable = false)
+    private Long lastUpdateId;
+
+}
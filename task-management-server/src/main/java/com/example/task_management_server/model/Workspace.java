@@ -0,0 +1,34 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A team's partition of the board. Tasks belong to exactly one workspace and are only visible, assignable and
+ * rankable within it; accounts join workspaces through {@link WorkspaceMember}.
+ */
+@Entity
+@Table(name = "workspace", schema = "public")
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class Workspace {
+
+    // Created by V8 for the data that predates workspaces; every account joins it on registration
+    public static final long DEFAULT_ID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 128)
+    private String name;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+}
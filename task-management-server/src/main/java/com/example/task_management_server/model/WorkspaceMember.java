@@ -0,0 +1,44 @@
+package com.example.task_management_server.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Entity
+@Table(name = "workspace_member", schema = "public")
+@IdClass(WorkspaceMember.Key.class)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class WorkspaceMember {
+
+    @Id
+    @Column(name = "workspace_id", nullable = false)
+    private Long workspaceId;
+
+    @Id
+    @Column(nullable = false, length = 64)
+    private String username;
+
+    @Column(name = "joined_at", nullable = false)
+    private Instant joinedAt;
+
+    // Signed into the member's calendar feed key; incremented to revoke the keys issued so far
+    @Column(name = "calendar_key_version", nullable = false)
+    private long calendarKeyVersion;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long workspaceId;
+        private String username;
+    }
+
+}
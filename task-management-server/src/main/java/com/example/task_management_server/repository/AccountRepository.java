@@ -2,9 +2,21 @@ package com.example.task_management_server.repository;
 
 import com.example.task_management_server.model.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface AccountRepository extends JpaRepository<Account, String> {
     // findById from JPA
+
+    // Assignees must belong to the task's workspace; other usernames are dropped like unknown ones
+    @Query("select a from Account a where a.username in :usernames and exists "
+            + "(select m from WorkspaceMember m where m.workspaceId = :workspaceId and m.username = a.username)")
+    List<Account> findMembersByUsernameIn(
+            @Param("workspaceId") Long workspaceId,
+            @Param("usernames") Collection<String> usernames);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.ArchivedTask;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO task_archive "
+            + "(id, workspace_id, created_at, updated_at, archived_at, title, description, end_date, status, owner_id) "
+            + "SELECT id, workspace_id, created_at, updated_at, :archivedAt, title, description, end_date, status, owner_id "
+            + "FROM task WHERE id IN (:ids)", nativeQuery = true)
+    int copyTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO account_task_archive (task_id, user_id, workspace_id) "
+            + "SELECT at.task_id, at.user_id, t.workspace_id FROM account_task at JOIN task t ON t.id = at.task_id "
+            + "WHERE at.task_id IN (:ids)", nativeQuery = true)
+    int copyAssignees(@Param("ids") Collection<Long> ids);
+
+    // Newest first, keyset-paginated on id; each branch is served by its (workspace, user, id) index
+    @Query(value = "SELECT id FROM task_archive "
+            + "WHERE workspace_id = :workspaceId AND owner_id = :username AND id < :beforeId "
+            + "UNION "
+            + "SELECT task_id FROM account_task_archive "
+            + "WHERE workspace_id = :workspaceId AND user_id = :username AND task_id < :beforeId "
+            + "ORDER BY 1 DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByMember(
+            @Param("workspaceId") Long workspaceId,
+            @Param("username") String username,
+            @Param("beforeId") long beforeId,
+            @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = {"assignees"})
+    List<ArchivedTask> findByIdInOrderByIdDesc(Collection<Long> ids);
+
+}
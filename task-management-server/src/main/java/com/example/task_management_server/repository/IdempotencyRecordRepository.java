@@ -0,0 +1,63 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    // A plain insert (save() would merge into an existing row); fails on the primary key if the key is known
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_key "
+            + "(scope, idem_key, fingerprint, status, body, created_at, locked_until, expires_at) "
+            + "VALUES (:scope, :key, :fingerprint, :status, NULL, :now, :lockedUntil, :expiresAt)", nativeQuery = true)
+    int insert(
+            @Param("scope") String scope,
+            @Param("key") String key,
+            @Param("fingerprint") String fingerprint,
+            @Param("status") Integer status,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil,
+            @Param("expiresAt") Instant expiresAt);
+
+    // Take over a request whose node stopped before finishing it; only one caller sees an updated row
+    @Modifying
+    @Query("update IdempotencyRecord r set r.lockedUntil = :lockedUntil "
+            + "where r.scope = :scope and r.key = :key and r.status is null and r.lockedUntil < :now")
+    int takeOver(
+            @Param("scope") String scope,
+            @Param("key") String key,
+            @Param("now") Instant now,
+            @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("update IdempotencyRecord r set r.status = :status, r.body = :body, r.expiresAt = :expiresAt "
+            + "where r.scope = :scope and r.key = :key and r.status is null")
+    int complete(
+            @Param("scope") String scope,
+            @Param("key") String key,
+            @Param("status") int status,
+            @Param("body") String body,
+            @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.scope = :scope and r.key = :key and r.status is null")
+    int deletePending(@Param("scope") String scope, @Param("key") String key);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :cutoff")
+    int deleteExpiringBefore(@Param("cutoff") Instant cutoff);
+
+    // Read through idx_idempotency_key_expiry; the offset is the number of rows over the bound
+    @Query("select r.expiresAt from IdempotencyRecord r order by r.expiresAt")
+    List<Instant> findExpiries(Pageable pageable);
+
+}
@@ -0,0 +1,30 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.LeaderLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface LeaderLeaseRepository extends JpaRepository<LeaderLease, String> {
+
+    // Takes a free or expired lease, or extends one already held by the caller. Concurrent callers are
+    // serialized on the row lock, so at most one of them sees an updated row.
+    @Modifying
+    @Query("update LeaderLease l set l.holder = :holder, l.expiresAt = :expiresAt "
+            + "where l.name = :name and (l.holder = :holder or l.expiresAt < :now)")
+    int tryAcquire(
+            @Param("name") String name,
+            @Param("holder") String holder,
+            @Param("now") Instant now,
+            @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Query("update LeaderLease l set l.holder = null, l.expiresAt = :now where l.name = :name and l.holder = :holder")
+    int release(@Param("name") String name, @Param("holder") String holder, @Param("now") Instant now);
+
+}
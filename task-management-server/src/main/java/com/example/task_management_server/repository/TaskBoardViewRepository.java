@@ -0,0 +1,67 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.TaskBoardView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface TaskBoardViewRepository extends JpaRepository<TaskBoardView, TaskBoardView.Key> {
+
+    // Columns in status order, cards in rank order; served by idx_task_board_view_rank
+    List<TaskBoardView> findByWorkspaceIdAndUsernameOrderByStatusAscRankAscTaskIdAsc(Long workspaceId, String username);
+
+    // Calendar window in due order; a range scan on idx_task_board_view_due
+    @Query("select v from TaskBoardView v where v.workspaceId = :workspaceId and v.username = :username "
+            + "and v.endDate >= :from and v.endDate < :to order by v.endDate, v.taskId")
+    List<TaskBoardView> findDueBetween(
+            @Param("workspaceId") Long workspaceId,
+            @Param("username") String username,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    boolean existsByWorkspaceIdAndUsernameAndTaskId(Long workspaceId, String username, Long taskId);
+
+    List<TaskBoardView> findByTaskId(Long taskId);
+
+    List<TaskBoardView> findByTaskIdIn(Collection<Long> taskIds);
+
+    // Forward-only cursor for exports; the fetch size bounds how many rows the driver buffers at a time
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select v from TaskBoardView v where v.workspaceId = :workspaceId and v.username = :username "
+            + "order by v.taskId")
+    Stream<TaskBoardView> streamByUsername(@Param("workspaceId") Long workspaceId, @Param("username") String username);
+
+    @Modifying
+    @Query("update TaskBoardView v set v.rank = :rank, v.version = v.version + 1 where v.taskId = :taskId")
+    int updateRank(@Param("taskId") Long taskId, @Param("rank") String rank);
+
+    @Modifying
+    @Query("delete from TaskBoardView v where v.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("delete from TaskBoardView v where v.taskId in :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("select count(v) from TaskBoardView v where not exists (select t.id from Task t where t.id = v.taskId)")
+    long countOrphans();
+
+    @Modifying
+    @Query("delete from TaskBoardView v where not exists (select t.id from Task t where t.id = v.taskId)")
+    int deleteOrphans();
+
+}
@@ -0,0 +1,48 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.TaskDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskDailyStatsRepository extends JpaRepository<TaskDailyStats, TaskDailyStats.Key> {
+
+    // Range scan on the primary key: one row per day with activity
+    @Query("select s from TaskDailyStats s where s.workspaceId = :workspaceId and s.username = :username "
+            + "and s.day between :from and :to order by s.day")
+    List<TaskDailyStats> findRange(
+            @Param("workspaceId") Long workspaceId,
+            @Param("username") String username,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // Open tasks at the start of a day: every day before it, not every task
+    @Query("select coalesce(sum(s.created + s.reopened - s.completed - s.removed), 0) from TaskDailyStats s "
+            + "where s.workspaceId = :workspaceId and s.username = :username and s.day < :day")
+    long sumOpenBefore(
+            @Param("workspaceId") Long workspaceId,
+            @Param("username") String username,
+            @Param("day") LocalDate day);
+
+    @Modifying
+    @Query("update TaskDailyStats s set s.created = s.created + :created, s.started = s.started + :started, "
+            + "s.completed = s.completed + :completed, s.reopened = s.reopened + :reopened, "
+            + "s.removed = s.removed + :removed "
+            + "where s.workspaceId = :workspaceId and s.username = :username and s.day = :day")
+    int increment(
+            @Param("workspaceId") Long workspaceId,
+            @Param("username") String username,
+            @Param("day") LocalDate day,
+            @Param("created") int created,
+            @Param("started") int started,
+            @Param("completed") int completed,
+            @Param("reopened") int reopened,
+            @Param("removed") int removed);
+
+}
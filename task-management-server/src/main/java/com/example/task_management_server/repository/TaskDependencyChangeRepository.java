@@ -0,0 +1,27 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.TaskDependencyChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TaskDependencyChangeRepository extends JpaRepository<TaskDependencyChange, Long> {
+
+    @Query("select c from TaskDependencyChange c where c.seq > :afterSeq order by c.seq")
+    List<TaskDependencyChange> findAfter(@Param("afterSeq") long afterSeq, Pageable pageable);
+
+    @Query("select coalesce(max(c.seq), 0) from TaskDependencyChange c")
+    long findLastSeq();
+
+    @Modifying
+    @Query("delete from TaskDependencyChange c where c.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+
+}
@@ -0,0 +1,22 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, TaskDependency.Key> {
+
+    // Held until commit; serializes dependency writes across all instances
+    @Query(value = "SELECT name FROM task_dependency_lock WHERE name = 'task-dependency' FOR UPDATE", nativeQuery = true)
+    String lockWrites();
+
+    @Query("select d from TaskDependency d where d.blockerId in :taskIds or d.blockedId in :taskIds")
+    List<TaskDependency> findByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+}
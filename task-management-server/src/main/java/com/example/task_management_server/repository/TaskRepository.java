@@ -1,17 +1,70 @@
 package com.example.task_management_server.repository;
 
-import com.example.task_management_server.model.Account;
 import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskColumn;
 
-import java.util.Set;
+import jakarta.persistence.LockModeType;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    Set<Task> findByOwner(Account account);
-    Set<Task> findByAssignees(Account account);
+    Optional<Task> findByIdAndWorkspaceId(Long id, Long workspaceId);
+
+    // Keyset pagination over all tasks, used by batch jobs that walk the whole table
+    @Query("select t.id from Task t where t.id > :afterId order by t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"owner", "assignees"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
+    @Query("select max(t.rank) from Task t where t.workspaceId = :workspaceId and t.status = :status")
+    String findMaxRank(@Param("workspaceId") Long workspaceId, @Param("status") Task.TaskStatus status);
+
+    // Neighbours of a moved card are read under a lock so a move cannot interleave with a rebalance of the column
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from Task t where t.workspaceId = :workspaceId and t.id in :ids")
+    List<Task> lockByIdIn(@Param("workspaceId") Long workspaceId, @Param("ids") Collection<Long> ids);
+
+    // Columns whose keys have grown past maxLength or contain ties (concurrent appends can pick the same key)
+    @Query("select new com.example.task_management_server.model.TaskColumn(t.workspaceId, t.status) "
+            + "from Task t group by t.workspaceId, t.status "
+            + "having max(length(t.rank)) > :maxLength or count(distinct t.rank) < count(t)")
+    List<TaskColumn> findColumnsNeedingRebalance(@Param("maxLength") int maxLength);
+
+    @Query(value = "SELECT id FROM task WHERE workspace_id = :workspaceId AND status = :status "
+            + "ORDER BY sort_rank, id FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsInRankOrder(@Param("workspaceId") Long workspaceId, @Param("status") int status);
+
+    // Bumps the version so an edit that read the old rank retries instead of writing it back
+    @Modifying
+    @Query("update Task t set t.rank = :rank, t.version = t.version + 1 where t.id = :id")
+    int updateRank(@Param("id") Long id, @Param("rank") String rank);
+
+    // Rows are locked so a task cannot be reopened while its batch is being moved to the archive
+    @Query(value = "SELECT id FROM task WHERE status = :status AND updated_at < :cutoff AND id > :afterId "
+            + "ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockArchivableIds(
+            @Param("status") int status,
+            @Param("cutoff") Instant cutoff,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM account_task WHERE task_id IN (:ids)", nativeQuery = true)
+    int deleteAssigneesByTaskIdIn(@Param("ids") Collection<Long> ids);
 
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.TaskSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface TaskSnapshotRepository extends JpaRepository<TaskSnapshot, TaskSnapshot.Key> {
+
+    // A plain insert (save() would read the row first to merge into it)
+    @Modifying
+    @Query(value = "INSERT INTO task_snapshot (task_id, version, record, recorded_at) "
+            + "VALUES (:taskId, :version, :record, :recordedAt)", nativeQuery = true)
+    int insert(
+            @Param("taskId") Long taskId,
+            @Param("version") Long version,
+            @Param("record") String record,
+            @Param("recordedAt") Instant recordedAt);
+
+    // Newest version at or before the given one: a backward range scan on pk_task_snapshot that stops at one row
+    @Query(value = "SELECT record FROM task_snapshot WHERE task_id = :taskId AND version <= :version "
+            + "ORDER BY version DESC LIMIT 1", nativeQuery = true)
+    Optional<String> findRecordAtOrBefore(@Param("taskId") Long taskId, @Param("version") Long version);
+
+    @Modifying
+    @Query("delete from TaskSnapshot s where s.recordedAt < :cutoff")
+    int deleteRecordedBefore(@Param("cutoff") Instant cutoff);
+
+}
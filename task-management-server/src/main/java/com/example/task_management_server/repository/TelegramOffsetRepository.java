@@ -0,0 +1,27 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.TelegramOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface TelegramOffsetRepository extends JpaRepository<TelegramOffset, String> {
+
+    // Read-write transaction so the offset comes from the primary, never from a lagging replica
+    @Transactional
+    @Query("select o.lastUpdateId from TelegramOffset o where o.name = :name")
+    Optional<Long> findLastUpdateId(@Param("name") String name);
+
+    // Only moves forward, so a stale leader cannot rewind the offset
+    @Transactional
+    @Modifying
+    @Query("update TelegramOffset o set o.lastUpdateId = :updateId where o.name = :name and o.lastUpdateId < :updateId")
+    int advance(@Param("name") String name, @Param("updateId") long updateId);
+
+}
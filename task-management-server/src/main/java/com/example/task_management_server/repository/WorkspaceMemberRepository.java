@@ -0,0 +1,29 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.WorkspaceMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, WorkspaceMember.Key> {
+
+    // Primary key range scan: one workspace's members, never another's
+    @Query("select m.username from WorkspaceMember m where m.workspaceId = :workspaceId order by m.username")
+    List<String> findUsernamesByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    @Query("select m.calendarKeyVersion from WorkspaceMember m "
+            + "where m.workspaceId = :workspaceId and m.username = :username")
+    Optional<Long> findCalendarKeyVersion(@Param("workspaceId") Long workspaceId, @Param("username") String username);
+
+    @Modifying
+    @Query("update WorkspaceMember m set m.calendarKeyVersion = m.calendarKeyVersion + 1 "
+            + "where m.workspaceId = :workspaceId and m.username = :username")
+    int incrementCalendarKeyVersion(@Param("workspaceId") Long workspaceId, @Param("username") String username);
+
+}
@@ -0,0 +1,19 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.model.Workspace;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
+
+    // Served by idx_workspace_member_user
+    @Query("select w from Workspace w where w.id in "
+            + "(select m.workspaceId from WorkspaceMember m where m.username = :username) order by w.id")
+    List<Workspace> findByMember(@Param("username") String username);
+
+}
@@ -0,0 +1,58 @@
+package com.example.task_management_server.runner;
+
+import com.example.task_management_server.service.MessageListenerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * With {@code spring.main.lazy-initialization=true} (the {@code production} profile) the server starts serving
+ * as soon as the beans needed for that are ready. This creates everything else on a background thread
+ * afterwards, messaging first: creating the listener bean registers its {@code @JmsListener} endpoints, which
+ * starts the embedded Artemis broker and the listener containers. Requests that need a bean before then simply
+ * create it themselves; singleton creation is thread-safe.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.main.lazy-initialization", havingValue = "true")
+public class BackgroundInitializer implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackgroundInitializer.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableListableBeanFactory beanFactory = event.getApplicationContext().getBeanFactory();
+        Thread thread = new Thread(() -> initialize(beanFactory), "background-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void initialize(ConfigurableListableBeanFactory beanFactory) {
+        long started = System.nanoTime();
+        beanFactory.getBean(MessageListenerService.class);
+        logger.info("Messaging started in background after {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        int created = 0;
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (!definition.isSingleton() || definition.isAbstract() || !definition.isLazyInit()) {
+                continue;
+            }
+            try {
+                beanFactory.getBean(name);
+                created++;
+            } catch (RuntimeException e) {
+                logger.warn("Background initialization of bean '{}' failed: {}", name, e.getMessage());
+            }
+        }
+        logger.info("Background initialization of {} beans finished in {} ms",
+                created, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+}
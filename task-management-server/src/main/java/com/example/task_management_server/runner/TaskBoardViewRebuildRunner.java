@@ -0,0 +1,32 @@
+package com.example.task_management_server.runner;
+
+import com.example.task_management_server.service.TaskBoardViewService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recovery command for the board read model. Start the server with {@code --rebuild-board-view} to
+ * re-project every task; the view is also built automatically when it is empty but tasks exist
+ * (first start after the table was introduced).
+ */
+@Component
+public class TaskBoardViewRebuildRunner implements ApplicationRunner {
+
+    public static final String REBUILD_OPTION = "rebuild-board-view";
+
+    private final TaskBoardViewService taskBoardViewService;
+
+    @Autowired
+    public TaskBoardViewRebuildRunner(TaskBoardViewService taskBoardViewService) {
+        this.taskBoardViewService = taskBoardViewService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION) || taskBoardViewService.needsInitialBuild()) {
+            taskBoardViewService.rebuild();
+        }
+    }
+}
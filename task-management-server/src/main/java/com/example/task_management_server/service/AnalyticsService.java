@@ -0,0 +1,15 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.dto.BurndownResponse;
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.ThroughputResponse;
+
+import java.time.LocalDate;
+
+public interface AnalyticsService {
+    void apply(TaskMessage message);
+
+    ThroughputResponse getThroughput(long workspaceId, String username, LocalDate from, LocalDate to);
+
+    BurndownResponse getBurndown(long workspaceId, LocalDate from, LocalDate to);
+}
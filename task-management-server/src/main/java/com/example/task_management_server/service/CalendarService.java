@@ -0,0 +1,19 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.calendar.TaskCalendar;
+import com.example.task_management_server.dto.CalendarFeedKey;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+public interface CalendarService {
+    TaskCalendar getCalendar(long workspaceId, String username, LocalDate from, LocalDate to);
+
+    Duration getRefreshInterval();
+
+    String getFeedKey(long workspaceId, String username);
+
+    String rotateFeedKey(long workspaceId, String username);
+
+    boolean isCurrentFeedKey(CalendarFeedKey feed);
+}
@@ -1,5 +1,7 @@
 package com.example.task_management_server.service;
 
+import com.example.task_management_server.dto.AuthenticatedUser;
+
 public interface ChatbotService {
-    String sendBoardSummary(String token);
+    String sendBoardSummary(AuthenticatedUser user);
 }
@@ -0,0 +1,19 @@
+package com.example.task_management_server.service;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+    <T> ResponseEntity<T> execute(
+            String scope,
+            String key,
+            String operation,
+            Object request,
+            Class<T> bodyType,
+            Supplier<ResponseEntity<T>> action);
+
+    boolean runOnce(String scope, String key, Runnable action);
+
+    int evict();
+}
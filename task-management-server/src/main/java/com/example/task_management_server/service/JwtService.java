@@ -1,5 +1,7 @@
 package com.example.task_management_server.service;
 
+import com.example.task_management_server.dto.CalendarFeedKey;
+
 public interface JwtService {
     String generateToken(String username);
 
@@ -8,4 +10,8 @@ public interface JwtService {
     String generateTelegramKey(String username);
 
     String validateTelegramKey(String encTelegramKey);
+
+    String generateCalendarKey(CalendarFeedKey feed);
+
+    CalendarFeedKey validateCalendarKey(String calendarKey);
 }
@@ -0,0 +1,9 @@
+package com.example.task_management_server.service;
+
+public interface LeaderLeaseService {
+    boolean tryAcquire(String name);
+
+    void release(String name);
+
+    String getHolderId();
+}
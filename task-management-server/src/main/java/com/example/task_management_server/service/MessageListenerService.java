@@ -4,4 +4,8 @@ import com.example.task_management_server.dto.TaskMessage;
 
 public interface MessageListenerService {
     void handleTaskUpdate(TaskMessage message);
+
+    void handleProjectionUpdate(TaskMessage message);
+
+    void handleTaskBroadcast(TaskMessage message);
 }
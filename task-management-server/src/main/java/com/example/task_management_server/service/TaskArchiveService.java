@@ -0,0 +1,11 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.model.ArchivedTask;
+
+import java.util.List;
+
+public interface TaskArchiveService {
+    int archiveDoneTasks();
+
+    List<ArchivedTask> getArchive(long workspaceId, String username, Long beforeId, int limit);
+}
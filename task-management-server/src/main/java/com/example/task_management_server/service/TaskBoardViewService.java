@@ -0,0 +1,18 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.model.TaskBoardView;
+
+import java.util.List;
+
+public interface TaskBoardViewService {
+    List<TaskBoardView> getBoard(long workspaceId, String username);
+
+    void apply(TaskMessage message);
+
+    int checkConsistency(boolean repair);
+
+    void rebuild();
+
+    boolean needsInitialBuild();
+}
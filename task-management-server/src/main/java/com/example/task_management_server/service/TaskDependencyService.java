@@ -0,0 +1,18 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskDependenciesResponse;
+
+import java.util.Collection;
+
+public interface TaskDependencyService {
+    TaskDependenciesResponse getDependencies(AuthenticatedUser user, Long taskId);
+
+    void addBlocker(AuthenticatedUser user, Long taskId, Long blockerId);
+
+    void removeBlocker(AuthenticatedUser user, Long taskId, Long blockerId);
+
+    void removeTasks(Collection<Long> taskIds);
+
+    void refresh();
+}
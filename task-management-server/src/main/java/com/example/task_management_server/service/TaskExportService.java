@@ -0,0 +1,8 @@
+package com.example.task_management_server.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+    long exportTasks(long workspaceId, String username, OutputStream out) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.dto.TaskHistoryEntry;
+import com.example.task_management_server.dto.TaskMessage;
+
+import java.util.List;
+
+public interface TaskHistoryService {
+    void record(TaskMessage message);
+
+    List<TaskHistoryEntry> getTaskHistory(String username, Long taskId);
+
+    List<TaskHistoryEntry> getActivity(String username, Long beforeId, int limit);
+}
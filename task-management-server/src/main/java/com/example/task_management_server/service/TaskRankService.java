@@ -0,0 +1,9 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.model.TaskColumn;
+
+public interface TaskRankService {
+    int rebalanceColumns();
+
+    int rebalance(TaskColumn column);
+}
@@ -1,31 +1,30 @@
 package com.example.task_management_server.service;
 
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskEdit;
 import com.example.task_management_server.model.Task;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface TaskService {
-    Set<Task> getTasksByUser(String username);
-
     Task createTask(
-            String username,
+            AuthenticatedUser user,
             String title,
             String description,
             String endDateStr,
             String statusStr,
             List<String> assigneeUsernames);
 
-    Optional<Task> updateTaskIfAllowed(
-            String username,
+    Optional<Task> updateTaskIfAllowed(AuthenticatedUser user, Long id, TaskEdit edit);
+
+    Optional<Task> moveTaskIfAllowed(
+            AuthenticatedUser user,
             Long id,
-            String title,
-            String description,
-            String endDateStr,
             String statusStr,
-            List<String> assigneeUsernames);
+            Long afterId,
+            Long beforeId);
 
-    boolean deleteIfOwner(String username, Long id);
+    boolean deleteIfOwner(AuthenticatedUser user, Long id);
 
 }
@@ -0,0 +1,13 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.dto.TaskRecord;
+
+import java.util.Optional;
+
+public interface TaskSnapshotService {
+    void record(TaskRecord record);
+
+    Optional<TaskRecord> findAtOrBefore(long taskId, long version);
+
+    int deleteExpired();
+}
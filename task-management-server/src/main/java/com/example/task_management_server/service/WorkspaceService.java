@@ -0,0 +1,20 @@
+package com.example.task_management_server.service;
+
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.model.Workspace;
+
+import java.util.List;
+
+public interface WorkspaceService {
+    boolean isMember(long workspaceId, String username);
+
+    List<String> getMemberUsernames(long workspaceId);
+
+    List<Workspace> getWorkspaces(String username);
+
+    Workspace createWorkspace(AuthenticatedUser user, String name);
+
+    void addMember(AuthenticatedUser user, Long workspaceId, String username);
+
+    void joinDefaultWorkspace(String username);
+}
@@ -3,26 +3,27 @@ package com.example.task_management_server.service.impl;
 import com.example.task_management_server.model.Account;
 import com.example.task_management_server.repository.AccountRepository;
 import com.example.task_management_server.service.AccountService;
+import com.example.task_management_server.service.WorkspaceService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
+    private final WorkspaceService workspaceService;
     private final BCryptPasswordEncoder passwordHasher;
 
     @Autowired
-    public AccountServiceImpl(AccountRepository accountRepository) {
+    public AccountServiceImpl(AccountRepository accountRepository, WorkspaceService workspaceService) {
         this.accountRepository = accountRepository;
+        this.workspaceService = workspaceService;
         this.passwordHasher = new BCryptPasswordEncoder();
     }
 
     /**
-     * Register a new user with a BCrypt-hashed password.
+     * Register a new user with a BCrypt-hashed password. New users join the default workspace.
      *
      * @throws IllegalArgumentException if user already exists or input invalid
      */
@@ -48,6 +49,7 @@ public class AccountServiceImpl implements AccountService {
                 .password(hashed)
                 .build();
         account = accountRepository.save(account);
+        workspaceService.joinDefaultWorkspace(username);
 
         return account;
     }
@@ -61,7 +63,4 @@ public class AccountServiceImpl implements AccountService {
                 .orElse(null);
     }
 
-    public List<Account> findAll() {
-        return accountRepository.findAll();
-    }
 }
\ No newline at end of file
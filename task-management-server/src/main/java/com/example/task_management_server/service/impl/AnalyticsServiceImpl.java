@@ -0,0 +1,142 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.analytics.DailyCounts;
+import com.example.task_management_server.dto.BurndownResponse;
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.dto.ThroughputResponse;
+import com.example.task_management_server.exception.BadRequestException;
+import com.example.task_management_server.model.TaskDailyStats;
+import com.example.task_management_server.repository.TaskDailyStatsRepository;
+import com.example.task_management_server.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Throughput and burndown from the {@code task_daily_stats} rollup. Each task event adds its
+ * {@link DailyCounts} to the day it happened on, once for the workspace and once for each member involved:
+ * the owner is credited with creating the task, the assignees (or the owner of an unassigned task) with
+ * starting, completing and reopening it. Reads cost one row per day of the range, however many tasks there
+ * are.
+ * <p>
+ * Events arrive on the projection queue, which delivers each event to one consumer and, being grouped by
+ * workspace, never applies two events of the same workspace at once; so a day's row is inserted by at most
+ * one transaction. A failed event rolls back and is redelivered whole.
+ */
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final TaskDailyStatsRepository statsRepo;
+
+    @Value("${app.analytics.zone:UTC}")
+    private ZoneId zone;
+
+    @Value("${app.analytics.max-range-days:366}")
+    private int maxRangeDays;
+
+    public AnalyticsServiceImpl(TaskDailyStatsRepository statsRepo) {
+        this.statsRepo = statsRepo;
+    }
+
+    @Transactional
+    public void apply(TaskMessage message) {
+        DailyCounts counts = DailyCounts.of(message);
+        if (counts.isEmpty()) {
+            return;
+        }
+        long workspaceId = message.workspaceId();
+        long occurredAt = message.occurredAt() > 0 ? message.occurredAt() : System.currentTimeMillis();
+        LocalDate day = Instant.ofEpochMilli(occurredAt).atZone(zone).toLocalDate();
+
+        add(workspaceId, TaskDailyStats.WORKSPACE_TOTAL, day, counts);
+        memberShares(message, counts).forEach((username, share) -> add(workspaceId, username, day, share));
+    }
+
+    @Transactional(readOnly = true)
+    public ThroughputResponse getThroughput(long workspaceId, String username, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(zone);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        checkRange(start, end);
+
+        String key = username != null ? username : TaskDailyStats.WORKSPACE_TOTAL;
+        Map<LocalDate, DailyCounts> byDay = byDay(statsRepo.findRange(workspaceId, key, start, end));
+
+        List<ThroughputResponse.Day> days = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            DailyCounts counts = byDay.getOrDefault(day, DailyCounts.NONE);
+            days.add(new ThroughputResponse.Day(
+                    day.toString(), counts.created(), counts.started(), counts.completed()));
+        }
+        return new ThroughputResponse(username, start.toString(), end.toString(), days);
+    }
+
+    @Transactional(readOnly = true)
+    public BurndownResponse getBurndown(long workspaceId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(zone);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        checkRange(start, end);
+
+        String key = TaskDailyStats.WORKSPACE_TOTAL;
+        Map<LocalDate, DailyCounts> byDay = byDay(statsRepo.findRange(workspaceId, key, start, end));
+        long open = statsRepo.sumOpenBefore(workspaceId, key, start);
+
+        List<BurndownResponse.Day> days = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            DailyCounts counts = byDay.getOrDefault(day, DailyCounts.NONE);
+            open += counts.added() - counts.closed();
+            days.add(new BurndownResponse.Day(day.toString(), open, counts.added(), counts.closed()));
+        }
+        return new BurndownResponse(start.toString(), end.toString(), days);
+    }
+
+    private void add(long workspaceId, String username, LocalDate day, DailyCounts counts) {
+        int updated = statsRepo.increment(workspaceId, username, day,
+                counts.created(), counts.started(), counts.completed(), counts.reopened(), counts.removed());
+        if (updated == 0) {
+            statsRepo.save(TaskDailyStats.of(workspaceId, username, day, counts));
+        }
+    }
+
+    private static Map<String, DailyCounts> memberShares(TaskMessage message, DailyCounts counts) {
+        TaskRecord record = message.newTaskRecord() != null ? message.newTaskRecord() : message.oldTaskRecord();
+        Map<String, DailyCounts> shares = new LinkedHashMap<>();
+
+        DailyCounts creation = new DailyCounts(counts.created(), 0, 0, 0, 0);
+        if (!creation.isEmpty()) {
+            shares.put(record.owner(), creation);
+        }
+        DailyCounts progress = new DailyCounts(0, counts.started(), counts.completed(), counts.reopened(), 0);
+        if (!progress.isEmpty()) {
+            String[] workers = record.assignees().length > 0 ? record.assignees() : new String[]{record.owner()};
+            for (String username : workers) {
+                shares.merge(username, progress, DailyCounts::plus);
+            }
+        }
+        return shares;
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BadRequestException("Date range must be at most " + maxRangeDays + " days");
+        }
+    }
+
+    private static Map<LocalDate, DailyCounts> byDay(List<TaskDailyStats> rows) {
+        Map<LocalDate, DailyCounts> byDay = new HashMap<>();
+        for (TaskDailyStats row : rows) {
+            byDay.put(row.getDay(), row.getCounts());
+        }
+        return byDay;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.calendar.TaskCalendar;
+import com.example.task_management_server.dto.CalendarFeedKey;
+import com.example.task_management_server.exception.BadRequestException;
+import com.example.task_management_server.exception.ForbiddenException;
+import com.example.task_management_server.model.TaskBoardView;
+import com.example.task_management_server.repository.TaskBoardViewRepository;
+import com.example.task_management_server.repository.WorkspaceMemberRepository;
+import com.example.task_management_server.service.CalendarService;
+import com.example.task_management_server.service.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Tasks by due date, read from the member's board rows through the {@code (workspace, user, end_date)} index,
+ * so a window costs the tasks in it rather than the whole board. Dates are calendar days in
+ * {@code app.calendar.zone}; without a window, the past week and the next 90 days are returned.
+ * <p>
+ * Feed keys (see {@link CalendarFeedKey}) are signed with the member's calendar key version. Rotating increments
+ * it, so every key issued before stops working at once, on every node: each feed request reads the version back.
+ */
+@Service
+public class CalendarServiceImpl implements CalendarService {
+
+    private final TaskBoardViewRepository viewRepo;
+    private final WorkspaceMemberRepository memberRepo;
+    private final JwtService jwtService;
+
+    @Value("${app.calendar.zone:UTC}")
+    private ZoneId zone;
+
+    @Value("${app.calendar.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Value("${app.calendar.refresh-interval:15m}")
+    private Duration refreshInterval;
+
+    public CalendarServiceImpl(
+            TaskBoardViewRepository viewRepo,
+            WorkspaceMemberRepository memberRepo,
+            JwtService jwtService) {
+        this.viewRepo = viewRepo;
+        this.memberRepo = memberRepo;
+        this.jwtService = jwtService;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskCalendar getCalendar(long workspaceId, String username, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(zone);
+        LocalDate start = from != null ? from : today.minusDays(7);
+        LocalDate end = to != null ? to : start.plusDays(97);
+        if (end.isBefore(start)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new BadRequestException("Date range must be at most " + maxRangeDays + " days");
+        }
+
+        List<TaskBoardView> tasks = viewRepo.findDueBetween(workspaceId, username,
+                start.atStartOfDay(zone).toInstant(), end.plusDays(1).atStartOfDay(zone).toInstant());
+        return new TaskCalendar(start, end, tasks);
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    @Transactional(readOnly = true)
+    public String getFeedKey(long workspaceId, String username) {
+        long version = memberRepo.findCalendarKeyVersion(workspaceId, username)
+                .orElseThrow(() -> new ForbiddenException("Not a member of workspace " + workspaceId));
+        return jwtService.generateCalendarKey(new CalendarFeedKey(username, workspaceId, version));
+    }
+
+    @Transactional
+    public String rotateFeedKey(long workspaceId, String username) {
+        if (memberRepo.incrementCalendarKeyVersion(workspaceId, username) != 1) {
+            throw new ForbiddenException("Not a member of workspace " + workspaceId);
+        }
+        return getFeedKey(workspaceId, username);
+    }
+
+    // False as well once the member has left the workspace
+    @Transactional(readOnly = true)
+    public boolean isCurrentFeedKey(CalendarFeedKey feed) {
+        return memberRepo.findCalendarKeyVersion(feed.workspaceId(), feed.username())
+                .map(version -> version == feed.version())
+                .orElse(false);
+    }
+
+}
@@ -1,10 +1,11 @@
 package com.example.task_management_server.service.impl;
 
+import com.example.task_management_server.dto.AuthenticatedUser;
 import com.example.task_management_server.model.Account;
 import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskBoardView;
 import com.example.task_management_server.service.ChatbotService;
-import com.example.task_management_server.service.JwtService;
-import com.example.task_management_server.service.TaskService;
+import com.example.task_management_server.service.TaskBoardViewService;
 import com.example.task_management_server.service.TelegramService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -13,8 +14,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 @Service
 public class ChatbotServiceImpl implements ChatbotService {
@@ -23,10 +24,7 @@ public class ChatbotServiceImpl implements ChatbotService {
             .withZone(ZoneId.systemDefault());
 
     @Autowired
-    private TaskService taskService;
-
-    @Autowired
-    private JwtService jwtService;
+    private TaskBoardViewService taskBoardViewService;
 
     @Autowired
     private TelegramService telegramService;
@@ -35,31 +33,29 @@ public class ChatbotServiceImpl implements ChatbotService {
         return DATE_FORMATTER.format(instant);
     }
 
-    public String sendBoardSummary(String token) {
-        String username = jwtService.validateToken(token.substring(7));
-        Set<Task> tasks = taskService.getTasksByUser(username);
+    public String sendBoardSummary(AuthenticatedUser user) {
+        String username = user.getUsername();
+        List<TaskBoardView> tasks = taskBoardViewService.getBoard(user.getWorkspaceId(), username);
 
         // Count tasks by status
         Map<String, Long> statusCounts = new HashMap<>();
-        for (Task task : tasks) {
+        for (TaskBoardView task : tasks) {
             Task.TaskStatus status = task.getStatus();
             statusCounts.merge(status.name(), 1L, Long::sum);
         }
 
         // Count tasks assigned to the current user
         long assignedToMe = 0;
-        for (Task task : tasks) {
-            Set<Account> assignees = task.getAssignees();
-            if (assignees.stream().anyMatch(account -> account.getUsername().equals(username))) {
+        for (TaskBoardView task : tasks) {
+            if (task.isAssignedTo(username)) {
                 assignedToMe++;
             }
         }
 
         // Count tasks owned by the current user
         long ownedByMe = 0;
-        for (Task task : tasks) {
-            Account owner = task.getOwner();
-            if (owner.getUsername().equals(username)) {
+        for (TaskBoardView task : tasks) {
+            if (task.isOwnedBy(username)) {
                 ownedByMe++;
             }
         }
@@ -89,8 +85,7 @@ public class ChatbotServiceImpl implements ChatbotService {
         } else {
             tasks.stream()
                     .filter(task -> task.getStatus() == Task.TaskStatus.TODO
-                            && (task.getAssignees().stream().anyMatch(a -> a.getUsername().equals(username))
-                            || task.getOwner().getUsername().equals(username)))
+                            && (task.isAssignedTo(username) || task.isOwnedBy(username)))
                     .forEach(task -> {
                         summary.append("• ").append(task.getTitle());
                         if (task.getEndDate() != null) {
@@ -108,8 +103,7 @@ public class ChatbotServiceImpl implements ChatbotService {
         } else {
             tasks.stream()
                     .filter(task -> task.getStatus() == Task.TaskStatus.IN_PROGRESS
-                            && (task.getAssignees().stream().anyMatch(a -> a.getUsername().equals(username))
-                            || task.getOwner().getUsername().equals(username)))
+                            && (task.isAssignedTo(username) || task.isOwnedBy(username)))
                     .forEach(task -> {
                         summary.append("• ").append(task.getTitle());
                         if (task.getEndDate() != null) {
@@ -127,8 +121,7 @@ public class ChatbotServiceImpl implements ChatbotService {
         } else {
             tasks.stream()
                     .filter(task -> task.getStatus() == Task.TaskStatus.DONE
-                            && (task.getAssignees().stream().anyMatch(a -> a.getUsername().equals(username))
-                            || task.getOwner().getUsername().equals(username)))
+                            && (task.isAssignedTo(username) || task.isOwnedBy(username)))
                     .forEach(task -> {
                         summary.append("• ").append(task.getTitle());
                         if (task.getEndDate() != null) {
@@ -142,10 +135,8 @@ public class ChatbotServiceImpl implements ChatbotService {
         // Urgent tasks (due within 3 days)
         summary.append("⚠️ Urgent Tasks (Due within 3 days):\n");
         int urgentCount = 0;
-        for (Task task : tasks) {
-            Set<Account> assignees = task.getAssignees();
-            if (!(assignees.stream().anyMatch(account -> account.getUsername().equals(username))
-                    || task.getOwner().getUsername().equals(username))) {
+        for (TaskBoardView task : tasks) {
+            if (!(task.isAssignedTo(username) || task.isOwnedBy(username))) {
                 continue;
             }
 
@@ -172,7 +163,7 @@ public class ChatbotServiceImpl implements ChatbotService {
         String summaryText = summary.toString();
 
         // Send to Telegram if user has registered their chat
-        String chatId = telegramService.getTelegramChat(username);
+        String chatId = user.getAccount().map(Account::getTelegramId).orElse(null);
         if (chatId != null) {
             telegramService.sendMessage(chatId, summaryText);
         }
@@ -0,0 +1,226 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.exception.BadRequestException;
+import com.example.task_management_server.exception.ConflictException;
+import com.example.task_management_server.model.IdempotencyRecord;
+import com.example.task_management_server.repository.IdempotencyRecordRepository;
+import com.example.task_management_server.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Database-backed idempotency keys. A request with a key first claims it in a short transaction of its own,
+ * which makes concurrent retries fail fast with 409 instead of running twice. The request then runs in one
+ * transaction that also stores its response, so either both the effects and the stored response commit or
+ * neither does; a retry after that replays the stored response without running anything.
+ * <p>
+ * A claim whose request failed is released at once. One whose node died is taken over after
+ * {@code app.idempotency.lock-timeout}. Stored outcomes are kept for {@code app.idempotency.ttl}, and the
+ * table never holds more than {@code app.idempotency.max-entries} rows: eviction removes expired rows and
+ * then the rows closest to expiry.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyRecordRepository recordRepo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransaction;
+
+    @Value("${app.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.lock-timeout:30s}")
+    private Duration lockTimeout;
+
+    @Value("${app.idempotency.max-entries:1000000}")
+    private long maxEntries;
+
+    public IdempotencyServiceImpl(
+            IdempotencyRecordRepository recordRepo,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.recordRepo = recordRepo;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Run {@code action} in a transaction, at most once per {@code key} within {@code scope}. Without a key it
+     * simply runs. {@code operation} and {@code request} identify the request: reusing a key for a different
+     * one is rejected. Only successful responses are stored; an action that throws can be retried.
+     */
+    public <T> ResponseEntity<T> execute(
+            String scope,
+            String key,
+            String operation,
+            Object request,
+            Class<T> bodyType,
+            Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return transactionTemplate.execute(status -> action.get());
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        IdempotencyRecord previous = claim(scope, key, fingerprint(operation, request));
+        if (previous != null) {
+            return replay(previous, bodyType);
+        }
+        try {
+            return transactionTemplate.execute(status -> {
+                ResponseEntity<T> response = action.get();
+                int completed = recordRepo.complete(scope, key, response.getStatusCode().value(),
+                        write(response.getBody()), Instant.now().plus(ttl));
+                if (completed != 1) {
+                    // The claim outlived lock-timeout and another request with the key finished first, or it was
+                    // evicted: roll back rather than commit effects no stored response accounts for
+                    throw new ConflictException("Idempotency-Key was taken over by another request; retry");
+                }
+                return response;
+            });
+        } catch (RuntimeException e) {
+            // Nothing committed, so a retry with the same key may run the request again
+            newTransaction.executeWithoutResult(status -> recordRepo.deletePending(scope, key));
+            throw e;
+        }
+    }
+
+    /**
+     * Run {@code action} unless {@code key} within {@code scope} has been handled, and record it as handled in the
+     * same transaction. Claims work as in {@link #execute}: an action that throws releases the key so it can be
+     * run again, and one still running elsewhere makes this throw {@link ConflictException}.
+     *
+     * @return false if the key had already been handled and {@code action} was not run
+     */
+    public boolean runOnce(String scope, String key, Runnable action) {
+        if (claim(scope, key, "") != null) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                action.run();
+                if (recordRepo.complete(scope, key, 0, null, Instant.now().plus(ttl)) != 1) {
+                    throw new ConflictException("Key " + key + " was taken over while it was being handled");
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            newTransaction.executeWithoutResult(status -> recordRepo.deletePending(scope, key));
+            throw e;
+        }
+    }
+
+    @Scheduled(cron = "${app.idempotency.eviction-cron:0 */5 * * * *}")
+    public void scheduledEviction() {
+        int evicted = evict();
+        if (evicted > 0) {
+            logger.info("Evicted {} idempotency keys", evicted);
+        }
+    }
+
+    /**
+     * Delete expired rows, then, if more than {@code app.idempotency.max-entries} remain, the ones closest to
+     * expiry.
+     *
+     * @return number of rows deleted
+     */
+    public int evict() {
+        Integer evicted = transactionTemplate.execute(status -> {
+            int deleted = recordRepo.deleteExpiringBefore(Instant.now());
+            long excess = recordRepo.count() - maxEntries;
+            if (excess > 0) {
+                List<Instant> cutoff = recordRepo.findExpiries(PageRequest.of(Math.toIntExact(excess), 1));
+                if (!cutoff.isEmpty()) {
+                    deleted += recordRepo.deleteExpiringBefore(cutoff.get(0));
+                }
+            }
+            return deleted;
+        });
+        return evicted != null ? evicted : 0;
+    }
+
+    // Null when the caller now owns the key; otherwise the completed record to replay
+    private IdempotencyRecord claim(String scope, String key, String fingerprint) {
+        Instant now = Instant.now();
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    recordRepo.insert(scope, key, fingerprint, null, now, now.plus(lockTimeout), now.plus(ttl)));
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            // Known key: replay, wait for it, or take over from a node that died
+        }
+
+        return newTransaction.execute(status -> {
+            IdempotencyRecord record = recordRepo.findById(new IdempotencyRecord.Key(scope, key))
+                    .orElseThrow(() -> new ConflictException("Idempotency-Key was just released; retry"));
+            if (!record.getFingerprint().equals(fingerprint)) {
+                throw new BadRequestException("Idempotency-Key has already been used for a different request");
+            }
+            if (record.isCompleted()) {
+                return record;
+            }
+            if (recordRepo.takeOver(scope, key, now, now.plus(lockTimeout)) == 1) {
+                return null;
+            }
+            throw new ConflictException("A request with this Idempotency-Key is still in progress");
+        });
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, Class<T> bodyType) {
+        try {
+            T body = record.getBody() != null ? objectMapper.readValue(record.getBody(), bodyType) : null;
+            return ResponseEntity.status(record.getStatus()).header(REPLAYED_HEADER, "true").body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable stored response for idempotency key " + record.getKey(), e);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return body != null ? objectMapper.writeValueAsString(body) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
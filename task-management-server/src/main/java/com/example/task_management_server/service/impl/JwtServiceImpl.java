@@ -1,6 +1,8 @@
 package com.example.task_management_server.service.impl;
 
+import com.example.task_management_server.dto.CalendarFeedKey;
 import com.example.task_management_server.service.JwtService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -17,15 +19,25 @@ import java.util.Map;
 public class JwtServiceImpl implements JwtService {
 
     private final Key signingKey;
+    // Calendar feed keys live in URLs that apps store and poll; a key of their own keeps a leaked one from ever
+    // being replayed as a login token, and lets feeds be re-keyed without logging everyone out
+    private final Key calendarSigningKey;
     private final long expirationMs;
 
     public JwtServiceImpl(
             @Value("${app.jwt.secret}") String secret,
+            @Value("${app.calendar.feed-secret}") String calendarSecret,
             @Value("${app.jwt.expiration-seconds}") long expirationSeconds) {
 
+        // No default: a committed one would let anyone forge feed keys for deployments that don't override it
+        if (calendarSecret.isBlank()) {
+            throw new IllegalStateException(
+                    "app.calendar.feed-secret must be set (secrets.properties or CALENDAR_FEED_SECRET)");
+        }
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
 
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.calendarSigningKey = Keys.hmacShaKeyFor(calendarSecret.getBytes(StandardCharsets.UTF_8));
         this.expirationMs = expirationSeconds * 1000L;
     }
 
@@ -82,4 +94,34 @@ public class JwtServiceImpl implements JwtService {
         }
     }
 
-}
\ No newline at end of file
+    // URL-safe, since the key is part of the feed URL that calendar apps poll
+    public String generateCalendarKey(CalendarFeedKey feed) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                Jwts.builder()
+                        .setClaims(Map.of(
+                                "calendar", feed.username(), "workspace", feed.workspaceId(), "v", feed.version()))
+                        .signWith(calendarSigningKey, SignatureAlgorithm.HS256)
+                        .compact().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public CalendarFeedKey validateCalendarKey(String calendarKey) {
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(calendarKey), StandardCharsets.UTF_8);
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(calendarSigningKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            String username = claims.get("calendar", String.class);
+            Number workspaceId = claims.get("workspace", Number.class);
+            Number version = claims.get("v", Number.class);
+            return username != null && workspaceId != null && version != null
+                    ? new CalendarFeedKey(username, workspaceId.longValue(), version.longValue())
+                    : null;
+        } catch (Exception e) {
+            // Not Base64, or not a valid signed key
+            return null;
+        }
+    }
+
+}
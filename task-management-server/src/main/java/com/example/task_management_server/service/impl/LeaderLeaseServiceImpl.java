@@ -0,0 +1,62 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.repository.LeaderLeaseRepository;
+import com.example.task_management_server.service.LeaderLeaseService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+@Service
+public class LeaderLeaseServiceImpl implements LeaderLeaseService {
+
+    private final LeaderLeaseRepository leaseRepo;
+    private final String holderId;
+
+    @Value("${app.leader-lease.ttl:15s}")
+    private Duration ttl;
+
+    public LeaderLeaseServiceImpl(LeaderLeaseRepository leaseRepo) {
+        this.leaseRepo = leaseRepo;
+        this.holderId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Acquire or renew the named lease for {@code app.leader-lease.ttl}. Holders must call this again well
+     * before the TTL runs out; if they stop (crash, network partition) another instance takes over once it
+     * has expired. Expiry is compared with this instance's clock, so nodes are expected to run NTP.
+     *
+     * @return true if this instance holds the lease until now + TTL
+     */
+    @Transactional
+    public boolean tryAcquire(String name) {
+        Instant now = Instant.now();
+        return leaseRepo.tryAcquire(name, holderId, now, now.plus(ttl)) == 1;
+    }
+
+    /**
+     * Give up the lease immediately, so a follower does not have to wait for it to expire.
+     */
+    @Transactional
+    public void release(String name) {
+        leaseRepo.release(name, holderId, Instant.now());
+    }
+
+    public String getHolderId() {
+        return holderId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+}
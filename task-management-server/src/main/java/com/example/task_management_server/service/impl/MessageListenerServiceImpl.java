@@ -2,22 +2,34 @@ package com.example.task_management_server.service.impl;
 
 import com.example.task_management_server.config.MQConfig;
 import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.service.AnalyticsService;
 import com.example.task_management_server.service.MessageListenerService;
+import com.example.task_management_server.service.TaskBoardViewService;
 import com.example.task_management_server.service.TelegramService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jms.annotation.JmsListener;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
 
 @Service
 public class MessageListenerServiceImpl implements MessageListenerService {
 
     private final TelegramService telegramService;
+    private final TaskBoardViewService taskBoardViewService;
+    private final AnalyticsService analyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public MessageListenerServiceImpl(TelegramService telegramService) {
+    public MessageListenerServiceImpl(
+            TelegramService telegramService,
+            TaskBoardViewService taskBoardViewService,
+            AnalyticsService analyticsService,
+            ApplicationEventPublisher eventPublisher) {
         this.telegramService = telegramService;
+        this.taskBoardViewService = taskBoardViewService;
+        this.analyticsService = analyticsService;
+        this.eventPublisher = eventPublisher;
     }
 
     @JmsListener(destination = MQConfig.TASK_UPDATE_QUEUE)
@@ -27,14 +39,28 @@ public class MessageListenerServiceImpl implements MessageListenerService {
             return;
         }
 
-        String notification = message.getChangeDescription();
-        Set<String> telegramIds = message.getTelegramIds();
-
-        for (String telegramId : telegramIds) {
-            if (telegramId != null) {
-                telegramService.sendMessage(telegramId, notification);
-            }
+        // Text and recipients were computed once by the publisher
+        String notification = message.changeDescription();
+        for (String telegramId : message.telegramIds()) {
+            telegramService.sendMessage(telegramId, notification);
         }
     }
 
+    @JmsListener(destination = MQConfig.TASK_PROJECTION_QUEUE)
+    public void handleProjectionUpdate(TaskMessage message) {
+        // The board projection is idempotent and the rollup is not: if the rollup fails, the redelivered event
+        // rewrites the board rows; if the board fails, the rollup has not counted the event yet
+        taskBoardViewService.apply(message);
+        analyticsService.apply(message);
+    }
+
+    /**
+     * Every node receives every task event here, including its own. Node-local state (caches, in-memory
+     * indexes) subscribes with {@code @EventListener} on {@link TaskMessage}.
+     */
+    @JmsListener(destination = MQConfig.TASK_EVENT_TOPIC, containerFactory = "topicListenerFactory")
+    public void handleTaskBroadcast(TaskMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+
 }
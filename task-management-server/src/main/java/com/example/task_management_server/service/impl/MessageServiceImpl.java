@@ -4,14 +4,28 @@ import com.example.task_management_server.config.MQConfig;
 import com.example.task_management_server.dto.TaskMessage;
 import com.example.task_management_server.dto.TaskRecord;
 import com.example.task_management_server.service.MessageService;
+import jakarta.jms.Topic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jms.JmsException;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
 import org.springframework.stereotype.Service;
 
+/**
+ * Publishes task events to the update and projection queues and the event topic. The template's sessions are
+ * transacted ({@code spring.jms.template.session.transacted}), so inside a database transaction all three sends
+ * join one JMS transaction that is committed after the database commits and discarded when it rolls back: a
+ * rolled-back write never reaches listeners.
+ */
 @Service
 public class MessageServiceImpl implements MessageService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MessageServiceImpl.class);
+
     private final JmsTemplate jmsTemplate;
+    private volatile Topic taskEventTopic;
 
     @Autowired
     public MessageServiceImpl(JmsTemplate jmsTemplate) {
@@ -26,9 +40,36 @@ public class MessageServiceImpl implements MessageService {
                     type
             );
 
-            jmsTemplate.convertAndSend(MQConfig.TASK_UPDATE_QUEUE, message);
-        } catch (Exception e) {
-            e.printStackTrace();
+            MessagePostProcessor workspace = workspaceProperties(message.workspaceId());
+            jmsTemplate.convertAndSend(MQConfig.TASK_UPDATE_QUEUE, message, workspace);
+            jmsTemplate.convertAndSend(MQConfig.TASK_PROJECTION_QUEUE, message, workspace);
+            jmsTemplate.convertAndSend(getTaskEventTopic(), message, workspace);
+        } catch (JmsException e) {
+            // Listeners, the board read model among them, would never see the change: fail the caller's transaction
+            // so the change is not committed without its event
+            logger.error("Could not publish {} event of task {}", type,
+                    (newTaskRecord != null ? newTaskRecord : oldTaskRecord).taskId(), e);
+            throw e;
+        }
+    }
+
+    // Queue consumers run concurrently; grouping by workspace keeps each workspace's events in order on one
+    // consumer, so a burst in one workspace occupies at most one consumer while the others keep draining
+    private static MessagePostProcessor workspaceProperties(long workspaceId) {
+        return jmsMessage -> {
+            jmsMessage.setLongProperty(MQConfig.WORKSPACE_PROPERTY, workspaceId);
+            jmsMessage.setStringProperty(MQConfig.GROUP_ID_PROPERTY, "workspace-" + workspaceId);
+            return jmsMessage;
+        };
+    }
+
+    // The template resolves names as queues; the broker client creates the topic destination once
+    private Topic getTaskEventTopic() {
+        Topic topic = taskEventTopic;
+        if (topic == null) {
+            topic = jmsTemplate.execute(session -> session.createTopic(MQConfig.TASK_EVENT_TOPIC));
+            taskEventTopic = topic;
         }
+        return topic;
     }
 }
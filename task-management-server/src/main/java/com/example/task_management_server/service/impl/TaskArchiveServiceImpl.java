@@ -0,0 +1,112 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.model.ArchivedTask;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.repository.ArchivedTaskRepository;
+import com.example.task_management_server.repository.TaskBoardViewRepository;
+import com.example.task_management_server.repository.TaskRepository;
+import com.example.task_management_server.service.TaskArchiveService;
+import com.example.task_management_server.service.TaskDependencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveServiceImpl.class);
+
+    private final TaskRepository taskRepo;
+    private final ArchivedTaskRepository archiveRepo;
+    private final TaskBoardViewRepository viewRepo;
+    private final TaskDependencyService dependencyService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.done-age:30d}")
+    private Duration doneAge;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    public TaskArchiveServiceImpl(
+            TaskRepository taskRepo,
+            ArchivedTaskRepository archiveRepo,
+            TaskBoardViewRepository viewRepo,
+            TaskDependencyService dependencyService,
+            PlatformTransactionManager transactionManager) {
+        this.taskRepo = taskRepo;
+        this.archiveRepo = archiveRepo;
+        this.viewRepo = viewRepo;
+        this.dependencyService = dependencyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 0 4 * * *}")
+    public void scheduledArchive() {
+        int archived = archiveDoneTasks();
+        if (archived > 0) {
+            logger.info("Archived {} DONE tasks older than {}", archived, doneAge);
+        }
+    }
+
+    /**
+     * Move DONE tasks that have not changed for {@code app.archive.done-age} into the archive tables.
+     * Each batch is its own transaction, so the job never holds locks on more than one batch of rows.
+     *
+     * @return number of tasks archived
+     */
+    public int archiveDoneTasks() {
+        Instant cutoff = Instant.now().minus(doneAge);
+        int archived = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> archiveBatch(cutoff, cursor));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            archived += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedTask> getArchive(long workspaceId, String username, Long beforeId, int limit) {
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        List<Long> ids = archiveRepo.findIdsByMember(workspaceId, username, before, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return archiveRepo.findByIdInOrderByIdDesc(ids);
+    }
+
+    private List<Long> archiveBatch(Instant cutoff, long afterId) {
+        List<Long> ids = taskRepo.lockArchivableIds(Task.TaskStatus.DONE.ordinal(), cutoff, afterId, batchSize);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        archiveRepo.copyTasks(ids, Instant.now());
+        archiveRepo.copyAssignees(ids);
+        taskRepo.deleteAssigneesByTaskIdIn(ids);
+        // Archived tasks no longer block or wait on anything
+        dependencyService.removeTasks(ids);
+        taskRepo.deleteAllByIdInBatch(ids);
+        viewRepo.deleteByTaskIdIn(ids);
+        return ids;
+    }
+
+}
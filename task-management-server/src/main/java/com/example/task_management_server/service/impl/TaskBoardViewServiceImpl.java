@@ -0,0 +1,183 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.model.TaskBoardView;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.repository.TaskBoardViewRepository;
+import com.example.task_management_server.repository.TaskRepository;
+import com.example.task_management_server.service.TaskBoardViewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskBoardViewServiceImpl implements TaskBoardViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBoardViewServiceImpl.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskBoardViewRepository viewRepo;
+    private final TaskRepository taskRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.board-view.consistency-check.repair:true}")
+    private boolean repairOnCheck;
+
+    public TaskBoardViewServiceImpl(
+            TaskBoardViewRepository viewRepo,
+            TaskRepository taskRepo,
+            PlatformTransactionManager transactionManager) {
+        this.viewRepo = viewRepo;
+        this.taskRepo = taskRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskBoardView> getBoard(long workspaceId, String username) {
+        return viewRepo.findByWorkspaceIdAndUsernameOrderByStatusAscRankAscTaskIdAsc(workspaceId, username);
+    }
+
+    /**
+     * Project a task event onto the board rows of every member (owner and assignees) of the task.
+     * Members that were removed from the task lose their row. An event whose task version is not newer than
+     * the rows' is skipped, so a redelivered or late event never puts back an older state.
+     */
+    @Transactional
+    public void apply(TaskMessage message) {
+        switch (message.type()) {
+            case CREATED, UPDATED -> {
+                TaskRecord record = message.newTaskRecord();
+                List<TaskBoardView> current = viewRepo.findByTaskId(record.taskId());
+                // Events published before tasks had a version carry none and are applied as they come
+                if (record.version() != null && current.stream()
+                        .anyMatch(row -> row.getVersion() != null && row.getVersion() >= record.version())) {
+                    logger.debug("Skipped {} event of task {} at version {}: the board is newer",
+                            message.type(), record.taskId(), record.version());
+                    return;
+                }
+
+                List<TaskBoardView> rows = project(record);
+                Set<String> members = rows.stream().map(TaskBoardView::getUsername).collect(Collectors.toSet());
+
+                List<TaskBoardView> stale = current.stream()
+                        .filter(row -> !members.contains(row.getUsername()))
+                        .toList();
+                viewRepo.deleteAll(stale);
+                viewRepo.saveAll(rows);
+            }
+            case DELETED -> viewRepo.deleteByTaskId(message.oldTaskRecord().taskId());
+        }
+    }
+
+    @Scheduled(cron = "${app.board-view.consistency-check.cron:0 30 3 * * *}")
+    public void scheduledConsistencyCheck() {
+        int drift = checkConsistency(repairOnCheck);
+        if (drift > 0) {
+            logger.warn("Board view drifted from task tables in {} rows (repaired: {})", drift, repairOnCheck);
+        }
+    }
+
+    /**
+     * Compare the board view with the rows projected from the task tables, walking tasks in keyset
+     * batches.
+     *
+     * @return number of missing, stale or orphaned view rows
+     */
+    public int checkConsistency(boolean repair) {
+        int drift = 0;
+        Long afterId = 0L;
+        while (true) {
+            Long cursor = afterId;
+            List<Long> ids = taskRepo.findIdsAfter(cursor, PageRequest.ofSize(BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer batchDrift = transactionTemplate.execute(status -> reconcileBatch(ids, repair));
+            drift += batchDrift != null ? batchDrift : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        Integer orphans = transactionTemplate.execute(status ->
+                repair ? viewRepo.deleteOrphans() : (int) viewRepo.countOrphans());
+        return drift + (orphans != null ? orphans : 0);
+    }
+
+    public void rebuild() {
+        logger.info("Rebuilding board view from task tables");
+        transactionTemplate.executeWithoutResult(status -> viewRepo.deleteAllInBatch());
+        int rows = checkConsistency(true);
+        logger.info("Board view rebuilt with {} rows", rows);
+    }
+
+    public boolean needsInitialBuild() {
+        return viewRepo.count() == 0 && taskRepo.count() > 0;
+    }
+
+    private int reconcileBatch(List<Long> ids, boolean repair) {
+        Map<TaskBoardView.Key, TaskBoardView> expected = taskRepo.findByIdIn(ids)
+                .stream()
+                .flatMap(task -> project(TaskRecord.build(task)).stream())
+                .collect(Collectors.toMap(TaskBoardView::getKey, Function.identity()));
+        Map<TaskBoardView.Key, TaskBoardView> actual = viewRepo.findByTaskIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(TaskBoardView::getKey, Function.identity()));
+
+        List<TaskBoardView> toSave = new ArrayList<>();
+        List<TaskBoardView> toDelete = new ArrayList<>();
+        expected.forEach((key, row) -> {
+            TaskBoardView current = actual.get(key);
+            if (current == null || !current.hasSameContent(row)) {
+                toSave.add(row);
+            }
+        });
+        actual.forEach((key, row) -> {
+            if (!expected.containsKey(key)) {
+                toDelete.add(row);
+            }
+        });
+
+        if (repair) {
+            viewRepo.deleteAll(toDelete);
+            viewRepo.saveAll(toSave);
+        }
+        return toSave.size() + toDelete.size();
+    }
+
+    private static List<TaskBoardView> project(TaskRecord record) {
+        Set<String> members = new LinkedHashSet<>();
+        members.add(record.owner());
+        Collections.addAll(members, record.assignees());
+
+        TaskBoardView template = TaskBoardView.builder()
+                .taskId(record.taskId())
+                .workspaceId(Optional.ofNullable(record.workspaceId()).orElse(Workspace.DEFAULT_ID))
+                .title(record.title())
+                .description(record.description())
+                .status(record.status())
+                // Events published before ranks existed carry none; use the key V6 gave existing tasks
+                .rank(Optional.ofNullable(record.rank()).orElseGet(() -> "%019d1".formatted(record.taskId())))
+                .endDate(Optional.ofNullable(record.endDate()).map(Instant::parse).orElse(null))
+                .createdAt(Optional.ofNullable(record.createdAt()).map(Instant::parse).orElse(null))
+                .owner(record.owner())
+                .assignees(TaskBoardView.joinAssignees(record.assignees()))
+                .version(Optional.ofNullable(record.version()).orElse(0L))
+                .build();
+
+        return members.stream()
+                .map(username -> template.toBuilder().username(username).build())
+                .toList();
+    }
+
+}
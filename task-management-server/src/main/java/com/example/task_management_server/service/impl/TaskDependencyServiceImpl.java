@@ -0,0 +1,269 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.dependency.DependencyGraph;
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskDependenciesResponse;
+import com.example.task_management_server.exception.BadRequestException;
+import com.example.task_management_server.exception.ConflictException;
+import com.example.task_management_server.exception.ForbiddenException;
+import com.example.task_management_server.exception.ResourceNotFoundException;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskDependency;
+import com.example.task_management_server.model.TaskDependencyChange;
+import com.example.task_management_server.repository.TaskBoardViewRepository;
+import com.example.task_management_server.repository.TaskDependencyChangeRepository;
+import com.example.task_management_server.repository.TaskDependencyRepository;
+import com.example.task_management_server.repository.TaskRepository;
+import com.example.task_management_server.service.TaskDependencyService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Blocking relationships between tasks. The database holds the edges; every node keeps them in a
+ * {@link DependencyGraph} with the transitive closure, so reads and cycle checks never touch the database.
+ * <p>
+ * Writes lock {@code task_dependency_lock}, apply any changes other nodes committed since this node last
+ * synced, check for cycles against the now-current graph, and append to {@code task_dependency_change}.
+ * The graph is updated after commit. Other nodes pick the change up on their next refresh
+ * ({@code app.dependencies.refresh-interval-ms}), or before their next write.
+ */
+@Service
+public class TaskDependencyServiceImpl implements TaskDependencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDependencyServiceImpl.class);
+    private static final int CHANGE_BATCH_SIZE = 1000;
+
+    private final TaskDependencyRepository dependencyRepo;
+    private final TaskDependencyChangeRepository changeRepo;
+    private final TaskRepository taskRepo;
+    private final TaskBoardViewRepository viewRepo;
+    private final TransactionTemplate transactionTemplate;
+    private volatile DependencyGraph graph = new DependencyGraph();
+
+    // Guarded by this. Lock order is task_dependency_lock, then this.
+    private long appliedSeq;
+    private Instant syncedAt = Instant.EPOCH;
+
+    @Value("${app.dependencies.change-retention:1d}")
+    private Duration changeRetention;
+
+    public TaskDependencyServiceImpl(
+            TaskDependencyRepository dependencyRepo,
+            TaskDependencyChangeRepository changeRepo,
+            TaskRepository taskRepo,
+            TaskBoardViewRepository viewRepo,
+            PlatformTransactionManager transactionManager) {
+        this.dependencyRepo = dependencyRepo;
+        this.changeRepo = changeRepo;
+        this.taskRepo = taskRepo;
+        this.viewRepo = viewRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void load() {
+        transactionTemplate.executeWithoutResult(status -> reload());
+    }
+
+    public TaskDependenciesResponse getDependencies(AuthenticatedUser user, Long taskId) {
+        // The board row answers the common case with one key lookup; fall back to the task tables for tasks
+        // the projection has not caught up with yet
+        if (!viewRepo.existsByWorkspaceIdAndUsernameAndTaskId(user.getWorkspaceId(), user.getUsername(), taskId)) {
+            requireMember(user, taskId);
+        }
+        DependencyGraph graph = this.graph;
+        return new TaskDependenciesResponse(
+                taskId,
+                toList(graph.directBlockersOf(taskId)),
+                toList(graph.directlyBlockedBy(taskId)),
+                toList(graph.blockersOf(taskId)),
+                toList(graph.blockedBy(taskId)));
+    }
+
+    /**
+     * Record that {@code blockerId} blocks {@code taskId}. The caller must be a member of both tasks, and both
+     * must be in the caller's current workspace; dependencies never cross workspaces.
+     *
+     * @throws ConflictException if {@code taskId} already blocks {@code blockerId}, directly or transitively
+     */
+    @Transactional
+    public void addBlocker(AuthenticatedUser user, Long taskId, Long blockerId) {
+        if (taskId.equals(blockerId)) {
+            throw new BadRequestException("A task cannot block itself");
+        }
+        requireMember(user, taskId);
+        requireMember(user, blockerId);
+
+        dependencyRepo.lockWrites();
+        catchUp();
+        if (dependencyRepo.existsById(new TaskDependency.Key(blockerId, taskId))) {
+            return;
+        }
+        if (graph.wouldCreateCycle(blockerId, taskId)) {
+            throw new ConflictException("Task " + taskId + " already blocks task " + blockerId
+                    + ", directly or through other tasks");
+        }
+
+        dependencyRepo.save(new TaskDependency(blockerId, taskId));
+        applyAfterCommit(List.of(recordChange(blockerId, taskId, true)));
+    }
+
+    @Transactional
+    public void removeBlocker(AuthenticatedUser user, Long taskId, Long blockerId) {
+        requireMember(user, taskId);
+        requireMember(user, blockerId);
+
+        dependencyRepo.lockWrites();
+        catchUp();
+        TaskDependency.Key key = new TaskDependency.Key(blockerId, taskId);
+        if (!dependencyRepo.existsById(key)) {
+            return;
+        }
+        dependencyRepo.deleteById(key);
+        applyAfterCommit(List.of(recordChange(blockerId, taskId, false)));
+    }
+
+    /**
+     * Drop every dependency of tasks that are about to be deleted or archived. Runs in the caller's
+     * transaction.
+     */
+    @Transactional
+    public void removeTasks(Collection<Long> taskIds) {
+        dependencyRepo.lockWrites();
+        catchUp();
+        List<TaskDependency> dependencies = dependencyRepo.findByTaskIdIn(taskIds);
+        if (dependencies.isEmpty()) {
+            return;
+        }
+
+        dependencyRepo.deleteAllInBatch(dependencies);
+        List<TaskDependencyChange> changes = new ArrayList<>(dependencies.size());
+        for (TaskDependency dependency : dependencies) {
+            changes.add(recordChange(dependency.getBlockerId(), dependency.getBlockedId(), false));
+        }
+        applyAfterCommit(changes);
+    }
+
+    /**
+     * Apply changes committed by other nodes. A node that has not synced for longer than the change log is
+     * kept reloads the whole graph instead.
+     */
+    @Scheduled(fixedDelayString = "${app.dependencies.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (isStale()) {
+            logger.warn("Task dependency graph not synced since {}; reloading", syncedAt);
+            load();
+        } else {
+            catchUp();
+        }
+    }
+
+    @Scheduled(cron = "${app.dependencies.change-retention-cron:0 50 4 * * *}")
+    @Transactional
+    public void pruneChanges() {
+        int deleted = changeRepo.deleteOlderThan(Instant.now().minus(changeRetention));
+        if (deleted > 0) {
+            logger.info("Pruned {} task dependency changes older than {}", deleted, changeRetention);
+        }
+    }
+
+    // Snapshot under the write lock, so no change can commit between reading the edges and the last sequence.
+    // The new graph replaces the old one only once complete, so reads never see a partial graph.
+    private void reload() {
+        dependencyRepo.lockWrites();
+        long lastSeq = changeRepo.findLastSeq();
+        DependencyGraph loaded = new DependencyGraph();
+        for (TaskDependency dependency : dependencyRepo.findAll()) {
+            loaded.addEdge(dependency.getBlockerId(), dependency.getBlockedId());
+        }
+
+        synchronized (this) {
+            graph = loaded;
+            appliedSeq = lastSeq;
+            syncedAt = Instant.now();
+        }
+        logger.info("Loaded {} task dependencies between {} tasks", loaded.edgeCount(), loaded.taskCount());
+    }
+
+    private synchronized void catchUp() {
+        while (true) {
+            List<TaskDependencyChange> changes = changeRepo.findAfter(appliedSeq, PageRequest.ofSize(CHANGE_BATCH_SIZE));
+            changes.forEach(this::apply);
+            if (changes.size() < CHANGE_BATCH_SIZE) {
+                break;
+            }
+        }
+        syncedAt = Instant.now();
+    }
+
+    private synchronized void apply(TaskDependencyChange change) {
+        if (change.getSeq() <= appliedSeq) {
+            return;
+        }
+        if (change.isAdded()) {
+            graph.addEdge(change.getBlockerId(), change.getBlockedId());
+        } else {
+            graph.removeEdge(change.getBlockerId(), change.getBlockedId());
+        }
+        appliedSeq = change.getSeq();
+    }
+
+    private synchronized boolean isStale() {
+        return syncedAt.isBefore(Instant.now().minus(changeRetention.dividedBy(2)));
+    }
+
+    private TaskDependencyChange recordChange(Long blockerId, Long blockedId, boolean added) {
+        return changeRepo.save(TaskDependencyChange.builder()
+                .blockerId(blockerId)
+                .blockedId(blockedId)
+                .added(added)
+                .changedAt(Instant.now())
+                .build());
+    }
+
+    // The write lock is held until commit, so these are the next sequence numbers after everything applied
+    // in catchUp(); a refresh that sees them first makes apply() skip them
+    private void applyAfterCommit(List<TaskDependencyChange> changes) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changes.forEach(TaskDependencyServiceImpl.this::apply);
+            }
+        });
+    }
+
+    private void requireMember(AuthenticatedUser user, Long taskId) {
+        Task task = taskRepo.findByIdAndWorkspaceId(taskId, user.getWorkspaceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Task " + taskId + " not found"));
+        String username = user.getUsername();
+        boolean isOwner = task.getOwner().getUsername().equals(username);
+        boolean isAssignee = task.getAssignees()
+                .stream()
+                .anyMatch(assignee -> assignee.getUsername().equals(username));
+        if (!isOwner && !isAssignee) {
+            throw new ForbiddenException("Only members of task " + taskId + " can view or change its dependencies");
+        }
+    }
+
+    private static List<Long> toList(long[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+}
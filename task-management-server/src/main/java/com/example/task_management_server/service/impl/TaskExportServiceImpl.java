@@ -0,0 +1,84 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.dto.TaskResponse;
+import com.example.task_management_server.model.TaskBoardView;
+import com.example.task_management_server.repository.TaskBoardViewRepository;
+import com.example.task_management_server.service.TaskExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private final TaskBoardViewRepository viewRepo;
+    private final ObjectWriter rowWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskExportServiceImpl(
+            TaskBoardViewRepository viewRepo,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.viewRepo = viewRepo;
+        // One row per line; rows are flushed by the output buffers, not one by one
+        this.rowWriter = objectMapper.writerFor(TaskResponse.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Write the user's board in one workspace as NDJSON, one {@link TaskResponse} per line. Rows come from a
+     * forward-only cursor inside one read-only transaction (PostgreSQL only honours the fetch size with
+     * auto-commit off), and each row is detached once written, so heap use does not grow with the number of
+     * tasks.
+     *
+     * @return number of tasks written
+     */
+    public long exportTasks(long workspaceId, String username, OutputStream out) throws IOException {
+        try (JsonGenerator generator = rowWriter.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Long written = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<TaskBoardView> rows = viewRepo.streamByUsername(workspaceId, username)) {
+                    Iterator<TaskBoardView> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        TaskBoardView row = iterator.next();
+                        rowWriter.writeValue(generator, TaskResponse.from(row));
+                        entityManager.detach(row);
+                        count++;
+                    }
+                } catch (IOException e) {
+                    // Usually the client disconnecting; surfaces as the original exception below
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+
+            if (written != null && written > 0) {
+                generator.writeRaw('\n');
+            }
+            return written != null ? written : 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.dto.TaskHistoryEntry;
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.exception.ForbiddenException;
+import com.example.task_management_server.exception.ResourceNotFoundException;
+import com.example.task_management_server.history.TaskHistoryLog;
+import com.example.task_management_server.service.TaskHistoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps every task event in a local {@link TaskHistoryLog} on disk instead of the database. Events arrive
+ * through the {@code task-events} topic, which every node receives, so each node holds a full copy of the
+ * history and serves reads from its own log.
+ */
+@Service
+public class TaskHistoryServiceImpl implements TaskHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryServiceImpl.class);
+
+    private final ObjectMapper objectMapper;
+    private TaskHistoryLog log;
+
+    @Value("${app.history.dir:./data/history}")
+    private Path directory;
+
+    @Value("${app.history.segment-size:16MB}")
+    private DataSize segmentSize;
+
+    @Value("${app.history.retention:180d}")
+    private Duration retention;
+
+    public TaskHistoryServiceImpl(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        log = TaskHistoryLog.open(directory, Math.toIntExact(segmentSize.toBytes()));
+        logger.info("Opened task history log in {} ({} segments)", directory, log.segmentCount());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        log.close();
+    }
+
+    @EventListener
+    public void record(TaskMessage message) {
+        TaskRecord record = message.newTaskRecord() != null ? message.newTaskRecord() : message.oldTaskRecord();
+        long occurredAt = message.occurredAt() > 0 ? message.occurredAt() : System.currentTimeMillis();
+        try {
+            log.append(occurredAt, record.taskId(), members(message), objectMapper.writeValueAsBytes(message));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Failed to record history of task {}: {}", record.taskId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Full history of a task, oldest first. Visible to anyone who has been its owner or an assignee.
+     */
+    public List<TaskHistoryEntry> getTaskHistory(String username, Long taskId) {
+        List<TaskHistoryLog.LogRecord> records = log.readTask(taskId);
+        if (records.isEmpty()) {
+            throw new ResourceNotFoundException("No history for task " + taskId);
+        }
+        if (records.stream().noneMatch(record -> record.users().contains(username))) {
+            throw new ForbiddenException("Only members of this task can view its history");
+        }
+        return records.stream().map(this::toEntry).toList();
+    }
+
+    /**
+     * Events on tasks the user owned or was assigned to, newest first.
+     */
+    public List<TaskHistoryEntry> getActivity(String username, Long beforeId, int limit) {
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        return log.readUser(username, before, limit).stream().map(this::toEntry).toList();
+    }
+
+    // Writes are already in the page cache; this bounds what an OS crash or power loss can take
+    @Scheduled(fixedDelayString = "${app.history.flush-interval-ms:1000}")
+    public void flush() {
+        log.flush();
+    }
+
+    @Scheduled(cron = "${app.history.retention-cron:0 15 4 * * *}")
+    public void applyRetention() throws IOException {
+        int deleted = log.deleteSegmentsOlderThan(Instant.now().minus(retention).toEpochMilli());
+        if (deleted > 0) {
+            logger.info("Deleted {} task history segments older than {}", deleted, retention);
+        }
+    }
+
+    private TaskHistoryEntry toEntry(TaskHistoryLog.LogRecord record) {
+        return TaskHistoryEntry.from(
+                record.position(), Instant.ofEpochMilli(record.timestamp()).toString(), read(record));
+    }
+
+    private TaskMessage read(TaskHistoryLog.LogRecord record) {
+        try {
+            return objectMapper.readValue(record.payload(), TaskMessage.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Set<String> members(TaskMessage message) {
+        Set<String> users = new LinkedHashSet<>();
+        for (TaskRecord record : new TaskRecord[]{message.oldTaskRecord(), message.newTaskRecord()}) {
+            if (record == null) {
+                continue;
+            }
+            users.add(record.owner());
+            Collections.addAll(users, record.assignees());
+        }
+        return users;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.model.TaskColumn;
+import com.example.task_management_server.model.TaskRank;
+import com.example.task_management_server.repository.TaskBoardViewRepository;
+import com.example.task_management_server.repository.TaskRepository;
+import com.example.task_management_server.service.TaskRankService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Service
+public class TaskRankServiceImpl implements TaskRankService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskRankServiceImpl.class);
+
+    private final TaskRepository taskRepo;
+    private final TaskBoardViewRepository viewRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.rank.rebalance.max-length:24}")
+    private int maxLength;
+
+    public TaskRankServiceImpl(
+            TaskRepository taskRepo,
+            TaskBoardViewRepository viewRepo,
+            PlatformTransactionManager transactionManager) {
+        this.taskRepo = taskRepo;
+        this.viewRepo = viewRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.rank.rebalance.cron:0 45 * * * *}")
+    public void scheduledRebalance() {
+        int rebalanced = rebalanceColumns();
+        if (rebalanced > 0) {
+            logger.info("Rebalanced ranks of {} tasks", rebalanced);
+        }
+    }
+
+    /**
+     * Rebalance every status column, in every workspace, whose keys are longer than
+     * {@code app.rank.rebalance.max-length} or tied. Each column is its own transaction, so a large workspace's
+     * column never holds locks on another workspace's cards.
+     *
+     * @return number of tasks that got a new rank
+     */
+    public int rebalanceColumns() {
+        List<TaskColumn> columns = transactionTemplate.execute(status ->
+                taskRepo.findColumnsNeedingRebalance(maxLength));
+        int rebalanced = 0;
+        for (TaskColumn column : columns != null ? columns : List.<TaskColumn>of()) {
+            rebalanced += rebalance(column);
+        }
+        return rebalanced;
+    }
+
+    /**
+     * Give every task in the column a short, evenly spaced rank, keeping the current order. The column's rows
+     * stay locked until the new ranks are committed, so concurrent moves wait and then see the new keys. The
+     * board view is updated in the same transaction; rank changes are not published as task events.
+     *
+     * @return number of tasks in the column
+     */
+    public int rebalance(TaskColumn column) {
+        Integer rebalanced = transactionTemplate.execute(tx -> {
+            List<Long> ids = taskRepo.lockIdsInRankOrder(column.workspaceId(), column.status().ordinal());
+            List<String> ranks = TaskRank.spread(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                taskRepo.updateRank(ids.get(i), ranks.get(i));
+                viewRepo.updateRank(ids.get(i), ranks.get(i));
+            }
+            return ids.size();
+        });
+        return rebalanced != null ? rebalanced : 0;
+    }
+
+}
@@ -1,22 +1,37 @@
 package com.example.task_management_server.service.impl;
 
+import com.example.task_management_server.concurrency.TaskMerge;
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskEdit;
 import com.example.task_management_server.dto.TaskMessage;
 import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.dto.TaskResponse;
+import com.example.task_management_server.exception.BadRequestException;
+import com.example.task_management_server.exception.ConflictException;
+import com.example.task_management_server.exception.ResourceNotFoundException;
+import com.example.task_management_server.exception.TaskConflictException;
 import com.example.task_management_server.model.Account;
 import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskRank;
 import com.example.task_management_server.repository.AccountRepository;
 import com.example.task_management_server.repository.TaskRepository;
 import com.example.task_management_server.service.MessageService;
+import com.example.task_management_server.service.TaskDependencyService;
 import com.example.task_management_server.service.TaskService;
+import com.example.task_management_server.service.TaskSnapshotService;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TaskServiceImpl implements TaskService {
@@ -24,32 +39,30 @@ public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepo;
     private final AccountRepository userRepo;
     private final MessageService messageService;
+    private final TaskDependencyService dependencyService;
+    private final TaskSnapshotService snapshotService;
 
-    public TaskServiceImpl(TaskRepository taskRepo, AccountRepository userRepo, MessageService messageService) {
+    public TaskServiceImpl(
+            TaskRepository taskRepo,
+            AccountRepository userRepo,
+            MessageService messageService,
+            TaskDependencyService dependencyService,
+            TaskSnapshotService snapshotService) {
         this.taskRepo = taskRepo;
         this.userRepo = userRepo;
         this.messageService = messageService;
-    }
-
-    public Set<Task> getTasksByUser(String username) {
-        Account account = userRepo
-                .findById(username)
-                .orElseThrow(() -> new IllegalArgumentException("user not found"));
-
-        Set<Task> tasks = new HashSet<>();
-        tasks.addAll(taskRepo.findByOwner(account));
-        tasks.addAll(taskRepo.findByAssignees(account));
-        return tasks;
+        this.dependencyService = dependencyService;
+        this.snapshotService = snapshotService;
     }
 
     public Task createTask(
-            String username,
+            AuthenticatedUser user,
             String title,
             String description,
             String endDateStr,
             String statusStr,
             List<String> assigneeUsernames) {
-        Account owner = userRepo.findById(username).orElseThrow(() -> new IllegalArgumentException("user not found"));
+        Account owner = user.requireAccount();
 
         Task.TaskStatus status = Optional
                 .ofNullable(statusStr)
@@ -63,37 +76,41 @@ public class TaskServiceImpl implements TaskService {
         Set<Account> assignees = Optional
                 .ofNullable(assigneeUsernames)
                 .map(usernames -> userRepo
-                        .findAllById(usernames)
+                        .findMembersByUsernameIn(user.getWorkspaceId(), usernames)
                         .stream()
                         .collect(Collectors.toSet()))
                 .orElse(Set.of());
 
         Task task = Task.builder()
+                .workspaceId(user.getWorkspaceId())
                 .title(title)
                 .description(description)
                 .endDate(endDate)
                 .status(status)
+                .rank(TaskRank.after(taskRepo.findMaxRank(user.getWorkspaceId(), status)))
                 .owner(owner)
                 .assignees(assignees)
                 .build();
 
         Task savedTask = taskRepo.save(task);
         TaskRecord savedTaskRecord = TaskRecord.build(savedTask);
+        snapshotService.record(savedTaskRecord);
         messageService.sendTaskUpdate(null, savedTaskRecord, TaskMessage.MessageType.CREATED);
 
         return savedTask;
     }
 
-    public Optional<Task> updateTaskIfAllowed(
-            String username,
-            Long id,
-            String title,
-            String description,
-            String endDateStr,
-            String statusStr,
-            List<String> assigneeUsernames) {
+    /**
+     * Apply an edit, merged with the changes made since the state it is based on: the version the client sent, or
+     * else what the first attempt read (see {@link TaskEdit}). Fields changed on both sides to different values
+     * fail with {@link TaskConflictException}. An edit that leaves every field as it is writes nothing and keeps
+     * the version. The write is flushed, so a lost race surfaces here as an
+     * {@code OptimisticLockingFailureException} for the caller to retry; its event is sent in the caller's
+     * transaction and only delivered if that commits.
+     */
+    public Optional<Task> updateTaskIfAllowed(AuthenticatedUser user, Long id, TaskEdit edit) {
 
-        Optional<Task> taskOpt = taskRepo.findById(id);
+        Optional<Task> taskOpt = taskRepo.findByIdAndWorkspaceId(id, user.getWorkspaceId());
         if (taskOpt.isEmpty()) {
             return Optional.empty();
         }
@@ -101,6 +118,7 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskOpt.get();
         TaskRecord taskRecord = TaskRecord.build(task);
 
+        String username = user.getUsername();
         Boolean isOwner = task.getOwner().getUsername().equals(username);
         Boolean isAssignee = task.getAssignees()
                 .stream()
@@ -109,57 +127,190 @@ public class TaskServiceImpl implements TaskService {
             return Optional.empty();
         }
 
-        String newTitle = Optional
-                .ofNullable(title)
-                .orElse(task.getTitle());
-        Task.TaskStatus newStatus = Optional
-                .ofNullable(statusStr)
-                .map(Task.TaskStatus::valueOf)
-                .orElse(task.getStatus());
-        Instant newEndDate = Optional
-                .ofNullable(endDateStr)
-                .map(OffsetDateTime::parse)
-                .map(OffsetDateTime::toInstant)
-                .orElse(null);
-        Set<Account> assignees = Optional
-                .ofNullable(assigneeUsernames)
+        // Null when the base is unknown: the edit is then applied to the current state, and conflicts wherever
+        // it differs from it
+        TaskRecord base = edit.getBase();
+        if (base == null) {
+            base = resolveBase(taskRecord, edit.getVersion());
+            edit.setBase(base);
+        }
+        TaskRecord editedBase = base != null ? base : taskRecord;
+
+        Set<Account> requestedAssignees = Optional
+                .ofNullable(edit.getAssignees())
                 .map(usernames -> userRepo
-                        .findAllById(usernames)
+                        .findMembersByUsernameIn(user.getWorkspaceId(), usernames)
                         .stream()
                         .collect(Collectors.toSet()))
                 .orElse(Set.of());
 
+        TaskRecord edited = new TaskRecord(
+                editedBase.taskId(),
+                Optional.ofNullable(edit.getTitle()).orElse(editedBase.title()),
+                Optional.ofNullable(edit.getStatus()).map(Task.TaskStatus::valueOf).orElse(editedBase.status()),
+                editedBase.owner(),
+                edit.getDescription(),
+                Optional.ofNullable(edit.getEndDate())
+                        .map(OffsetDateTime::parse)
+                        .map(OffsetDateTime::toInstant)
+                        .map(Instant::toString)
+                        .orElse(null),
+                editedBase.createdAt(),
+                requestedAssignees.stream().map(Account::getUsername).toArray(String[]::new),
+                editedBase.telegramIds(),
+                editedBase.rank(),
+                editedBase.workspaceId(),
+                editedBase.version());
+
+        TaskMerge merge = base != null
+                ? TaskMerge.of(base, edited, taskRecord)
+                : TaskMerge.withoutBase(edited, taskRecord);
+        if (merge.hasConflicts()) {
+            throw new TaskConflictException(merge.conflicts(), TaskResponse.from(task));
+        }
+        TaskRecord merged = merge.merged();
+        if (!merge.changes(taskRecord)) {
+            return Optional.of(task);
+        }
+
+        // A card that changes column goes to the end of its new column
+        Task.TaskStatus newStatus = merged.status();
+        String newRank = newStatus == task.getStatus()
+                ? task.getRank()
+                : TaskRank.after(taskRepo.findMaxRank(task.getWorkspaceId(), newStatus));
+
         Task updated = task.toBuilder()
-                .title(newTitle)
-                .description(description)
-                .endDate(newEndDate)
+                .title(merged.title())
+                .description(merged.description())
+                .endDate(Optional.ofNullable(merged.endDate()).map(Instant::parse).orElse(null))
                 .status(newStatus)
-                .assignees(assignees)
+                .rank(newRank)
+                .assignees(Arrays.equals(merged.assignees(), edited.assignees())
+                        ? requestedAssignees
+                        : task.getAssignees())
                 .build();
 
-        Task savedTask = taskRepo.save(updated);
+        Task savedTask = taskRepo.saveAndFlush(updated);
         TaskRecord savedTaskRecord = TaskRecord.build(savedTask);
+        snapshotService.record(savedTaskRecord);
         messageService.sendTaskUpdate(taskRecord, savedTaskRecord, TaskMessage.MessageType.UPDATED);
 
         return Optional.of(savedTask);
     }
 
-    public boolean deleteIfOwner(String username, Long id) {
-        Optional<Task> taskOpt = taskRepo.findById(id);
+    /**
+     * Move a task between two neighbouring cards of a column, optionally changing its status. Only the moved
+     * task's row is written. {@code afterId} is the card that ends up directly above it and {@code beforeId} the
+     * one directly below; either is null at the top or bottom of the column, both when the column is empty.
+     */
+    public Optional<Task> moveTaskIfAllowed(
+            AuthenticatedUser user,
+            Long id,
+            String statusStr,
+            Long afterId,
+            Long beforeId) {
+
+        Optional<Task> taskOpt = taskRepo.findByIdAndWorkspaceId(id, user.getWorkspaceId());
+        if (taskOpt.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Task task = taskOpt.get();
+        TaskRecord taskRecord = TaskRecord.build(task);
+
+        String username = user.getUsername();
+        boolean isOwner = task.getOwner().getUsername().equals(username);
+        boolean isAssignee = task.getAssignees()
+                .stream()
+                .anyMatch(assignee -> assignee.getUsername().equals(username));
+        if (!isOwner && !isAssignee) {
+            return Optional.empty();
+        }
+
+        Task.TaskStatus newStatus = Optional
+                .ofNullable(statusStr)
+                .map(Task.TaskStatus::valueOf)
+                .orElse(task.getStatus());
+
+        Task moved = task.toBuilder()
+                .status(newStatus)
+                .rank(rankBetween(task.getWorkspaceId(), id, newStatus, afterId, beforeId))
+                .build();
+
+        Task savedTask = taskRepo.saveAndFlush(moved);
+        TaskRecord savedTaskRecord = TaskRecord.build(savedTask);
+        snapshotService.record(savedTaskRecord);
+        messageService.sendTaskUpdate(taskRecord, savedTaskRecord, TaskMessage.MessageType.UPDATED);
+
+        return Optional.of(savedTask);
+    }
+
+    public boolean deleteIfOwner(AuthenticatedUser user, Long id) {
+        Optional<Task> taskOpt = taskRepo.findByIdAndWorkspaceId(id, user.getWorkspaceId());
         if (taskOpt.isEmpty()) {
             return false;
         }
 
         Task task = taskOpt.get();
-        if (!task.getOwner().getUsername().equals(username)) {
+        if (!task.getOwner().getUsername().equals(user.getUsername())) {
             return false;
         }
 
         TaskRecord taskRecord = TaskRecord.build(task);
+        dependencyService.removeTasks(List.of(id));
         taskRepo.delete(task);
+        taskRepo.flush();
         messageService.sendTaskUpdate(taskRecord, null, TaskMessage.MessageType.DELETED);
 
         return true;
     }
 
+    // The state a client's edit was made against: the current one, or an earlier one from its snapshot. A version
+    // without one (a rank rebalance) falls back to the newest earlier snapshot: a field changed in between then
+    // counts as changed on both sides, so it may conflict but is never overwritten. Null once snapshots that old
+    // have expired
+    private TaskRecord resolveBase(TaskRecord current, Long version) {
+        if (version == null || version.equals(current.version())) {
+            return current;
+        }
+        return snapshotService.findAtOrBefore(current.taskId(), version).orElse(null);
+    }
+
+    private String rankBetween(Long workspaceId, Long id, Task.TaskStatus status, Long afterId, Long beforeId) {
+        if (afterId == null && beforeId == null) {
+            return TaskRank.after(taskRepo.findMaxRank(workspaceId, status));
+        }
+
+        // Tasks of other workspaces are not found, like missing ones
+        List<Long> neighbourIds = Stream.of(afterId, beforeId).filter(Objects::nonNull).toList();
+        Map<Long, Task> neighbours = taskRepo.lockByIdIn(workspaceId, neighbourIds)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        String lower = neighbourRank(neighbours, afterId, id, status);
+        String upper = neighbourRank(neighbours, beforeId, id, status);
+
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new ConflictException("Tasks " + afterId + " and " + beforeId + " are no longer in that order");
+        }
+        return TaskRank.between(lower, upper);
+    }
+
+    private static String neighbourRank(Map<Long, Task> neighbours, Long neighbourId, Long id, Task.TaskStatus status) {
+        if (neighbourId == null) {
+            return null;
+        }
+        if (neighbourId.equals(id)) {
+            throw new BadRequestException("A task cannot be placed next to itself");
+        }
+
+        Task neighbour = neighbours.get(neighbourId);
+        if (neighbour == null) {
+            throw new ResourceNotFoundException("Task " + neighbourId + " not found");
+        }
+        if (neighbour.getStatus() != status) {
+            throw new ConflictException("Task " + neighbourId + " is no longer in " + status);
+        }
+        return neighbour.getRank();
+    }
+
 }
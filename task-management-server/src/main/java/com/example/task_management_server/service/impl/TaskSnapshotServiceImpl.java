@@ -0,0 +1,79 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.repository.TaskSnapshotRepository;
+import com.example.task_management_server.service.TaskSnapshotService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * States of tasks by version in {@code task_snapshot}, the bases that edits sent with an older version are merged
+ * against. Each change records its snapshot in its own transaction, so the snapshot is on every node exactly when
+ * the change is, and a lookup reads one row by primary key. Snapshots are kept for
+ * {@code app.task-snapshots.retention}; an edit based on a version older than that is merged without a base.
+ */
+@Service
+public class TaskSnapshotServiceImpl implements TaskSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSnapshotServiceImpl.class);
+
+    private final TaskSnapshotRepository snapshotRepo;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.task-snapshots.retention:30d}")
+    private Duration retention;
+
+    public TaskSnapshotServiceImpl(TaskSnapshotRepository snapshotRepo, ObjectMapper objectMapper) {
+        this.snapshotRepo = snapshotRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Record the task as it is after a change; joins the transaction of the change.
+     */
+    @Transactional
+    public void record(TaskRecord record) {
+        try {
+            snapshotRepo.insert(record.taskId(), record.version(), objectMapper.writeValueAsString(record),
+                    Instant.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unwritable snapshot of task " + record.taskId(), e);
+        }
+    }
+
+    /**
+     * The task at {@code version} or, when that version has no snapshot (rank rebalancing changes only the rank
+     * and records none), at the newest earlier one. Empty if there is none that old.
+     */
+    @Transactional(readOnly = true)
+    public Optional<TaskRecord> findAtOrBefore(long taskId, long version) {
+        return snapshotRepo.findRecordAtOrBefore(taskId, version).map(json -> {
+            try {
+                return objectMapper.readValue(json, TaskRecord.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unreadable snapshot of task " + taskId, e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.task-snapshots.retention-cron:0 45 4 * * *}")
+    @Transactional
+    public int deleteExpired() {
+        int deleted = snapshotRepo.deleteRecordedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            logger.info("Deleted {} task snapshots older than {}", deleted, retention);
+        }
+        return deleted;
+    }
+
+}
@@ -1,17 +1,27 @@
 package com.example.task_management_server.service.impl;
 
+import com.example.task_management_server.client.CircuitBreaker;
+import com.example.task_management_server.client.TelegramClient;
+import com.example.task_management_server.exception.ConflictException;
 import com.example.task_management_server.model.Account;
 import com.example.task_management_server.repository.AccountRepository;
+import com.example.task_management_server.repository.TelegramOffsetRepository;
+import com.example.task_management_server.service.IdempotencyService;
 import com.example.task_management_server.service.JwtService;
+import com.example.task_management_server.service.LeaderLeaseService;
 import com.example.task_management_server.service.TelegramService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,108 +31,205 @@ import java.util.Optional;
 @SuppressWarnings("unchecked")
 public class TelegramServiceImpl implements TelegramService {
     private static final Logger logger = LoggerFactory.getLogger(TelegramServiceImpl.class);
-    private final RestTemplate restTemplate;
+    static final String POLLER_LEASE = "telegram-poller";
+    private static final String UPDATE_SCOPE = "telegram-update";
+    @Autowired
+    private TelegramClient telegramClient;
     @Autowired
     private AccountRepository accountRepository;
     @Autowired
     private JwtService jwtService;
-    private Long lastUpdateId = -1L;
-
-    @Value("${telegram.bot.token}")
-    private String botToken;
-
-    public TelegramServiceImpl() {
-        this.restTemplate = new RestTemplate();
+    @Autowired
+    private LeaderLeaseService leaseService;
+    @Autowired
+    private TelegramOffsetRepository offsetRepository;
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private ObservationRegistry observationRegistry;
+    // Only touched by the scheduler thread; reloaded from telegram_offset whenever the lease is acquired
+    private long lastUpdateId = -1L;
+    private volatile boolean leader;
+
+    @Value("${telegram.poller.long-poll-timeout:2s}")
+    private Duration longPollTimeout;
+
+    @Value("${telegram.client.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${telegram.client.read-timeout:10s}")
+    private Duration readTimeout;
+
+    @Value("${app.leader-lease.ttl:15s}")
+    private Duration leaseTtl;
+
+    /**
+     * A getUpdates call may block for up to the connect plus read timeout. If that outlived the lease, a stalled
+     * leader would still be polling when its successor starts, and Telegram rejects concurrent polls with 409.
+     */
+    @PostConstruct
+    public void checkPollFitsLease() {
+        if (readTimeout.compareTo(longPollTimeout) <= 0) {
+            throw new IllegalStateException("telegram.client.read-timeout (" + readTimeout
+                    + ") must exceed telegram.poller.long-poll-timeout (" + longPollTimeout + ")");
+        }
+        if (connectTimeout.plus(readTimeout).compareTo(leaseTtl) >= 0) {
+            throw new IllegalStateException("telegram.client.connect-timeout plus read-timeout (" + connectTimeout
+                    + " + " + readTimeout + ") must stay below app.leader-lease.ttl (" + leaseTtl + ")");
+        }
     }
 
-    @Scheduled(fixedDelay = 1000)
+    /**
+     * Long-poll Telegram for new updates. Only the instance holding the {@value #POLLER_LEASE} lease polls;
+     * the others make one lease attempt per tick and return. The lease is renewed right before each call and
+     * outlasts it (see {@link #checkPollFitsLease()}), and a follower takes over within about one TTL after the
+     * leader dies.
+     * <p>
+     * The stored offset only moves past an update once it has been handled. An update whose handling fails is
+     * fetched again on the next poll, and the updates after it wait for it.
+     */
+    @Scheduled(fixedDelay = 1000, initialDelayString = "${telegram.poller.initial-delay-ms:0}")
     public void pollMessages() {
+        if (!leaseService.tryAcquire(POLLER_LEASE)) {
+            if (leader) {
+                leader = false;
+                logger.info("Lost Telegram poller lease, {} is now a follower", leaseService.getHolderId());
+            }
+            return;
+        }
+        if (!leader) {
+            // Resume from the offset stored by the previous leader
+            lastUpdateId = offsetRepository.findLastUpdateId(POLLER_LEASE).orElse(-1L);
+            leader = true;
+            logger.info("Acquired Telegram poller lease as {}, resuming after update {}",
+                    leaseService.getHolderId(), lastUpdateId);
+        }
+
         try {
-            String url = String.format(
-                    "https://api.telegram.org/bot%s/getUpdates?offset=%d&timeout=60",
-                    botToken,
-                    lastUpdateId + 1);
+            Map<String, Object> response = telegramClient.getUpdates(lastUpdateId + 1, longPollTimeout);
+            if (response == null || !Boolean.TRUE.equals(response.get("ok"))) {
+                return;
+            }
 
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-            Boolean ok = (Boolean) response.get("ok");
             List<Map<String, Object>> updates = (List<Map<String, Object>>) response.get("result");
-
-            if (response == null || !ok || updates == null) {
+            if (updates == null) {
                 return;
             }
 
             for (Map<String, Object> update : updates) {
-                Number updateId = (Number) update.get("update_id");
-                if (updateId != null) {
-                    lastUpdateId = Math.max(lastUpdateId, updateId.longValue());
+                // Renew before each update; stop if another instance has taken over in the meantime
+                if (!leaseService.tryAcquire(POLLER_LEASE)) {
+                    leader = false;
+                    return;
                 }
 
-                Map<String, Object> message = (Map<String, Object>) update.get("message");
-                if (message == null) {
+                Number updateId = (Number) update.get("update_id");
+                if (updateId == null) {
                     continue;
                 }
+                // Handled and marked as handled in one transaction. A leader that paused past its lease may still
+                // be handling this update while its successor fetches it; the successor then backs off until the
+                // next poll.
+                idempotencyService.runOnce(UPDATE_SCOPE, String.valueOf(updateId.longValue()),
+                        () -> handleUpdate(update));
+                lastUpdateId = Math.max(lastUpdateId, updateId.longValue());
+                offsetRepository.advance(POLLER_LEASE, lastUpdateId);
+            }
 
-                Map<String, Object> chat = (Map<String, Object>) message.get("chat");
-                Number chatId = (Number) chat.get("id");
-                String text = (String) message.get("text");
+        } catch (CircuitBreaker.OpenException e) {
+            // Telegram is unhealthy; the breaker lets a trial poll through once its open duration has passed
+            logger.debug("Skipping Telegram poll: {}", e.getMessage());
+        } catch (ConflictException e) {
+            logger.info("Telegram update is being handled by another instance: {}", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error polling Telegram messages: {}", e.getMessage(), e);
+        }
+    }
 
-                if (chatId == null || text == null) {
-                    continue;
-                }
+    // Links the sender's chat to the account whose Telegram key ends the message text
+    private void handleUpdate(Map<String, Object> update) {
+        Map<String, Object> message = (Map<String, Object>) update.get("message");
+        if (message == null) {
+            return;
+        }
 
-                String chatIdStr = String.valueOf(chatId);
+        Map<String, Object> chat = (Map<String, Object>) message.get("chat");
+        Number chatId = (Number) chat.get("id");
+        String text = (String) message.get("text");
 
-                String[] parts = text.split("\\s+");
-                if (parts.length == 0) {
-                    continue;
-                }
+        if (chatId == null || text == null) {
+            return;
+        }
 
-                String token = parts[parts.length - 1];
-                String username = jwtService.validateTelegramKey(token);
-                if (username == null) {
-                    continue;
-                }
+        String chatIdStr = String.valueOf(chatId);
 
-                Optional<Account> accountOpt = accountRepository.findById(username);
-                if (accountOpt.isEmpty()) {
-                    continue;
-                }
+        String[] parts = text.split("\\s+");
+        if (parts.length == 0) {
+            return;
+        }
 
-                Account account = accountOpt
-                        .get()
-                        .toBuilder()
-                        .telegramId(chatIdStr)
-                        .build();
-                accountRepository.save(account);
+        String token = parts[parts.length - 1];
+        String username = jwtService.validateTelegramKey(token);
+        if (username == null) {
+            return;
+        }
 
-                String welcomeMsg = String.format("🎉 Welcome to Manado Task Management Bot!\n\n" +
-                        "Your account (<code>@%s</code>) has been successfully connected. " +
-                        "You'll now receive task updates here.", account.getUsername());
+        Optional<Account> accountOpt = accountRepository.findById(username);
+        if (accountOpt.isEmpty()) {
+            return;
+        }
 
-                sendMessage(chatIdStr, welcomeMsg);
-            }
+        Account account = accountOpt
+                .get()
+                .toBuilder()
+                .telegramId(chatIdStr)
+                .build();
+        accountRepository.save(account);
 
-        } catch (
+        String welcomeMsg = String.format("🎉 Welcome to Manado Task Management Bot!\n\n" +
+                "Your account (<code>@%s</code>) has been successfully connected. " +
+                "You'll now receive task updates here.", account.getUsername());
 
-                Exception e) {
-            logger.error("Error polling Telegram messages: {}", e.getMessage(), e);
+        sendMessage(chatIdStr, welcomeMsg);
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leader) {
+            leaseService.release(POLLER_LEASE);
+            leader = false;
         }
     }
 
+    /**
+     * Best-effort delivery: while the Telegram circuit is open, notifications are dropped instead of
+     * tying up the listener thread that produced them.
+     * <p>
+     * Each call is observed as {@code telegram.send} with its {@code outcome} ({@code sent}, {@code dropped} or
+     * {@code failed}): a timer, and a span in the trace of the task event being handled.
+     */
     public void sendMessage(String chatId, String message) {
-        String url = String.format("https://api.telegram.org/bot%s/sendMessage", botToken);
-
         Map<String, String> body = new HashMap<>();
         body.put("chat_id", String.valueOf(chatId));
         body.put("text", message);
         body.put("parse_mode", "HTML");
         body.put("disable_web_page_preview", "true");
 
-        try {
-            restTemplate.postForObject(url, body, Object.class);
-        } catch (Exception e) {
-            logger.error("Error sending message to {}: {}", chatId, e.getMessage(), e);
-        }
+        // No contextual name: the span is named telegram.send as well, a name exporters keep as it is
+        Observation observation = Observation.createNotStarted("telegram.send", observationRegistry);
+        observation.observe(() -> {
+            try {
+                telegramClient.sendMessage(body);
+                observation.lowCardinalityKeyValue("outcome", "sent");
+            } catch (CircuitBreaker.OpenException e) {
+                observation.lowCardinalityKeyValue("outcome", "dropped");
+                logger.debug("Dropped Telegram message to {}: {}", chatId, e.getMessage());
+            } catch (Exception e) {
+                observation.lowCardinalityKeyValue("outcome", "failed");
+                observation.error(e);
+                logger.error("Error sending message to {}: {}", chatId, e.getMessage(), e);
+            }
+        });
     }
 
     public String getTelegramChat(String username) {
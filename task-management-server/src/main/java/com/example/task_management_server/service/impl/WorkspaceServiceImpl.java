@@ -0,0 +1,136 @@
+package com.example.task_management_server.service.impl;
+
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.exception.ForbiddenException;
+import com.example.task_management_server.exception.ResourceNotFoundException;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.model.WorkspaceMember;
+import com.example.task_management_server.repository.AccountRepository;
+import com.example.task_management_server.repository.WorkspaceMemberRepository;
+import com.example.task_management_server.repository.WorkspaceRepository;
+import com.example.task_management_server.service.WorkspaceService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Workspaces and their members. Every authenticated request checks membership, so each node caches the
+ * member list of every workspace it serves, one entry per workspace: loading or refreshing a large
+ * workspace's entry never touches, locks or evicts a small one's.
+ * <p>
+ * The first membership check or directory read of a workspace loads its member set, which then answers both
+ * until it is older than {@code app.workspaces.directory-ttl}. Members are never removed, so a cached "is a
+ * member" answer cannot go stale; a username missing from the set falls back to a primary key lookup, which picks
+ * up members added on other nodes before the set is reloaded.
+ */
+@Service
+public class WorkspaceServiceImpl implements WorkspaceService {
+
+    private final WorkspaceRepository workspaceRepo;
+    private final WorkspaceMemberRepository memberRepo;
+    private final AccountRepository accountRepo;
+    private final ConcurrentMap<Long, Members> members = new ConcurrentHashMap<>();
+
+    @Value("${app.workspaces.directory-ttl:30s}")
+    private Duration directoryTtl;
+
+    public WorkspaceServiceImpl(
+            WorkspaceRepository workspaceRepo,
+            WorkspaceMemberRepository memberRepo,
+            AccountRepository accountRepo) {
+        this.workspaceRepo = workspaceRepo;
+        this.memberRepo = memberRepo;
+        this.accountRepo = accountRepo;
+    }
+
+    public boolean isMember(long workspaceId, String username) {
+        Members cached = members(workspaceId);
+        if (cached.usernames().contains(username)) {
+            return true;
+        }
+        if (!memberRepo.existsById(new WorkspaceMember.Key(workspaceId, username))) {
+            return false;
+        }
+        cached.usernames().add(username);
+        return true;
+    }
+
+    /**
+     * Usernames of the workspace's members, sorted. May lag members added on other nodes by up to
+     * {@code app.workspaces.directory-ttl}.
+     */
+    public List<String> getMemberUsernames(long workspaceId) {
+        return members(workspaceId).usernames().stream().sorted().toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Workspace> getWorkspaces(String username) {
+        return workspaceRepo.findByMember(username);
+    }
+
+    @Transactional
+    public Workspace createWorkspace(AuthenticatedUser user, String name) {
+        Workspace workspace = workspaceRepo.save(Workspace.builder()
+                .name(name)
+                .createdAt(Instant.now())
+                .build());
+        join(workspace.getId(), user.getUsername());
+        return workspace;
+    }
+
+    /**
+     * Add an account to a workspace. Any member may add others; adding an existing member is a no-op.
+     */
+    @Transactional
+    public void addMember(AuthenticatedUser user, Long workspaceId, String username) {
+        if (!workspaceRepo.existsById(workspaceId)) {
+            throw new ResourceNotFoundException("Workspace " + workspaceId + " not found");
+        }
+        if (!isMember(workspaceId, user.getUsername())) {
+            throw new ForbiddenException("Only members can add others to workspace " + workspaceId);
+        }
+        if (!accountRepo.existsById(username)) {
+            throw new ResourceNotFoundException("User " + username + " not found");
+        }
+        if (!memberRepo.existsById(new WorkspaceMember.Key(workspaceId, username))) {
+            join(workspaceId, username);
+        }
+    }
+
+    @Transactional
+    public void joinDefaultWorkspace(String username) {
+        join(Workspace.DEFAULT_ID, username);
+    }
+
+    private void join(Long workspaceId, String username) {
+        memberRepo.save(WorkspaceMember.builder()
+                .workspaceId(workspaceId)
+                .username(username)
+                .joinedAt(Instant.now())
+                .build());
+        // The next directory read on this node reloads; other nodes catch up within the TTL
+        members.remove(workspaceId);
+    }
+
+    private Members members(long workspaceId) {
+        Members cached = members.get(workspaceId);
+        if (cached == null || cached.loadedAt().isBefore(Instant.now().minus(directoryTtl))) {
+            // Loaded outside the map so a slow load holds no lock shared with other workspaces
+            cached = new Members(ConcurrentHashMap.newKeySet(), Instant.now());
+            cached.usernames().addAll(memberRepo.findUsernamesByWorkspaceId(workspaceId));
+            members.put(workspaceId, cached);
+        }
+        return cached;
+    }
+
+    private record Members(Set<String> usernames, Instant loadedAt) {
+    }
+
+}
@@ -0,0 +1,2 @@
+-- Calendar reads: one member's cards due in a date window, in due order, as a range scan on this index.
+CREATE INDEX idx_task_board_view_due ON task_board_view (workspace_id, username, end_date, task_id);
@@ -0,0 +1,17 @@
+-- Outcomes of requests sent with an Idempotency-Key, and Telegram update ids already handled. A row with a
+-- NULL status is a request still running on some node, until locked_until; rows are deleted after expires_at.
+CREATE TABLE idempotency_key
+(
+    scope        VARCHAR(128)                NOT NULL,
+    idem_key     VARCHAR(255)                NOT NULL,
+    fingerprint  VARCHAR(64)                 NOT NULL,
+    status       INTEGER,
+    body         TEXT,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    locked_until TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_idempotency_key PRIMARY KEY (scope, idem_key)
+);
+
+-- Eviction deletes by expiry, oldest first
+CREATE INDEX idx_idempotency_key_expiry ON idempotency_key (expires_at);
@@ -0,0 +1,4 @@
+-- Optimistic locking: every write to a task checks and increments its version (Task.version). The board view
+-- carries the version of the state it shows, so clients can send it back as the base of an edit.
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_board_view ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
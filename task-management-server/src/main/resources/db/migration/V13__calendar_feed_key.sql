@@ -0,0 +1,3 @@
+-- Calendar feed keys carry the member's calendar_key_version and only unlock the feed while it is current: issuing
+-- a new feed path increments it, which revokes every path issued before
+ALTER TABLE workspace_member ADD COLUMN calendar_key_version BIGINT NOT NULL DEFAULT 0;
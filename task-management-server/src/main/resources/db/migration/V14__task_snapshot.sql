@@ -0,0 +1,14 @@
+-- States of tasks by version, the bases of merged edits (PUT /tasks/{id} with a version). Written in the transaction
+-- of each change, so every node finds a version as soon as it commits; the primary key serves "the newest version at
+-- or before n" as one backward range scan. Rows go with their task and are deleted after app.task-snapshots.retention
+CREATE TABLE task_snapshot
+(
+    task_id     BIGINT                      NOT NULL,
+    version     BIGINT                      NOT NULL,
+    record      TEXT                        NOT NULL,
+    recorded_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_task_snapshot PRIMARY KEY (task_id, version),
+    CONSTRAINT fk_task_snapshot_task FOREIGN KEY (task_id) REFERENCES task (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_task_snapshot_recorded_at ON task_snapshot (recorded_at);
@@ -0,0 +1,33 @@
+-- Baseline schema, equivalent to what Hibernate generated from the entities
+-- while spring.jpa.hibernate.ddl-auto was still in use.
+
+CREATE TABLE account
+(
+    username    VARCHAR(64)  NOT NULL,
+    email       TEXT         NOT NULL,
+    password    VARCHAR(128) NOT NULL,
+    telegram_id VARCHAR(64),
+    CONSTRAINT pk_account PRIMARY KEY (username)
+);
+
+CREATE TABLE task
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    title       TEXT        NOT NULL,
+    description TEXT,
+    end_date    TIMESTAMP(6) WITH TIME ZONE,
+    status      INTEGER     NOT NULL,
+    owner_id    VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_task PRIMARY KEY (id),
+    CONSTRAINT fk_task_owner FOREIGN KEY (owner_id) REFERENCES account (username)
+);
+
+CREATE TABLE account_task
+(
+    task_id BIGINT      NOT NULL,
+    user_id VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_account_task PRIMARY KEY (task_id, user_id),
+    CONSTRAINT fk_account_task_task FOREIGN KEY (task_id) REFERENCES task (id),
+    CONSTRAINT fk_account_task_user FOREIGN KEY (user_id) REFERENCES account (username)
+);
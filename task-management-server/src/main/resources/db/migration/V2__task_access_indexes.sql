@@ -0,0 +1,12 @@
+-- Board query: tasks owned by a user, grouped into status columns and sorted by due date.
+CREATE INDEX idx_task_board ON task (owner_id, status, end_date);
+
+-- Assignee path: account_task is keyed (task_id, user_id), so lookups by user need their own index.
+-- Including task_id makes it covering for the join back to task.
+CREATE INDEX idx_account_task_user ON account_task (user_id, task_id);
+
+-- Due-date range scans (calendar, urgent tasks).
+CREATE INDEX idx_task_end_date ON task (end_date);
+
+-- Status scans across all owners (summaries, housekeeping jobs).
+CREATE INDEX idx_task_status ON task (status);
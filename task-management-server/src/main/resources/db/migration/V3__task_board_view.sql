@@ -0,0 +1,18 @@
+-- Denormalized board read model: one row per (member, task), where members are the owner and assignees.
+-- Maintained from task events; see TaskBoardViewServiceImpl. Existing tasks are projected on first startup.
+CREATE TABLE task_board_view
+(
+    username    VARCHAR(64) NOT NULL,
+    task_id     BIGINT      NOT NULL,
+    title       TEXT        NOT NULL,
+    description TEXT,
+    status      INTEGER     NOT NULL,
+    end_date    TIMESTAMP(6) WITH TIME ZONE,
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    owner       VARCHAR(64) NOT NULL,
+    assignees   TEXT        NOT NULL,
+    CONSTRAINT pk_task_board_view PRIMARY KEY (username, task_id)
+);
+
+-- Projection updates and deletes address all rows of a task.
+CREATE INDEX idx_task_board_view_task ON task_board_view (task_id);
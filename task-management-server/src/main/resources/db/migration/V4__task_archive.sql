@@ -0,0 +1,32 @@
+-- Last modification time; DONE tasks untouched for longer than app.archive.done-age are archived.
+ALTER TABLE task ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE;
+UPDATE task SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP);
+
+-- The archival job walks DONE tasks in id order (keyset pagination); status lookups stay covered.
+DROP INDEX idx_task_status;
+CREATE INDEX idx_task_status ON task (status, id);
+
+CREATE TABLE task_archive
+(
+    id          BIGINT      NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE,
+    archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    title       TEXT        NOT NULL,
+    description TEXT,
+    end_date    TIMESTAMP(6) WITH TIME ZONE,
+    status      INTEGER     NOT NULL,
+    owner_id    VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_task_archive PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_task_archive_owner ON task_archive (owner_id, id);
+
+CREATE TABLE account_task_archive
+(
+    task_id BIGINT      NOT NULL,
+    user_id VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_account_task_archive PRIMARY KEY (task_id, user_id)
+);
+
+CREATE INDEX idx_account_task_archive_user ON account_task_archive (user_id, task_id);
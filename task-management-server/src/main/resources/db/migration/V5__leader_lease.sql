@@ -0,0 +1,23 @@
+-- Time-bounded leases for work that must run on exactly one instance (see LeaderLeaseService).
+-- Rows are seeded per lease name; a lease is free once expires_at has passed.
+CREATE TABLE leader_lease
+(
+    name       VARCHAR(64)                 NOT NULL,
+    holder     VARCHAR(128),
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_leader_lease PRIMARY KEY (name)
+);
+
+INSERT INTO leader_lease (name, holder, expires_at)
+VALUES ('telegram-poller', NULL, TIMESTAMP WITH TIME ZONE '1970-01-01 00:00:00+00');
+
+-- getUpdates offset of the Telegram poller, shared by whichever instance holds the lease.
+CREATE TABLE telegram_offset
+(
+    name           VARCHAR(64) NOT NULL,
+    last_update_id BIGINT      NOT NULL,
+    CONSTRAINT pk_telegram_offset PRIMARY KEY (name)
+);
+
+INSERT INTO telegram_offset (name, last_update_id)
+VALUES ('telegram-poller', -1);
@@ -0,0 +1,19 @@
+-- Position of a task within its status column: a fractional-index key (see TaskRank) that sorts as a plain
+-- string. Moving a card only rewrites its own key. Keys use [0-9a-z], which sorts the same in every collation.
+ALTER TABLE task ADD COLUMN sort_rank VARCHAR(255);
+ALTER TABLE task_board_view ADD COLUMN sort_rank VARCHAR(255);
+
+-- Existing tasks keep their id order: the zero-padded id plus a trailing '1' (keys never end in '0').
+-- The rebalancing job shortens these keys once a column exceeds app.rank.rebalance.max-length.
+UPDATE task SET sort_rank = LPAD(CAST(id AS VARCHAR), 19, '0') || '1';
+UPDATE task_board_view SET sort_rank = (SELECT t.sort_rank FROM task t WHERE t.id = task_board_view.task_id);
+UPDATE task_board_view SET sort_rank = LPAD(CAST(task_id AS VARCHAR), 19, '0') || '1' WHERE sort_rank IS NULL;
+
+ALTER TABLE task ALTER COLUMN sort_rank SET NOT NULL;
+ALTER TABLE task_board_view ALTER COLUMN sort_rank SET NOT NULL;
+
+-- New cards go after the last key of their column; the rebalancing job walks a column in key order.
+CREATE INDEX idx_task_rank ON task (status, sort_rank);
+
+-- Board query: a member's tasks, column by column, in rank order.
+CREATE INDEX idx_task_board_view_rank ON task_board_view (username, status, sort_rank, task_id);
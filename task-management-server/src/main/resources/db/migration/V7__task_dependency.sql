@@ -0,0 +1,37 @@
+-- "blocker_id blocks blocked_id". Each node keeps the transitive closure in memory (DependencyGraph), so
+-- cycle checks and blocked-by queries never run recursive SQL.
+CREATE TABLE task_dependency
+(
+    blocker_id BIGINT NOT NULL,
+    blocked_id BIGINT NOT NULL,
+    CONSTRAINT pk_task_dependency PRIMARY KEY (blocker_id, blocked_id),
+    CONSTRAINT fk_task_dependency_blocker FOREIGN KEY (blocker_id) REFERENCES task (id),
+    CONSTRAINT fk_task_dependency_blocked FOREIGN KEY (blocked_id) REFERENCES task (id)
+);
+
+CREATE INDEX idx_task_dependency_blocked ON task_dependency (blocked_id, blocker_id);
+
+-- Every insert and delete on task_dependency, in commit order. Nodes apply the entries after the last
+-- sequence they have seen to their in-memory graph; old entries are pruned after app.dependencies.change-retention.
+CREATE TABLE task_dependency_change
+(
+    seq        BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    blocker_id BIGINT                      NOT NULL,
+    blocked_id BIGINT                      NOT NULL,
+    added      BOOLEAN                     NOT NULL,
+    changed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_task_dependency_change PRIMARY KEY (seq)
+);
+
+CREATE INDEX idx_task_dependency_change_time ON task_dependency_change (changed_at);
+
+-- Locked by every dependency write, so writes commit one at a time and in sequence order, and each cycle
+-- check sees every earlier write.
+CREATE TABLE task_dependency_lock
+(
+    name VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_task_dependency_lock PRIMARY KEY (name)
+);
+
+INSERT INTO task_dependency_lock (name)
+VALUES ('task-dependency');
@@ -0,0 +1,67 @@
+-- Workspaces partition tasks between teams. Accounts join workspaces through workspace_member; every task,
+-- board row and archived task belongs to exactly one workspace.
+CREATE TABLE workspace
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name       VARCHAR(128)                NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_workspace PRIMARY KEY (id)
+);
+
+-- Everything that existed before workspaces moves into the default workspace (id 1), which every account
+-- joins. Requests without an X-Workspace-Id header use it.
+INSERT INTO workspace (id, name, created_at)
+VALUES (1, 'Default', CURRENT_TIMESTAMP);
+ALTER TABLE workspace ALTER COLUMN id RESTART WITH 2;
+
+CREATE TABLE workspace_member
+(
+    workspace_id BIGINT                      NOT NULL,
+    username     VARCHAR(64)                 NOT NULL,
+    joined_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_workspace_member PRIMARY KEY (workspace_id, username),
+    CONSTRAINT fk_workspace_member_workspace FOREIGN KEY (workspace_id) REFERENCES workspace (id),
+    CONSTRAINT fk_workspace_member_account FOREIGN KEY (username) REFERENCES account (username)
+);
+
+-- "Which workspaces am I in"
+CREATE INDEX idx_workspace_member_user ON workspace_member (username, workspace_id);
+
+INSERT INTO workspace_member (workspace_id, username, joined_at)
+SELECT 1, username, CURRENT_TIMESTAMP FROM account;
+
+ALTER TABLE task ADD COLUMN workspace_id BIGINT;
+UPDATE task SET workspace_id = 1;
+ALTER TABLE task ALTER COLUMN workspace_id SET NOT NULL;
+ALTER TABLE task ADD CONSTRAINT fk_task_workspace FOREIGN KEY (workspace_id) REFERENCES workspace (id);
+
+ALTER TABLE task_board_view ADD COLUMN workspace_id BIGINT;
+UPDATE task_board_view SET workspace_id = 1;
+ALTER TABLE task_board_view ALTER COLUMN workspace_id SET NOT NULL;
+
+ALTER TABLE task_archive ADD COLUMN workspace_id BIGINT;
+UPDATE task_archive SET workspace_id = 1;
+ALTER TABLE task_archive ALTER COLUMN workspace_id SET NOT NULL;
+
+ALTER TABLE account_task_archive ADD COLUMN workspace_id BIGINT;
+UPDATE account_task_archive SET workspace_id = 1;
+ALTER TABLE account_task_archive ALTER COLUMN workspace_id SET NOT NULL;
+
+-- Per-tenant access paths lead with workspace_id, so each workspace reads its own contiguous index range and
+-- a large workspace never widens the ranges a small one scans. Housekeeping indexes (idx_task_status,
+-- idx_task_end_date, idx_task_board_view_task) stay global: the jobs that use them walk every workspace.
+-- account_task is a plain join table mapped by Task; assignee lookups join back to task for the workspace.
+DROP INDEX idx_task_board;
+CREATE INDEX idx_task_board ON task (workspace_id, owner_id, status, end_date);
+
+DROP INDEX idx_task_rank;
+CREATE INDEX idx_task_rank ON task (workspace_id, status, sort_rank);
+
+DROP INDEX idx_task_board_view_rank;
+CREATE INDEX idx_task_board_view_rank ON task_board_view (workspace_id, username, status, sort_rank, task_id);
+
+DROP INDEX idx_task_archive_owner;
+CREATE INDEX idx_task_archive_owner ON task_archive (workspace_id, owner_id, id);
+
+DROP INDEX idx_account_task_archive_user;
+CREATE INDEX idx_account_task_archive_user ON account_task_archive (workspace_id, user_id, task_id);
@@ -0,0 +1,35 @@
+-- Daily rollup of task status changes, so throughput and burndown charts read one row per day instead of
+-- scanning tasks. Maintained from task events by the projection consumer; see AnalyticsServiceImpl.
+-- Rows with an empty username hold the workspace totals; the others hold what each member did that day.
+CREATE TABLE task_daily_stats
+(
+    workspace_id BIGINT      NOT NULL,
+    username     VARCHAR(64) NOT NULL,
+    stat_day     DATE        NOT NULL,
+    created      INTEGER     NOT NULL,
+    started      INTEGER     NOT NULL,
+    completed    INTEGER     NOT NULL,
+    reopened     INTEGER     NOT NULL,
+    removed      INTEGER     NOT NULL,
+    CONSTRAINT pk_task_daily_stats PRIMARY KEY (workspace_id, username, stat_day)
+);
+
+-- Workspace totals for tasks that existed before the rollup: created on their creation day and, when DONE
+-- (archived tasks always are), completed on the day they were last modified. Starts were never recorded,
+-- and per-member series begin with this migration.
+INSERT INTO task_daily_stats (workspace_id, username, stat_day, created, started, completed, reopened, removed)
+SELECT workspace_id, '', stat_day, SUM(created), 0, SUM(completed), 0, 0
+FROM (SELECT workspace_id, CAST(COALESCE(created_at, updated_at) AS DATE) AS stat_day, 1 AS created, 0 AS completed
+      FROM task
+      UNION ALL
+      SELECT workspace_id, CAST(updated_at AS DATE), 0, 1
+      FROM task
+      WHERE status = 2
+      UNION ALL
+      SELECT workspace_id, CAST(COALESCE(created_at, updated_at, archived_at) AS DATE), 1, 0
+      FROM task_archive
+      UNION ALL
+      SELECT workspace_id, CAST(COALESCE(updated_at, archived_at) AS DATE), 0, 1
+      FROM task_archive) events
+WHERE stat_day IS NOT NULL
+GROUP BY workspace_id, stat_day;
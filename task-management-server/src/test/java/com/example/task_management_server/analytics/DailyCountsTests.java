@@ -0,0 +1,67 @@
+package com.example.task_management_server.analytics;
+
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.model.Task;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyCountsTests {
+
+    @Test
+    void creationOpensATask() {
+        DailyCounts counts = DailyCounts.of(
+                new TaskMessage(null, record(Task.TaskStatus.TODO), TaskMessage.MessageType.CREATED));
+
+        assertThat(counts).isEqualTo(new DailyCounts(1, 0, 0, 0, 0));
+        assertThat(counts.added() - counts.closed()).isEqualTo(1);
+    }
+
+    @Test
+    void taskCreatedDoneIsNeverOpen() {
+        DailyCounts counts = DailyCounts.of(
+                new TaskMessage(null, record(Task.TaskStatus.DONE), TaskMessage.MessageType.CREATED));
+
+        assertThat(counts).isEqualTo(new DailyCounts(1, 0, 1, 0, 0));
+        assertThat(counts.added() - counts.closed()).isZero();
+    }
+
+    @Test
+    void statusChangesCountStartsCompletionsAndReopens() {
+        assertThat(update(Task.TaskStatus.TODO, Task.TaskStatus.IN_PROGRESS))
+                .isEqualTo(new DailyCounts(0, 1, 0, 0, 0));
+        assertThat(update(Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.DONE))
+                .isEqualTo(new DailyCounts(0, 0, 1, 0, 0));
+        assertThat(update(Task.TaskStatus.DONE, Task.TaskStatus.IN_PROGRESS))
+                .isEqualTo(new DailyCounts(0, 1, 0, 1, 0));
+        assertThat(update(Task.TaskStatus.DONE, Task.TaskStatus.TODO))
+                .isEqualTo(new DailyCounts(0, 0, 0, 1, 0));
+    }
+
+    @Test
+    void updatesWithoutStatusChangeAreEmpty() {
+        assertThat(update(Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.IN_PROGRESS).isEmpty()).isTrue();
+    }
+
+    @Test
+    void onlyDeletingAnOpenTaskClosesIt() {
+        DailyCounts open = DailyCounts.of(
+                new TaskMessage(record(Task.TaskStatus.TODO), null, TaskMessage.MessageType.DELETED));
+        DailyCounts done = DailyCounts.of(
+                new TaskMessage(record(Task.TaskStatus.DONE), null, TaskMessage.MessageType.DELETED));
+
+        assertThat(open).isEqualTo(new DailyCounts(0, 0, 0, 0, 1));
+        assertThat(done.isEmpty()).isTrue();
+    }
+
+    private static DailyCounts update(Task.TaskStatus before, Task.TaskStatus after) {
+        return DailyCounts.of(new TaskMessage(record(before), record(after), TaskMessage.MessageType.UPDATED));
+    }
+
+    private static TaskRecord record(Task.TaskStatus status) {
+        return new TaskRecord(1L, "Task", status, "alice", null, null, null,
+                new String[]{"bob"}, new String[0], "i", 1L);
+    }
+
+}
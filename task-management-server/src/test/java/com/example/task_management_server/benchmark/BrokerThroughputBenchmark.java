@@ -0,0 +1,191 @@
+package com.example.task_management_server.benchmark;
+
+import com.example.task_management_server.config.ArtemisBrokerConfig;
+import com.example.task_management_server.config.MQConfig;
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskBoardView;
+import com.example.task_management_server.service.AnalyticsService;
+import com.example.task_management_server.service.MessageService;
+import com.example.task_management_server.service.TaskBoardViewService;
+import com.example.task_management_server.service.TelegramService;
+import com.example.task_management_server.service.impl.MessageListenerServiceImpl;
+import com.example.task_management_server.service.impl.MessageServiceImpl;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jms.annotation.EnableJms;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task events per second from {@link MessageServiceImpl} through the embedded broker to the projection
+ * listener of {@link MessageListenerServiceImpl}, for each broker profile of {@link ArtemisBrokerConfig}
+ * and two consumer window sizes. Each event is the three sends of a real task change (notification queue,
+ * projection queue and topic), spread over eight workspaces; an operation completes once its projection has
+ * been applied. Listeners do no work, so this measures the broker and JMS path only.
+ * <p>
+ * {@code aio-sync} falls back to a memory-mapped journal where libaio is not available (see the log). Sync
+ * profiles are bound by the disk's fsync latency and vary most between machines.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark test -DskipTests -Dbenchmark=BrokerThroughputBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class BrokerThroughputBenchmark {
+
+    private static final int BATCH = 500;
+    private static final int WORKSPACES = 8;
+
+    @Param({"memory", "nio-sync", "nio-async", "mapped-sync", "mapped-async", "aio-sync"})
+    private String profile;
+
+    @Param({"0", "1MB"})
+    private String consumerWindowSize;
+
+    private Path dataDirectory;
+    private ConfigurableApplicationContext context;
+    private MessageService messageService;
+    private Semaphore projected;
+    private TaskRecord[] records;
+
+    @Setup(Level.Trial)
+    public void startBroker() throws IOException {
+        dataDirectory = Files.createTempDirectory("artemis-benchmark");
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.config.name=broker-benchmark",
+                "spring.artemis.mode=embedded",
+                "spring.artemis.embedded.data-directory=" + dataDirectory,
+                "spring.jms.listener.min-concurrency=4",
+                "spring.jms.listener.max-concurrency=4",
+                "app.artemis.consumer-window-size=" + consumerWindowSize));
+        properties.addAll(profileProperties(profile));
+
+        context = new SpringApplicationBuilder(Node.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .run();
+        messageService = context.getBean(MessageService.class);
+        projected = context.getBean(CountingProjection.class).applied;
+
+        records = new TaskRecord[WORKSPACES];
+        for (int i = 0; i < WORKSPACES; i++) {
+            records[i] = new TaskRecord((long) i, "Benchmark task", Task.TaskStatus.TODO, "alice", "Description",
+                    null, null, new String[]{"alice", "bob"}, new String[0], "i", (long) i + 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBroker() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void publishAndProject() throws InterruptedException {
+        for (int i = 0; i < BATCH; i++) {
+            messageService.sendTaskUpdate(null, records[i % WORKSPACES], TaskMessage.MessageType.CREATED);
+        }
+        if (!projected.tryAcquire(BATCH, 60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Projections did not arrive within 60s");
+        }
+    }
+
+    private static List<String> profileProperties(String profile) {
+        if (profile.equals("memory")) {
+            return List.of("spring.artemis.embedded.persistent=false");
+        }
+        String[] parts = profile.split("-");
+        String journalType = switch (parts[0]) {
+            case "nio" -> "NIO";
+            case "mapped" -> "MAPPED";
+            case "aio" -> "ASYNCIO";
+            default -> throw new IllegalArgumentException(profile);
+        };
+        return List.of(
+                "spring.artemis.embedded.persistent=true",
+                "app.artemis.journal.type=" + journalType,
+                "app.artemis.journal.sync=" + parts[1].equals("sync"));
+    }
+
+    // Not a @Configuration: the application's component scan would pick it up, and with it a second
+    // TaskBoardViewService. As a source of SpringApplicationBuilder its @Bean methods run in lite mode
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ArtemisAutoConfiguration.class,
+            JmsAutoConfiguration.class})
+    @Import({MQConfig.class, ArtemisBrokerConfig.class, MessageServiceImpl.class, MessageListenerServiceImpl.class})
+    @EnableJms
+    static class Node {
+
+        @Bean
+        CountingProjection countingProjection() {
+            return new CountingProjection();
+        }
+
+        @Bean
+        TelegramService telegramService() {
+            return Mockito.mock(TelegramService.class);
+        }
+
+        @Bean
+        AnalyticsService analyticsService() {
+            return Mockito.mock(AnalyticsService.class);
+        }
+    }
+
+    static class CountingProjection implements TaskBoardViewService {
+
+        final Semaphore applied = new Semaphore(0);
+
+        public void apply(TaskMessage message) {
+            applied.release();
+        }
+
+        public List<TaskBoardView> getBoard(long workspaceId, String username) {
+            return List.of();
+        }
+
+        public int checkConsistency(boolean repair) {
+            return 0;
+        }
+
+        public void rebuild() {
+        }
+
+        public boolean needsInitialBuild() {
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BrokerThroughputBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.example.task_management_server.benchmark;
+
+import com.example.task_management_server.dependency.DependencyGraph;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dependency operations on 100k tasks in projects of {@code projectSize} tasks. Each project is a random
+ * DAG: every task is blocked by an earlier one, and a quarter by a second one.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark test -DskipTests -Dbenchmark=DependencyGraphBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DependencyGraphBenchmark {
+
+    private static final int TASKS = 100_000;
+
+    @Param({"50", "500"})
+    private int projectSize;
+
+    private DependencyGraph graph;
+
+    @Setup
+    public void setUp() {
+        graph = new DependencyGraph();
+        Random random = new Random(42);
+        for (int base = 0; base < TASKS; base += projectSize) {
+            for (int i = 1; i < projectSize; i++) {
+                graph.addEdge(base + random.nextInt(i), base + i);
+                if (i > 2 && random.nextInt(4) == 0) {
+                    int second = random.nextInt(i);
+                    if (!graph.wouldCreateCycle(base + second, base + i)) {
+                        graph.addEdge(base + second, base + i);
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean cycleCheck() {
+        long base = project();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return graph.wouldCreateCycle(base + random.nextInt(projectSize), base + random.nextInt(projectSize));
+    }
+
+    @Benchmark
+    public long[] blockedBy() {
+        return graph.blockedBy(project() + ThreadLocalRandom.current().nextInt(projectSize));
+    }
+
+    @Benchmark
+    public long[] blockersOf() {
+        return graph.blockersOf(project() + ThreadLocalRandom.current().nextInt(projectSize));
+    }
+
+    // Forward edges only, so the pair never closes a cycle
+    @Benchmark
+    public boolean addAndRemoveEdge() {
+        long base = project();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long blocker = base + random.nextInt(projectSize / 2);
+        long blocked = base + projectSize / 2 + random.nextInt(projectSize / 2);
+        return graph.addEdge(blocker, blocked) && graph.removeEdge(blocker, blocked);
+    }
+
+    private long project() {
+        return (long) ThreadLocalRandom.current().nextInt(TASKS / projectSize) * projectSize;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DependencyGraphBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
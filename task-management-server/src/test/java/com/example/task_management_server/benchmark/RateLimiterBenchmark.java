@@ -0,0 +1,75 @@
+package com.example.task_management_server.benchmark;
+
+import com.example.task_management_server.interceptor.RateLimiter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the rate-limit check that {@code AuthInterceptor} runs on every authenticated request. Limits are
+ * set high enough that every call is admitted, so this measures the bookkeeping rather than rejections.
+ * {@code manyUsers} spreads threads over 10k users (the normal case); {@code sharedUser} has every thread
+ * hitting the same bucket, the worst case for CAS contention.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark test -DskipTests -Dbenchmark=RateLimiterBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RateLimiterBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private RateLimiter limiter;
+    private String[] usernames;
+    private int route;
+
+    @Setup
+    public void setUp() {
+        limiter = new RateLimiter(List.of("GET /tasks:1000000000:1000000", "/**:1000000000:1000000"));
+        usernames = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            usernames[i] = "user" + i;
+        }
+        route = limiter.resolveRoute("GET", "/tasks");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread() {
+        return limiter.tryAcquire(usernames[ThreadLocalRandom.current().nextInt(USERS)], route);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long manyUsers() {
+        return limiter.tryAcquire(usernames[ThreadLocalRandom.current().nextInt(USERS)], route);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long sharedUser() {
+        return limiter.tryAcquire(usernames[0], route);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int resolveRoute() {
+        return limiter.resolveRoute("PUT", "/tasks/{id}");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
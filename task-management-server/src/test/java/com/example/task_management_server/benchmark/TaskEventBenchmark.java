@@ -0,0 +1,171 @@
+package com.example.task_management_server.benchmark;
+
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Allocation on the task event path of one update: two {@link TaskRecord}s, the {@link TaskMessage}, and what the
+ * notification listener reads from it. {@code legacy} reproduces the previous set- and stream-based records,
+ * the per-consumer recipient {@code HashSet} and {@code String.format} text, for comparison.
+ * <p>
+ * Compare {@code gc.alloc.rate.norm} (bytes per operation) with
+ * {@code ./mvnw -Pbenchmark test -DskipTests -Dbenchmark=TaskEventBenchmark -Djmh.args="-prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskEventBenchmark {
+
+    @Param({"1", "4"})
+    private int assigneeCount;
+
+    private Task before;
+    private Task after;
+
+    @Setup
+    public void setUp() {
+        Account owner = account("owner", "1000");
+        Set<Account> assignees = new HashSet<>();
+        assignees.add(owner);
+        for (int i = 1; i < assigneeCount; i++) {
+            assignees.add(account("member" + i, i % 2 == 0 ? null : String.valueOf(1000 + i)));
+        }
+
+        before = Task.builder()
+                .id(42L)
+                .workspaceId(1L)
+                .title("Prepare sprint review notes")
+                .description("Collect demo links and update the release checklist.")
+                .status(Task.TaskStatus.TODO)
+                .rank("i")
+                .createdAt(Instant.parse("2025-06-01T09:00:00Z"))
+                .endDate(Instant.parse("2025-06-10T17:00:00Z"))
+                .owner(owner)
+                .assignees(assignees)
+                .build();
+        after = before.toBuilder().status(Task.TaskStatus.IN_PROGRESS).build();
+    }
+
+    @Benchmark
+    public void current(Blackhole blackhole) {
+        TaskMessage message = new TaskMessage(
+                TaskRecord.build(before), TaskRecord.build(after), TaskMessage.MessageType.UPDATED);
+        blackhole.consume(message.hasImportantChanges());
+        blackhole.consume(message.changeDescription());
+        for (String telegramId : message.telegramIds()) {
+            blackhole.consume(telegramId);
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        LegacyRecord oldRecord = LegacyRecord.build(before);
+        LegacyRecord newRecord = LegacyRecord.build(after);
+        blackhole.consume(LegacyRecord.hasImportantChanges(oldRecord, newRecord));
+        blackhole.consume(LegacyRecord.describe(oldRecord, newRecord));
+        for (String telegramId : LegacyRecord.telegramIds(oldRecord, newRecord)) {
+            if (telegramId != null) {
+                blackhole.consume(telegramId);
+            }
+        }
+    }
+
+    private static Account account(String username, String telegramId) {
+        return Account.builder().username(username).email(username + "@example.com").password("x")
+                .telegramId(telegramId).build();
+    }
+
+    // The event records and listener logic as they were before the array-based TaskRecord
+    private record LegacyRecord(
+            Long taskId,
+            String title,
+            String status,
+            String owner,
+            String description,
+            String endDate,
+            String createdAt,
+            Set<String> assignees,
+            Set<String> telegramIds,
+            String rank,
+            Long workspaceId) {
+
+        static LegacyRecord build(Task task) {
+            Set<String> telegramIds = new HashSet<>();
+            telegramIds.add(task.getOwner().getTelegramId());
+            telegramIds.addAll(task.getAssignees().stream().map(Account::getTelegramId).collect(Collectors.toSet()));
+            return new LegacyRecord(
+                    task.getId(),
+                    task.getTitle(),
+                    task.getStatus().name(),
+                    task.getOwner().getUsername(),
+                    task.getDescription(),
+                    task.getEndDate() != null ? task.getEndDate().toString() : null,
+                    task.getCreatedAt() != null ? task.getCreatedAt().toString() : null,
+                    task.getAssignees().stream().map(Account::getUsername).collect(Collectors.toSet()),
+                    telegramIds,
+                    task.getRank(),
+                    task.getWorkspaceId());
+        }
+
+        static boolean hasImportantChanges(LegacyRecord oldRecord, LegacyRecord newRecord) {
+            return !oldRecord.status().equals(newRecord.status())
+                    || !oldRecord.title().equals(newRecord.title())
+                    || !Objects.equals(oldRecord.description(), newRecord.description())
+                    || !Objects.equals(oldRecord.endDate(), newRecord.endDate())
+                    || !Objects.equals(oldRecord.assignees(), newRecord.assignees());
+        }
+
+        static String describe(LegacyRecord oldRecord, LegacyRecord newRecord) {
+            List<String> changes = new ArrayList<>();
+            if (!oldRecord.title().equals(newRecord.title())) {
+                changes.add("Title");
+            }
+            if (!oldRecord.status().equals(newRecord.status())) {
+                changes.add("Status");
+            }
+            if (!Objects.equals(oldRecord.description(), newRecord.description())) {
+                changes.add("Description");
+            }
+            if (!Objects.equals(oldRecord.assignees(), newRecord.assignees())) {
+                changes.add("Assignees");
+            }
+            if (!Objects.equals(oldRecord.endDate(), newRecord.endDate())) {
+                changes.add("End date");
+            }
+            return String.format("📝 Task '%s' updated: %s changed", newRecord.title(), String.join(", ", changes));
+        }
+
+        static Set<String> telegramIds(LegacyRecord oldRecord, LegacyRecord newRecord) {
+            Set<String> users = new HashSet<>();
+            users.addAll(newRecord.telegramIds());
+            users.addAll(oldRecord.telegramIds());
+            return users;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskEventBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
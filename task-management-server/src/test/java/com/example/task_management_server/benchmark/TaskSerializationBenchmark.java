@@ -0,0 +1,90 @@
+package com.example.task_management_server.benchmark;
+
+import com.example.task_management_server.dto.TaskListResponse;
+import com.example.task_management_server.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side cost of encoding a board as JSON (current default) versus CBOR ({@code Accept: application/cbor}).
+ * Payload sizes for each board size are printed during setup.
+ * <p>
+ * Run with {@code ./mvnw -Pbenchmark test -DskipTests -Dbenchmark=TaskSerializationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskSerializationBenchmark {
+
+    @Param({"20", "200", "2000"})
+    private int boardSize;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private TaskListResponse board;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = JsonMapper.builder().findAndAddModules().build();
+        cborMapper = CBORMapper.builder().findAndAddModules().build();
+        board = board(boardSize);
+
+        int jsonBytes = jsonMapper.writeValueAsBytes(board).length;
+        int cborBytes = cborMapper.writeValueAsBytes(board).length;
+        System.out.printf("%n[payload] tasks=%d json=%d bytes cbor=%d bytes (%.1f%% of json)%n",
+                boardSize, jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return jsonMapper.writeValueAsBytes(board);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cborMapper.writeValueAsBytes(board);
+    }
+
+    private static TaskListResponse board(int size) {
+        Instant now = Instant.parse("2025-06-01T09:00:00Z");
+        String[] statuses = {"TODO", "IN_PROGRESS", "DONE"};
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponse(
+                    (long) i + 1,
+                    "Task " + i + ": prepare sprint review notes",
+                    i % 3 == 0 ? null : "Collect demo links, update the release checklist and ping the reviewers.",
+                    i % 4 == 0 ? null : now.plus(i % 30, ChronoUnit.DAYS).toString(),
+                    now.minus(i % 90, ChronoUnit.DAYS).toString(),
+                    statuses[i % statuses.length],
+                    "user" + (i % 17),
+                    List.of("user" + (i % 5), "user" + (i % 7 + 5)),
+                    null,
+                    "i" + Integer.toString(i + 1, 36),
+                    (long) i % 4));
+        }
+        return new TaskListResponse(tasks);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
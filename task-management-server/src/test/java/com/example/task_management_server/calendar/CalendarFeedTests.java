@@ -0,0 +1,116 @@
+package com.example.task_management_server.calendar;
+
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.model.WorkspaceMember;
+import com.example.task_management_server.repository.AccountRepository;
+import com.example.task_management_server.repository.WorkspaceMemberRepository;
+import com.example.task_management_server.service.JwtService;
+import com.example.task_management_server.service.impl.JwtServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Calendar feed keys: a feed path works until its member rotates the key, a login token is no feed key, and feed
+ * requests count against the member's rate limit ({@code GET /calendar/**:0.1:10}). The signing secret must be
+ * configured; there is no default to fall back to.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:calendar-feed;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "telegram.poller.initial-delay-ms=3600000",
+        "app.rate-limit.routes=GET /calendar/**:0.1:10"})
+@AutoConfigureMockMvc
+class CalendarFeedTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository memberRepository;
+
+    @Test
+    void rotatingRevokesEveryEarlierFeedPath() throws Exception {
+        member("alice");
+        String path = feedPath(get("/tasks/calendar/feed"), "alice");
+        assertThat(feedPath(get("/tasks/calendar/feed"), "alice")).isEqualTo(path);
+        mockMvc.perform(get(path)).andExpect(status().isOk());
+
+        String rotated = feedPath(post("/tasks/calendar/feed"), "alice");
+
+        assertThat(rotated).isNotEqualTo(path);
+        mockMvc.perform(get(path)).andExpect(status().isNotFound());
+        mockMvc.perform(get(rotated)).andExpect(status().isOk());
+    }
+
+    @Test
+    void loginTokenIsNoFeedKey() throws Exception {
+        member("bob");
+        String token = jwtService.generateToken("bob");
+
+        mockMvc.perform(get("/calendar/" + Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(token.getBytes(StandardCharsets.UTF_8)) + ".ics"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void feedRequestsAreRateLimitedPerMember() throws Exception {
+        member("carol");
+        String path = feedPath(get("/tasks/calendar/feed"), "carol");
+
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+        }
+        mockMvc.perform(get(path))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void feedSecretHasNoDefault() {
+        assertThatThrownBy(() -> new JwtServiceImpl("login-secret-of-at-least-thirty-two-bytes", "", 60))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.calendar.feed-secret");
+    }
+
+    private String feedPath(MockHttpServletRequestBuilder request, String username) throws Exception {
+        String body = mockMvc.perform(request
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(username)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("path").asText();
+    }
+
+    private void member(String username) {
+        accountRepository.save(Account.builder()
+                .username(username).email(username + "@example.com").password("x").build());
+        memberRepository.save(WorkspaceMember.builder()
+                .workspaceId(Workspace.DEFAULT_ID).username(username).joinedAt(Instant.now()).build());
+    }
+
+}
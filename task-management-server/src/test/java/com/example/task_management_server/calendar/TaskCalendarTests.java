@@ -0,0 +1,77 @@
+package com.example.task_management_server.calendar;
+
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskBoardView;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCalendarTests {
+
+    private static final LocalDate FROM = LocalDate.parse("2025-03-01");
+    private static final LocalDate TO = LocalDate.parse("2025-03-31");
+
+    @Test
+    void rendersOneEventPerTaskAtItsDueTime() {
+        String ics = new TaskCalendar(FROM, TO, List.of(task("Ship release", "Tag; build, publish\nAnnounce")))
+                .toIcs("Tasks - alice", Duration.ofMinutes(15));
+
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics).contains(
+                "REFRESH-INTERVAL;VALUE=DURATION:PT15M\r\n",
+                "UID:task-7@manado\r\n",
+                "DTSTAMP:20250220T090000Z\r\n",
+                "DTSTART:20250314T170000Z\r\n",
+                "SUMMARY:Ship release\r\n",
+                "DESCRIPTION:Tag\\; build\\, publish\\nAnnounce\r\n",
+                "CATEGORIES:IN_PROGRESS\r\n");
+    }
+
+    @Test
+    void longLinesAreFoldedWithoutSplittingCharacters() {
+        StringBuilder out = new StringBuilder();
+        TaskCalendar.line(out, "SUMMARY:" + "é".repeat(60));
+
+        String[] lines = out.toString().split("\r\n");
+        assertThat(lines).hasSizeGreaterThan(1);
+        for (String line : lines) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        assertThat(out.toString().replace("\r\n ", "")).isEqualTo("SUMMARY:" + "é".repeat(60) + "\r\n");
+    }
+
+    @Test
+    void etagChangesWithRenderedContentOnly() {
+        TaskCalendar calendar = new TaskCalendar(FROM, TO, List.of(task("Ship release", null)));
+
+        assertThat(new TaskCalendar(FROM, TO, List.of(task("Ship release", null))).etag())
+                .isEqualTo(calendar.etag());
+        assertThat(new TaskCalendar(FROM, TO, List.of(task("Ship release!", null))).etag())
+                .isNotEqualTo(calendar.etag());
+        assertThat(new TaskCalendar(FROM, TO.plusDays(1), List.of(task("Ship release", null))).etag())
+                .isNotEqualTo(calendar.etag());
+    }
+
+    private static TaskBoardView task(String title, String description) {
+        return TaskBoardView.builder()
+                .username("alice")
+                .taskId(7L)
+                .workspaceId(1L)
+                .title(title)
+                .description(description)
+                .status(Task.TaskStatus.IN_PROGRESS)
+                .rank("i")
+                .createdAt(Instant.parse("2025-02-20T09:00:00Z"))
+                .endDate(Instant.parse("2025-03-14T17:00:00Z"))
+                .owner("alice")
+                .assignees("")
+                .build();
+    }
+
+}
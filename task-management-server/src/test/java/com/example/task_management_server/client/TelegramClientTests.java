@@ -0,0 +1,180 @@
+package com.example.task_management_server.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link TelegramClient} against local stand-ins for api.telegram.org: an HTTP stub that can be switched
+ * between answering and hanging, and a raw socket server that resets every connection.
+ */
+class TelegramClientTests {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<String> mode = new AtomicReference<>("ok");
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer stub;
+    private ServerSocket resetServer;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        if (stub != null) {
+            stub.stop(0);
+        }
+        if (resetServer != null) {
+            resetServer.close();
+        }
+    }
+
+    @Test
+    void reusesConnectionsForHealthyUpstream() throws IOException {
+        TelegramClient client = client(startStub());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(client.getUpdates(i, Duration.ZERO)).containsEntry("ok", true);
+        }
+        client.sendMessage(Map.of("chat_id", "1", "text", "hi"));
+
+        assertThat(requests).hasValue(4);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void hangingUpstreamTimesOutThenFailsFast() throws Exception {
+        TelegramClient client = client(startStub());
+        mode.set("hang");
+
+        for (int i = 0; i < 2; i++) {
+            long started = System.nanoTime();
+            assertThatThrownBy(() -> client.getUpdates(0, Duration.ZERO)).isInstanceOf(ResourceAccessException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(READ_TIMEOUT.multipliedBy(4));
+        }
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // Open: rejected without a request reaching the upstream
+        int before = requests.get();
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.sendMessage(Map.of("chat_id", "1", "text", "hi")))
+                .isInstanceOf(CircuitBreaker.OpenException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(50));
+        assertThat(requests).hasValue(before);
+
+        // Upstream recovers: the trial call after the open duration closes the circuit
+        mode.set("ok");
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        assertThat(client.getUpdates(0, Duration.ZERO)).containsEntry("ok", true);
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void serverErrorsCountButClientErrorsDoNot() throws IOException {
+        TelegramClient client = client(startStub());
+
+        mode.set("400");
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.sendMessage(Map.of("chat_id", "1", "text", "hi")));
+        }
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        mode.set("502");
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.sendMessage(Map.of("chat_id", "1", "text", "hi")));
+        }
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void connectionResetsOpenTheCircuit() throws IOException {
+        TelegramClient client = client("http://127.0.0.1:" + startResetServer());
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.getUpdates(0, Duration.ZERO)).isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(client.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.getUpdates(0, Duration.ZERO)).isInstanceOf(CircuitBreaker.OpenException.class);
+    }
+
+    private TelegramClient client(String baseUrl) {
+        CircuitBreaker breaker = new CircuitBreaker("telegram", 2, OPEN_DURATION, TelegramClient::isUpstreamFailure);
+        return new TelegramClient(baseUrl, "test-token", Duration.ofMillis(500), READ_TIMEOUT, breaker);
+    }
+
+    private String startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            switch (mode.get()) {
+                case "hang" -> {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    exchange.close();
+                    return;
+                }
+                case "400", "502" -> {
+                    exchange.sendResponseHeaders(Integer.parseInt(mode.get()), -1);
+                    exchange.close();
+                    return;
+                }
+                default -> {
+                }
+            }
+            byte[] body = "{\"ok\":true,\"result\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+        return "http://127.0.0.1:" + stub.getAddress().getPort();
+    }
+
+    // Accepts connections and immediately closes them with SO_LINGER 0, which sends a TCP RST
+    private int startResetServer() throws IOException {
+        resetServer = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(() -> {
+            while (!resetServer.isClosed()) {
+                try {
+                    Socket socket = resetServer.accept();
+                    socket.setSoLinger(true, 0);
+                    socket.close();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }, "reset-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return resetServer.getLocalPort();
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.example.task_management_server.concurrency;
+
+import com.example.task_management_server.config.MQConfig;
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.exception.ConflictException;
+import com.example.task_management_server.model.IdempotencyRecord;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.repository.IdempotencyRecordRepository;
+import com.example.task_management_server.service.IdempotencyService;
+import com.example.task_management_server.service.MessageService;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jms.support.converter.MessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A request whose claim on an Idempotency-Key was taken over (it outlived {@code app.idempotency.lock-timeout})
+ * must not commit once the other request has stored its response: the key would then account for effects that
+ * happened twice. Its task events must not be delivered either. Handlers run once per key, like the Telegram
+ * updates, are only marked as handled when they succeed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotent-completion;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "telegram.poller.initial-delay-ms=3600000"})
+class IdempotentCompletionTests {
+
+    private static final String SCOPE = "alice";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    @Qualifier("jmsConnectionFactory")
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private MessageConverter messageConverter;
+
+    @Test
+    void requestOvertakenByAnotherWithTheSameKeyRollsBack() {
+        TransactionTemplate otherRequest = new TransactionTemplate(transactionManager);
+        otherRequest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "slow", "op", Map.of(), String.class, () -> {
+            // An effect of this request, in its transaction
+            Instant now = Instant.now();
+            recordRepo.insert(SCOPE, "effect", "", 0, now, now, now.plusSeconds(60));
+            // Meanwhile the request that took the key over completes it
+            otherRequest.executeWithoutResult(status ->
+                    recordRepo.complete(SCOPE, "slow", 201, "\"theirs\"", now.plusSeconds(60)));
+            return ResponseEntity.ok("mine");
+        })).isInstanceOf(ConflictException.class);
+
+        assertThat(recordRepo.findById(new IdempotencyRecord.Key(SCOPE, "effect"))).isEmpty();
+        ResponseEntity<String> replayed = idempotencyService.execute(SCOPE, "slow", "op", Map.of(), String.class,
+                () -> ResponseEntity.ok("again"));
+        assertThat(replayed.getStatusCode().value()).isEqualTo(201);
+        assertThat(replayed.getBody()).isEqualTo("theirs");
+    }
+
+    @Test
+    void requestThatRollsBackPublishesNoTaskEvents() throws Exception {
+        TransactionTemplate otherRequest = new TransactionTemplate(transactionManager);
+        otherRequest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try (Connection connection = connectionFactory.createConnection()) {
+            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageConsumer events = session.createConsumer(session.createTopic(MQConfig.TASK_EVENT_TOPIC));
+            connection.start();
+
+            assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "rolled-back", "op", Map.of(), String.class,
+                    () -> {
+                        messageService.sendTaskUpdate(null, task(1), TaskMessage.MessageType.CREATED);
+                        otherRequest.executeWithoutResult(status -> recordRepo.complete(
+                                SCOPE, "rolled-back", 201, "\"theirs\"", Instant.now().plusSeconds(60)));
+                        return ResponseEntity.ok("mine");
+                    })).isInstanceOf(ConflictException.class);
+            idempotencyService.execute(SCOPE, "committed", "op", Map.of(), String.class, () -> {
+                messageService.sendTaskUpdate(null, task(2), TaskMessage.MessageType.CREATED);
+                return ResponseEntity.ok("committed");
+            });
+
+            // Events from one producer arrive in order, so the first is the rolled-back one if it was sent at all
+            Message first = events.receive(10_000);
+            assertThat(first).isNotNull();
+            TaskMessage delivered = (TaskMessage) messageConverter.fromMessage(first);
+            assertThat(delivered.newTaskRecord().taskId()).isEqualTo(2L);
+            assertThat(events.receive(500)).isNull();
+        }
+    }
+
+    @Test
+    void completedRequestIsReplayed() {
+        ResponseEntity<String> first = idempotencyService.execute(SCOPE, "once", "op", Map.of(), String.class,
+                () -> ResponseEntity.ok("first"));
+        ResponseEntity<String> second = idempotencyService.execute(SCOPE, "once", "op", Map.of(), String.class,
+                () -> ResponseEntity.ok("second"));
+
+        assertThat(first.getBody()).isEqualTo("first");
+        assertThat(second.getBody()).isEqualTo("first");
+        assertThat(second.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+    }
+
+    @Test
+    void failedHandlerReleasesItsKeyAndIsRunAgain() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThatThrownBy(() -> idempotencyService.runOnce("telegram-update", "7", () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("handler failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(recordRepo.findById(new IdempotencyRecord.Key("telegram-update", "7"))).isEmpty();
+
+        assertThat(idempotencyService.runOnce("telegram-update", "7", runs::incrementAndGet)).isTrue();
+        assertThat(idempotencyService.runOnce("telegram-update", "7", runs::incrementAndGet)).isFalse();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void handlerStillRunningElsewhereIsNotRunAgain() {
+        Instant now = Instant.now();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> recordRepo.insert(
+                "telegram-update", "8", "", null, now, now.plusSeconds(60), now.plusSeconds(60)));
+
+        assertThatThrownBy(() -> idempotencyService.runOnce("telegram-update", "8", () -> {
+            throw new AssertionError("ran while claimed");
+        })).isInstanceOf(ConflictException.class);
+    }
+
+    private static TaskRecord task(long id) {
+        return new TaskRecord(id, "Task " + id, Task.TaskStatus.TODO, "alice", null, null, Instant.now().toString(),
+                new String[0], new String[0], "a", Workspace.DEFAULT_ID, 0L);
+    }
+
+}
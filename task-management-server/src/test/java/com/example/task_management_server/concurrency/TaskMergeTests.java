@@ -0,0 +1,79 @@
+package com.example.task_management_server.concurrency;
+
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.model.Task;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskMergeTests {
+
+    private static final TaskRecord BASE = record("Title", Task.TaskStatus.TODO, "Description", 3L, "bob", "carol");
+
+    @Test
+    void editAppliedToUnchangedTaskTakesEveryEditedField() {
+        TaskRecord mine = record("New title", Task.TaskStatus.DONE, null, 3L, "bob");
+
+        TaskMerge merge = TaskMerge.of(BASE, mine, BASE);
+
+        assertThat(merge.hasConflicts()).isFalse();
+        assertThat(merge.merged().title()).isEqualTo("New title");
+        assertThat(merge.merged().status()).isEqualTo(Task.TaskStatus.DONE);
+        assertThat(merge.merged().description()).isNull();
+        assertThat(merge.merged().assignees()).containsExactly("bob");
+    }
+
+    @Test
+    void editsOfDifferentFieldsAreCombined() {
+        TaskRecord mine = record("New title", Task.TaskStatus.TODO, "Description", 3L, "bob", "carol");
+        TaskRecord theirs = record("Title", Task.TaskStatus.IN_PROGRESS, "Their description", 5L, "carol", "dave");
+
+        TaskMerge merge = TaskMerge.of(BASE, mine, theirs);
+
+        assertThat(merge.hasConflicts()).isFalse();
+        assertThat(merge.merged().title()).isEqualTo("New title");
+        assertThat(merge.merged().status()).isEqualTo(Task.TaskStatus.IN_PROGRESS);
+        assertThat(merge.merged().description()).isEqualTo("Their description");
+        assertThat(merge.merged().assignees()).containsExactly("carol", "dave");
+        assertThat(merge.merged().version()).isEqualTo(5L);
+        assertThat(merge.changes(theirs)).isTrue();
+    }
+
+    @Test
+    void sameChangeOnBothSidesIsNoConflict() {
+        TaskRecord mine = record("Title", Task.TaskStatus.DONE, "Description", 3L, "carol", "bob");
+        TaskRecord theirs = record("Title", Task.TaskStatus.DONE, "Description", 4L, "bob", "carol");
+
+        TaskMerge merge = TaskMerge.of(BASE, mine, theirs);
+
+        assertThat(merge.hasConflicts()).isFalse();
+        assertThat(merge.merged().status()).isEqualTo(Task.TaskStatus.DONE);
+        // Nothing left to write
+        assertThat(merge.changes(theirs)).isFalse();
+    }
+
+    @Test
+    void differentChangesOfOneFieldConflict() {
+        TaskRecord mine = record("Mine", Task.TaskStatus.TODO, "Description", 3L, "bob");
+        TaskRecord theirs = record("Theirs", Task.TaskStatus.TODO, "Description", 4L, "bob", "carol", "dave");
+
+        TaskMerge merge = TaskMerge.of(BASE, mine, theirs);
+
+        assertThat(merge.conflicts()).containsExactly("title", "assignees");
+    }
+
+    @Test
+    void withoutBaseEveryDifferingFieldConflicts() {
+        TaskRecord mine = record("New title", Task.TaskStatus.TODO, "Description", 3L, "bob", "carol");
+
+        assertThat(TaskMerge.withoutBase(mine, BASE).conflicts()).containsExactly("title");
+        assertThat(TaskMerge.withoutBase(BASE, BASE).hasConflicts()).isFalse();
+    }
+
+    private static TaskRecord record(
+            String title, Task.TaskStatus status, String description, long version, String... assignees) {
+        return new TaskRecord(1L, title, status, "alice", description, null, null, assignees, new String[0], "i",
+                1L, version);
+    }
+
+}
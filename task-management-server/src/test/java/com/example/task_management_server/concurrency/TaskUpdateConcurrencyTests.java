@@ -0,0 +1,218 @@
+package com.example.task_management_server.concurrency;
+
+import com.example.task_management_server.controller.TaskController;
+import com.example.task_management_server.dto.AuthenticatedUser;
+import com.example.task_management_server.dto.TaskResponse;
+import com.example.task_management_server.exception.ConflictException;
+import com.example.task_management_server.exception.TaskConflictException;
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.model.WorkspaceMember;
+import com.example.task_management_server.repository.AccountRepository;
+import com.example.task_management_server.repository.TaskRepository;
+import com.example.task_management_server.repository.WorkspaceMemberRepository;
+import com.example.task_management_server.service.TaskSnapshotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrent edits through {@link TaskController}. The stress test has writers behave like clients with an edit form
+ * open: each owns one field of a few hot tasks, sends the whole task as it last saw it with that field changed,
+ * together with the version it saw, and on 409 reapplies its edit to the current task it got back. No edit may be
+ * lost: afterwards every task holds each writer's last value, and its version counts every successful edit.
+ * Logs the throughput and how often writers had to reapply an edit.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-concurrency;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "telegram.poller.initial-delay-ms=3600000"})
+class TaskUpdateConcurrencyTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskUpdateConcurrencyTests.class);
+
+    private static final int HOT_TASKS = 2;
+    private static final int EDITS_PER_WRITER = 10;
+    private static final List<String> ASSIGNEES = List.of("bob", "carol", "dave");
+    private static final Instant DUE = Instant.parse("2030-01-01T00:00:00Z");
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+
+    @Autowired
+    private TaskController taskController;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository memberRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskSnapshotService snapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Each run starts with an empty database, so the history log must not hold events of earlier runs
+    @DynamicPropertySource
+    static void historyDirectory(DynamicPropertyRegistry registry) throws IOException {
+        String directory = Files.createTempDirectory("task-history").toString();
+        registry.add("app.history.dir", () -> directory);
+    }
+
+    private record Writer(String username, BiFunction<TaskResponse, Integer, TaskController.UpdateTaskRequest> edit) {
+    }
+
+    @BeforeEach
+    void members() {
+        for (String username : List.of("alice", "bob", "carol", "dave")) {
+            accountRepository.save(Account.builder()
+                    .username(username).email(username + "@example.com").password("x").build());
+            memberRepository.save(WorkspaceMember.builder()
+                    .workspaceId(Workspace.DEFAULT_ID).username(username).joinedAt(Instant.now()).build());
+        }
+    }
+
+    @Test
+    void hotTasksKeepEveryWritersLastEdit() throws Exception {
+        List<TaskResponse> hotTasks = new ArrayList<>();
+        for (int i = 0; i < HOT_TASKS; i++) {
+            hotTasks.add(taskController.createTask(user("alice"), null, new TaskController.CreateTaskRequest(
+                    "Hot task " + i, "", DUE.toString(), "TODO", ASSIGNEES)).getBody());
+        }
+
+        // One field per writer; every request also carries the writer's stale view of the other fields
+        List<Writer> writers = List.of(
+                new Writer("alice", (seen, n) -> request(seen, "title " + n, seen.description(), seen.endDate(),
+                        seen.status())),
+                new Writer("bob", (seen, n) -> request(seen, seen.title(), "description " + n, seen.endDate(),
+                        seen.status())),
+                new Writer("carol", (seen, n) -> request(seen, seen.title(), seen.description(),
+                        DUE.plus(n, ChronoUnit.DAYS).toString(), seen.status())),
+                new Writer("dave", (seen, n) -> request(seen, seen.title(), seen.description(), seen.endDate(),
+                        STATUSES[n % STATUSES.length].name())));
+
+        AtomicInteger reapplied = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(writers.size() * HOT_TASKS);
+        List<Future<?>> results = new ArrayList<>();
+        long started = System.nanoTime();
+        for (TaskResponse created : hotTasks) {
+            for (Writer writer : writers) {
+                results.add(executor.submit(() -> {
+                    TaskResponse seen = created;
+                    for (int n = 1; n <= EDITS_PER_WRITER; n++) {
+                        while (true) {
+                            try {
+                                seen = taskController.updateTask(user(writer.username()), null, created.id(),
+                                        writer.edit().apply(seen, n)).getBody();
+                                break;
+                            } catch (TaskConflictException e) {
+                                seen = e.getCurrent();
+                                reapplied.incrementAndGet();
+                            } catch (ConflictException e) {
+                                reapplied.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> result : results) {
+            result.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        executor.shutdown();
+
+        int edits = HOT_TASKS * writers.size() * EDITS_PER_WRITER;
+        logger.info("{} edits of {} hot tasks by {} writers each: {} edits/s, {} reapplied after 409, {} retries",
+                edits, HOT_TASKS, writers.size(), Math.round(edits / (elapsedNanos / 1e9)), reapplied.get(),
+                meterRegistry.counter("task.edit.retries", "operation", "update").count());
+
+        for (TaskResponse created : hotTasks) {
+            Task task = taskRepository.findById(created.id()).orElseThrow();
+            assertThat(task.getTitle()).isEqualTo("title " + EDITS_PER_WRITER);
+            assertThat(task.getDescription()).isEqualTo("description " + EDITS_PER_WRITER);
+            assertThat(task.getEndDate()).isEqualTo(DUE.plus(EDITS_PER_WRITER, ChronoUnit.DAYS));
+            assertThat(task.getStatus()).isEqualTo(STATUSES[EDITS_PER_WRITER % STATUSES.length]);
+            assertThat(task.getVersion()).isEqualTo((long) writers.size() * EDITS_PER_WRITER);
+        }
+    }
+
+    // As after a rank rebalance, which bumps the version without a snapshot
+    @Test
+    void editOfVersionWithoutSnapshotMergesAgainstAnEarlierOne() {
+        TaskResponse created = taskController.createTask(user("alice"), null, new TaskController.CreateTaskRequest(
+                "Unseen change", "", DUE.toString(), "TODO", ASSIGNEES)).getBody();
+        assertThat(snapshotService.findAtOrBefore(created.id(), created.version())).isPresent();
+        jdbcTemplate.update("UPDATE task SET description = 'Changed elsewhere', version = version + 1 WHERE id = ?",
+                created.id());
+
+        TaskResponse updated = taskController.updateTask(user("bob"), null, created.id(),
+                new TaskController.UpdateTaskRequest("Renamed", "Changed elsewhere", created.endDate(), "TODO",
+                        ASSIGNEES, created.version() + 1)).getBody();
+
+        assertThat(updated.title()).isEqualTo("Renamed");
+        assertThat(updated.description()).isEqualTo("Changed elsewhere");
+        assertThat(snapshotService.findAtOrBefore(created.id(), updated.version()).orElseThrow().title())
+                .isEqualTo("Renamed");
+
+        // A field changed since the newest snapshot may have been changed by either side
+        assertThatThrownBy(() -> taskController.updateTask(user("bob"), null, created.id(),
+                new TaskController.UpdateTaskRequest("Renamed", "Mine", created.endDate(), "TODO",
+                        ASSIGNEES, created.version() + 1)))
+                .isInstanceOfSatisfying(TaskConflictException.class,
+                        e -> assertThat(e.getFields()).containsExactly("description"));
+    }
+
+    @Test
+    void editThatChangesNothingKeepsTheVersion() {
+        TaskResponse created = taskController.createTask(user("alice"), null, new TaskController.CreateTaskRequest(
+                "Unchanged", "Same", DUE.toString(), "TODO", ASSIGNEES)).getBody();
+
+        TaskResponse updated = taskController.updateTask(user("bob"), null, created.id(),
+                new TaskController.UpdateTaskRequest("Unchanged", "Same", created.endDate(), "TODO",
+                        ASSIGNEES, created.version())).getBody();
+
+        assertThat(updated.version()).isEqualTo(created.version());
+        assertThat(taskRepository.findById(created.id()).orElseThrow().getVersion()).isEqualTo(created.version());
+    }
+
+    private AuthenticatedUser user(String username) {
+        return new AuthenticatedUser(username, Workspace.DEFAULT_ID, accountRepository::findById);
+    }
+
+    private static TaskController.UpdateTaskRequest request(
+            TaskResponse seen, String title, String description, String endDate, String status) {
+        return new TaskController.UpdateTaskRequest(title, description, endDate, status, ASSIGNEES, seen.version());
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.example.task_management_server.config;
+
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import jakarta.jms.Destination;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jms.artemis.ArtemisAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jms.annotation.EnableJms;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.jms.core.JmsTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application contexts, each with its own embedded broker, joined through {@link ArtemisClusterConfig}.
+ * An event published on node A must reach the topic subscribers of both nodes.
+ */
+class ArtemisClusterTests {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() throws IOException {
+        int portA = freePort();
+        int portB = freePort();
+        nodeA = startNode("node-a", 1, portA, portB);
+        nodeB = startNode("node-b", 2, portB, portA);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void topicEventsFanOutToEveryNode() throws Exception {
+        JmsTemplate publisher = nodeA.getBean(JmsTemplate.class);
+        BlockingQueue<TaskMessage> receivedByA = nodeA.getBean(Node.class).received;
+        BlockingQueue<TaskMessage> receivedByB = nodeB.getBean(Node.class).received;
+
+        Destination topic = publisher.execute(session -> session.createTopic(MQConfig.TASK_EVENT_TOPIC));
+
+        // The cluster bridge forms asynchronously; publish until node B has seen an event
+        boolean bridged = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!bridged && System.nanoTime() < deadline) {
+            publisher.convertAndSend(topic, message(System.nanoTime()));
+            bridged = receivedByB.poll(500, TimeUnit.MILLISECONDS) != null;
+        }
+        assertThat(bridged).as("cluster bridge formed").isTrue();
+
+        // Once it has, every event reaches the subscribers of both nodes
+        TaskMessage event = message(System.nanoTime());
+        publisher.convertAndSend(topic, event);
+
+        assertThat(drainUntil(receivedByA, event)).as("node A received its own event").isTrue();
+        assertThat(drainUntil(receivedByB, event)).as("node B received the event from node A").isTrue();
+    }
+
+    private static boolean drainUntil(BlockingQueue<TaskMessage> queue, TaskMessage expected) throws InterruptedException {
+        TaskMessage next;
+        while ((next = queue.poll(10, TimeUnit.SECONDS)) != null) {
+            if (next.newTaskRecord().taskId().equals(expected.newTaskRecord().taskId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TaskMessage message(long id) {
+        TaskRecord record = new TaskRecord(id, "Cluster event", "TODO", "alice", null, null, null, Set.of("bob"), Set.of());
+        return new TaskMessage(null, record, TaskMessage.MessageType.CREATED);
+    }
+
+    private static ConfigurableApplicationContext startNode(String name, int serverId, int port, int peerPort) {
+        return new SpringApplicationBuilder(Node.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        // Skip application.properties: the nodes only need the broker and JMS setup
+                        "spring.config.name=artemis-cluster-test",
+                        "spring.artemis.mode=embedded",
+                        "spring.artemis.embedded.server-id=" + serverId,
+                        "spring.artemis.embedded.persistent=false",
+                        "app.artemis.cluster.enabled=true",
+                        "app.artemis.cluster.password=cluster-test-secret",
+                        "app.artemis.cluster.node-name=" + name,
+                        "app.artemis.cluster.bind-url=tcp://127.0.0.1:" + port,
+                        "app.artemis.cluster.advertised-url=tcp://127.0.0.1:" + port,
+                        "app.artemis.cluster.peers=tcp://127.0.0.1:" + peerPort)
+                .run();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ArtemisAutoConfiguration.class,
+            JmsAutoConfiguration.class})
+    @Import({MQConfig.class, ArtemisClusterConfig.class})
+    @EnableJms
+    static class Node {
+
+        final BlockingQueue<TaskMessage> received = new LinkedBlockingQueue<>();
+
+        @JmsListener(destination = MQConfig.TASK_EVENT_TOPIC, containerFactory = "topicListenerFactory")
+        public void onTaskEvent(TaskMessage message) {
+            received.add(message);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.example.task_management_server.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for the PostgreSQL primary and replica; each one knows its own name. Routing
+ * is checked with plain JDBC and through JPA, as the repositories use it: a shared EntityManager and
+ * {@link JpaTransactionManager}, with Hibernate holding a connection for the life of its session as under Spring Boot.
+ */
+class ReadReplicaRoutingDataSourceTests {
+
+    private static JdbcTemplate jdbc;
+    private static DataSourceTransactionManager txManager;
+    private static LocalContainerEntityManagerFactoryBean emfBean;
+    private static EntityManager entityManager;
+    private static JpaTransactionManager jpaTxManager;
+
+    @BeforeAll
+    static void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica = node("replica");
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, replica);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbc = new JdbcTemplate(dataSource);
+        txManager = new DataSourceTransactionManager(dataSource);
+
+        emfBean = new LocalContainerEntityManagerFactoryBean();
+        emfBean.setDataSource(dataSource);
+        emfBean.setManagedTypes(PersistenceManagedTypes.of(List.of(), List.of()));
+        emfBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        emfBean.setJpaPropertyMap(Map.of(
+                "hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_HOLD"));
+        emfBean.afterPropertiesSet();
+        EntityManagerFactory emf = emfBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(emf);
+        jpaTxManager = new JpaTransactionManager(emf);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        emfBean.destroy();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        tx.setReadOnly(true);
+
+        String node = tx.execute(status -> currentNode());
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        String node = tx.execute(status -> currentNode());
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void workOutsideTransactionsUsesPrimary() {
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyJpaTransactionsUseReplica() {
+        TransactionTemplate tx = new TransactionTemplate(jpaTxManager);
+        tx.setReadOnly(true);
+
+        String node = tx.execute(status -> currentNodeThroughJpa());
+
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteJpaTransactionsUsePrimary() {
+        TransactionTemplate tx = new TransactionTemplate(jpaTxManager);
+
+        String node = tx.execute(status -> currentNodeThroughJpa());
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void writeAfterReadOnlyLookupOnTheSameThreadUsesPrimary() {
+        TransactionTemplate readOnly = new TransactionTemplate(jpaTxManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(jpaTxManager);
+
+        // As a request does: an authentication lookup, then its own transaction
+        String lookup = readOnly.execute(status -> currentNodeThroughJpa());
+        String node = readWrite.execute(status -> currentNodeThroughJpa());
+
+        assertThat(lookup).isEqualTo("replica");
+        assertThat(node).isEqualTo("primary");
+    }
+
+    private static String currentNodeThroughJpa() {
+        return (String) entityManager.createNativeQuery("SELECT name FROM node").getSingleResult();
+    }
+
+    private static String currentNode() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE node (name VARCHAR(16))");
+        setup.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.example.task_management_server.controller;
+
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskBoardView;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.model.WorkspaceMember;
+import com.example.task_management_server.repository.AccountRepository;
+import com.example.task_management_server.repository.TaskBoardViewRepository;
+import com.example.task_management_server.repository.WorkspaceMemberRepository;
+import com.example.task_management_server.service.JwtService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code GET /tasks/export} streams the caller's board rows in the current workspace as NDJSON, one task per line,
+ * gzip-compressed when asked to. Rows of other members and other workspaces are seeded next to them and must not
+ * appear.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-export;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "telegram.poller.initial-delay-ms=3600000",
+        "app.rate-limit.routes=GET /tasks/export:10:30"})
+@AutoConfigureMockMvc
+class TaskExportTests {
+
+    private static final int BOARD_SIZE = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository memberRepository;
+
+    @Autowired
+    private TaskBoardViewRepository viewRepository;
+
+    @BeforeEach
+    void seedBoard() {
+        viewRepository.deleteAllInBatch();
+        accountRepository.save(Account.builder().username("alice").email("alice@example.com").password("x").build());
+        memberRepository.save(WorkspaceMember.builder()
+                .workspaceId(Workspace.DEFAULT_ID).username("alice").joinedAt(Instant.now()).build());
+
+        List<TaskBoardView> rows = new ArrayList<>();
+        for (long id = 1; id <= BOARD_SIZE; id++) {
+            rows.add(row("alice", Workspace.DEFAULT_ID, id));
+            rows.add(row("bob", Workspace.DEFAULT_ID, id));
+        }
+        rows.add(row("alice", 2L, BOARD_SIZE + 1));
+        viewRepository.saveAll(rows);
+    }
+
+    @Test
+    void streamsOneLinePerTaskOnTheBoard() throws Exception {
+        MvcResult result = export(null);
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertBoard(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void gzipIsUsedWhenAccepted() throws Exception {
+        MvcResult result = export("gzip, deflate");
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertBoard(gunzip(result.getResponse().getContentAsByteArray()));
+    }
+
+    @Test
+    void gzipRefusedWithZeroQualityIsNotUsed() throws Exception {
+        MvcResult result = export("gzip;q=0, identity");
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertBoard(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void acceptEncodingIsParsedByTokenAndQuality() {
+        assertThat(TaskController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(TaskController.acceptsGzip("GZIP; q=0.000")).isFalse();
+        assertThat(TaskController.acceptsGzip("x-gzip-foo, br")).isFalse();
+        assertThat(TaskController.acceptsGzip("*;q=0.5, gzip;q=0")).isFalse();
+        assertThat(TaskController.acceptsGzip("br, gzip;q=0.1")).isTrue();
+        assertThat(TaskController.acceptsGzip("x-gzip")).isTrue();
+        assertThat(TaskController.acceptsGzip("*")).isTrue();
+        assertThat(TaskController.acceptsGzip(null)).isFalse();
+    }
+
+    private MvcResult export(String acceptEncoding) throws Exception {
+        MvcResult started = mockMvc.perform(get("/tasks/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken("alice"))
+                        .headers(acceptEncoding != null ? acceptEncoding(acceptEncoding) : new HttpHeaders()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andReturn();
+    }
+
+    private void assertBoard(String body) throws IOException {
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(BOARD_SIZE);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode task = objectMapper.readTree(lines[i]);
+            assertThat(task.get("id").asLong()).isEqualTo(i + 1);
+            assertThat(task.get("title").asText()).isEqualTo("Task " + (i + 1));
+            assertThat(task.get("owner").asText()).isEqualTo("alice");
+        }
+    }
+
+    private static HttpHeaders acceptEncoding(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, value);
+        return headers;
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static TaskBoardView row(String username, long workspaceId, long taskId) {
+        return TaskBoardView.builder()
+                .username(username)
+                .taskId(taskId)
+                .workspaceId(workspaceId)
+                .title("Task " + taskId)
+                .status(Task.TaskStatus.TODO)
+                .rank("%019d1".formatted(taskId))
+                .owner("alice")
+                .assignees(TaskBoardView.joinAssignees(new String[]{username}))
+                .version(0L)
+                .build();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.example.task_management_server.dependency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DependencyGraphTests {
+
+    @Test
+    void maintainsTransitiveClosureOnAddAndRemove() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(10, 11);
+
+        assertThat(graph.blockedBy(1)).containsExactly(2, 3);
+        assertThat(graph.blockersOf(3)).containsExactly(1, 2);
+
+        // Joins the two components
+        graph.addEdge(3, 10);
+        assertThat(graph.blockedBy(1)).containsExactly(2, 3, 10, 11);
+        assertThat(graph.blockersOf(11)).containsExactly(1, 2, 3, 10);
+
+        graph.removeEdge(2, 3);
+        assertThat(graph.blockedBy(1)).containsExactly(2);
+        assertThat(graph.blockedBy(3)).containsExactly(10, 11);
+        assertThat(graph.blockersOf(11)).containsExactly(3, 10);
+        assertThat(graph.edgeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsCycles() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+
+        assertThat(graph.wouldCreateCycle(3, 1)).isTrue();
+        assertThat(graph.wouldCreateCycle(1, 1)).isTrue();
+        assertThat(graph.wouldCreateCycle(1, 3)).isFalse();
+        assertThatThrownBy(() -> graph.addEdge(3, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(graph.blockedBy(3)).isEmpty();
+    }
+
+    @Test
+    void tasksWithoutEdgesLeaveTheGraph() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addEdge(1, 2);
+        assertThat(graph.addEdge(1, 2)).isFalse();
+
+        assertThat(graph.removeEdge(1, 2)).isTrue();
+        assertThat(graph.removeEdge(1, 2)).isFalse();
+        assertThat(graph.taskCount()).isZero();
+        assertThat(graph.blockedBy(1)).isEmpty();
+    }
+
+    @Test
+    void matchesBreadthFirstSearchUnderRandomChanges() {
+        Random random = new Random(7);
+        DependencyGraph graph = new DependencyGraph();
+        Map<Long, Set<Long>> edges = new HashMap<>();
+        int tasks = 60;
+
+        for (int step = 0; step < 3000; step++) {
+            long blocker = random.nextInt(tasks);
+            long blocked = random.nextInt(tasks);
+            if (random.nextInt(3) > 0) {
+                boolean cycle = reachable(edges, blocked, blocker);
+                assertThat(graph.wouldCreateCycle(blocker, blocked)).isEqualTo(cycle);
+                if (!cycle) {
+                    edges.computeIfAbsent(blocker, id -> new HashSet<>()).add(blocked);
+                    graph.addEdge(blocker, blocked);
+                }
+            } else if (edges.containsKey(blocker) && !edges.get(blocker).isEmpty()) {
+                long removed = new ArrayList<>(edges.get(blocker)).get(0);
+                edges.get(blocker).remove(removed);
+                assertThat(graph.removeEdge(blocker, removed)).isTrue();
+            }
+
+            if (step % 100 == 0) {
+                for (long task = 0; task < tasks; task++) {
+                    assertThat(graph.blockedBy(task)).containsExactly(descendants(edges, task));
+                }
+            }
+        }
+    }
+
+    private static boolean reachable(Map<Long, Set<Long>> edges, long from, long to) {
+        return from == to || Arrays.stream(descendants(edges, from)).anyMatch(id -> id == to);
+    }
+
+    private static long[] descendants(Map<Long, Set<Long>> edges, long from) {
+        Set<Long> seen = new TreeSet<>();
+        Deque<Long> pending = new ArrayDeque<>(List.of(from));
+        while (!pending.isEmpty()) {
+            for (long next : edges.getOrDefault(pending.pop(), Set.of())) {
+                if (seen.add(next)) {
+                    pending.push(next);
+                }
+            }
+        }
+        return seen.stream().mapToLong(Long::longValue).toArray();
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.task_management_server.diagnostics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc matchers for the JDBC statements a request executed, as counted by {@link RequestDiagnosticsFilter}:
+ * <pre>
+ * mockMvc.perform(get("/tasks").header(...))
+ *         .andExpect(status().isOk())
+ *         .andExpect(StatementBudget.atMost(2));
+ * </pre>
+ * Run the context with {@code app.diagnostics.capture-statements=true} to have failures list the SQL.
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            QueryStats stats = of(result);
+            if (stats.getStatementCount() > statements) {
+                StringBuilder message = new StringBuilder()
+                        .append(result.getRequest().getMethod()).append(' ')
+                        .append(result.getRequest().getRequestURI())
+                        .append(" is over its budget of ").append(statements).append(" statements: ").append(stats);
+                stats.getStatements().forEach(sql -> message.append("\n  ").append(sql));
+                throw new AssertionError(message);
+            }
+        };
+    }
+
+    public static QueryStats of(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(QueryStats.ATTRIBUTE);
+        if (!(stats instanceof QueryStats queryStats)) {
+            throw new AssertionError("No statements were recorded; is app.diagnostics.enabled off?");
+        }
+        return queryStats;
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.example.task_management_server.diagnostics;
+
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.model.WorkspaceMember;
+import com.example.task_management_server.repository.AccountRepository;
+import com.example.task_management_server.repository.WorkspaceMemberRepository;
+import com.example.task_management_server.service.JwtService;
+import com.example.task_management_server.service.TaskBoardViewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of the {@link com.example.task_management_server.controller.TaskController} endpoints, counted
+ * over the whole request including authentication. A budget that no longer holds usually means a lazy association
+ * is now loaded per row or per assignee; the failure lists the statements.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "telegram.poller.initial-delay-ms=3600000",
+        "app.diagnostics.capture-statements=true"})
+@AutoConfigureMockMvc
+class TaskControllerStatementBudgetTests {
+
+    private static final int BOARD_SIZE = 15;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository memberRepository;
+
+    @Autowired
+    private TaskBoardViewService taskBoardViewService;
+
+    @Test
+    void boardReadDoesNotGrowWithTheBoard() throws Exception {
+        member("erin");
+        member("frank");
+        createTask("erin", "First", List.of("frank"));
+        awaitBoard("erin", 1);
+
+        MvcResult small = mockMvc.perform(as("erin", get("/tasks")))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(3))
+                .andExpect(header().string(RequestDiagnosticsFilter.SERVER_TIMING, containsString("db;dur=")))
+                .andReturn();
+
+        for (int i = 1; i < BOARD_SIZE; i++) {
+            createTask("erin", "Task " + i, List.of("frank"));
+        }
+        awaitBoard("erin", BOARD_SIZE);
+
+        MvcResult large = mockMvc.perform(as("erin", get("/tasks")))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(3))
+                .andReturn();
+
+        assertThat(StatementBudget.of(large).getStatementCount())
+                .isEqualTo(StatementBudget.of(small).getStatementCount());
+    }
+
+    @Test
+    void mutationsStayWithinTheirBudgets() throws Exception {
+        member("grace");
+        member("heidi");
+        member("ivan");
+
+        MvcResult created = mockMvc.perform(as("grace", post("/tasks"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("title", "Budget", "assignees", List.of("heidi", "ivan")))))
+                .andExpect(status().isCreated())
+                .andExpect(StatementBudget.atMost(12))
+                .andExpect(header().exists(RequestDiagnosticsFilter.SERVER_TIMING))
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(as("grace", put("/tasks/" + id))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("title", "Budget", "description", "Edited", "status", "IN_PROGRESS",
+                                "assignees", List.of("heidi")))))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(15));
+
+        mockMvc.perform(as("heidi", put("/tasks/" + id + "/position"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("status", "DONE"))))
+                .andExpect(status().isOk())
+                .andExpect(StatementBudget.atMost(10));
+
+        mockMvc.perform(as("grace", delete("/tasks/" + id)))
+                .andExpect(status().isNoContent())
+                .andExpect(StatementBudget.atMost(12))
+                .andExpect(header().exists(RequestDiagnosticsFilter.SERVER_TIMING));
+    }
+
+    @Test
+    void membershipIsCheckedFromTheCacheAfterTheFirstRequest() throws Exception {
+        member("judy");
+
+        mockMvc.perform(as("judy", get("/tasks"))).andExpect(status().isOk());
+        for (int i = 0; i < 3; i++) {
+            MvcResult repeated = mockMvc.perform(as("judy", get("/tasks")))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            assertThat(StatementBudget.of(repeated).getStatements())
+                    .noneMatch(sql -> sql.toLowerCase(Locale.ROOT).contains("workspace_member"));
+        }
+    }
+
+    private void member(String username) {
+        accountRepository.save(Account.builder()
+                .username(username).email(username + "@example.com").password("x").build());
+        memberRepository.save(WorkspaceMember.builder()
+                .workspaceId(Workspace.DEFAULT_ID).username(username).joinedAt(Instant.now()).build());
+    }
+
+    private void createTask(String username, String title, List<String> assignees) throws Exception {
+        mockMvc.perform(as(username, post("/tasks"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("title", title, "assignees", assignees))))
+                .andExpect(status().isCreated());
+    }
+
+    // The board is projected from task events by a JMS listener
+    private void awaitBoard(String username, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (taskBoardViewService.getBoard(Workspace.DEFAULT_ID, username).size() < size) {
+            assertThat(System.nanoTime()).as("board of %s projected", username).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private MockHttpServletRequestBuilder as(String username, MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(username));
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+}
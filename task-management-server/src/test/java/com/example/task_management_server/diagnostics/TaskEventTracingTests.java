@@ -0,0 +1,168 @@
+package com.example.task_management_server.diagnostics;
+
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.model.WorkspaceMember;
+import com.example.task_management_server.repository.AccountRepository;
+import com.example.task_management_server.repository.WorkspaceMemberRepository;
+import com.example.task_management_server.service.JwtService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A task created over HTTP notifies its members on Telegram from a JMS listener; every {@code telegram.send} span
+ * must belong to the trace of the request, through the producer span of the {@code task-updates} send and the
+ * consumer span of the listener. Spans are read back from the OTLP/JSON file written by
+ * {@link OtlpJsonFileSpanExporter}. Telegram calls go to a closed local port and fail, which is traced as well.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-tracing;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "telegram.poller.initial-delay-ms=3600000",
+        "telegram.api.base-url=http://127.0.0.1:9",
+        "management.tracing.sampling.probability=1.0"})
+@AutoConfigureObservability
+@AutoConfigureMockMvc
+class TaskEventTracingTests {
+
+    // OTLP span kinds
+    private static final int SERVER = 2;
+    private static final int PRODUCER = 4;
+    private static final int CONSUMER = 5;
+
+    private static Path spanFile;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WorkspaceMemberRepository memberRepository;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @DynamicPropertySource
+    static void tracingFile(DynamicPropertyRegistry registry) throws IOException {
+        spanFile = Files.createTempDirectory("task-traces").resolve("spans.jsonl");
+        registry.add("app.tracing.file", spanFile::toString);
+    }
+
+    @Test
+    void telegramNotificationBelongsToTheTraceOfTheRequest() throws Exception {
+        member("alice", "1001");
+        member("bob", "1002");
+
+        mockMvc.perform(post("/tasks")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken("alice"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Map.of("title", "Traced", "assignees", List.of("bob")))))
+                .andExpect(status().isCreated());
+
+        List<JsonNode> trace = awaitTelegramTrace();
+
+        JsonNode telegram = trace.getFirst();
+        JsonNode root = trace.getLast();
+        assertThat(telegram.get("attributes").toString()).contains("outcome", "failed");
+        assertThat(root.get("kind").asInt()).isEqualTo(SERVER);
+        assertThat(trace).extracting(span -> span.get("kind").asInt()).contains(PRODUCER, CONSUMER);
+        assertThat(trace).extracting(span -> span.get("traceId").asText()).containsOnly(root.get("traceId").asText());
+    }
+
+    // The telegram.send span followed by its ancestors up to the root, once all of them are exported
+    private List<JsonNode> awaitTelegramTrace() throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+        while (true) {
+            tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+            Map<String, JsonNode> spans = readSpans();
+            for (JsonNode span : spans.values()) {
+                if (span.get("name").asText().equals("telegram.send")) {
+                    List<JsonNode> chain = ancestors(span, spans);
+                    if (chain != null) {
+                        return chain;
+                    }
+                }
+            }
+            assertThat(System.nanoTime()).as("trace of the Telegram notification exported").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    private static List<JsonNode> ancestors(JsonNode span, Map<String, JsonNode> spans) {
+        List<JsonNode> chain = new ArrayList<>();
+        chain.add(span);
+        while (span.has("parentSpanId")) {
+            span = spans.get(span.get("parentSpanId").asText());
+            if (span == null) {
+                return null;
+            }
+            chain.add(span);
+        }
+        return chain;
+    }
+
+    private Map<String, JsonNode> readSpans() throws IOException {
+        Map<String, JsonNode> spans = new HashMap<>();
+        if (!Files.exists(spanFile)) {
+            return spans;
+        }
+        for (String line : Files.readAllLines(spanFile)) {
+            JsonNode request;
+            try {
+                request = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                // A line still being written; read again on the next attempt
+                continue;
+            }
+            for (JsonNode resourceSpans : request.get("resourceSpans")) {
+                for (JsonNode scopeSpans : resourceSpans.get("scopeSpans")) {
+                    for (JsonNode span : scopeSpans.get("spans")) {
+                        spans.put(span.get("spanId").asText(), span);
+                    }
+                }
+            }
+        }
+        return spans;
+    }
+
+    private void member(String username, String telegramId) {
+        accountRepository.save(Account.builder()
+                .username(username).email(username + "@example.com").password("x").telegramId(telegramId).build());
+        memberRepository.save(WorkspaceMember.builder()
+                .workspaceId(Workspace.DEFAULT_ID).username(username).joinedAt(Instant.now()).build());
+    }
+
+}
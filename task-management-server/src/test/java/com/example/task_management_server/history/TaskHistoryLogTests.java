@@ -0,0 +1,126 @@
+package com.example.task_management_server.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Small 256-byte segments so a handful of records already spans several files.
+ */
+class TaskHistoryLogTests {
+
+    private static final int SEGMENT_BYTES = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexesByTaskAndUserAcrossSegments() throws IOException {
+        try (TaskHistoryLog log = TaskHistoryLog.open(directory, SEGMENT_BYTES)) {
+            appendSample(log, 10);
+
+            assertThat(log.segmentCount()).isGreaterThan(1);
+            assertThat(payloads(log.readTask(1))).containsExactly("event-1", "event-4", "event-7");
+
+            List<TaskHistoryLog.LogRecord> firstPage = log.readUser("bob", Long.MAX_VALUE, 3);
+            assertThat(payloads(firstPage)).containsExactly("event-8", "event-6", "event-4");
+            long cursor = firstPage.get(2).position();
+            assertThat(payloads(log.readUser("bob", cursor, 3))).containsExactly("event-2", "event-0");
+        }
+    }
+
+    @Test
+    void rebuildsIndexesOnReopen() throws IOException {
+        try (TaskHistoryLog log = TaskHistoryLog.open(directory, SEGMENT_BYTES)) {
+            appendSample(log, 10);
+        }
+
+        try (TaskHistoryLog log = TaskHistoryLog.open(directory, SEGMENT_BYTES)) {
+            assertThat(payloads(log.readTask(1))).containsExactly("event-1", "event-4", "event-7");
+            assertThat(log.readUser("alice", Long.MAX_VALUE, 100)).hasSize(10);
+
+            log.append(2000, 42, Set.of("dave"), bytes("after-reopen"));
+            assertThat(payloads(log.readTask(42))).containsExactly("after-reopen");
+        }
+    }
+
+    @Test
+    void dropsTornRecordAtTheTailOnRecovery() throws IOException {
+        try (TaskHistoryLog log = TaskHistoryLog.open(directory, SEGMENT_BYTES)) {
+            log.append(1000, 1, Set.of("alice"), bytes("kept"));
+            log.append(1001, 1, Set.of("alice"), bytes("torn"));
+        }
+
+        // Flip a byte inside the second record's body, as if the machine died while it was being written
+        Path segment = lastSegment();
+        int secondRecord = 8 + 8 + 8 + 2 + 2 + "alice".length() + 4 + "kept".length();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(secondRecord + 12);
+            file.write(0x7f);
+        }
+
+        try (TaskHistoryLog log = TaskHistoryLog.open(directory, SEGMENT_BYTES)) {
+            assertThat(payloads(log.readTask(1))).containsExactly("kept");
+
+            log.append(1002, 1, Set.of("alice"), bytes("rewritten"));
+        }
+        try (TaskHistoryLog log = TaskHistoryLog.open(directory, SEGMENT_BYTES)) {
+            assertThat(payloads(log.readTask(1))).containsExactly("kept", "rewritten");
+        }
+    }
+
+    @Test
+    void retentionDeletesOldSegmentsAndTheirIndexEntries() throws IOException {
+        try (TaskHistoryLog log = TaskHistoryLog.open(directory, SEGMENT_BYTES)) {
+            appendSample(log, 10);
+            int segments = log.segmentCount();
+
+            int deleted = log.deleteSegmentsOlderThan(1006);
+
+            assertThat(deleted).isPositive();
+            assertThat(log.segmentCount()).isEqualTo(segments - deleted);
+            assertThat(payloads(log.readUser("alice", Long.MAX_VALUE, 100))).doesNotContain("event-0", "event-1");
+            assertThat(payloads(log.readUser("alice", Long.MAX_VALUE, 100))).contains("event-9");
+            assertThat(countSegmentFiles()).isEqualTo(log.segmentCount());
+        }
+    }
+
+    // Event i happens at 1000 + i on task i % 3; alice is on every event, bob on the even ones
+    private static void appendSample(TaskHistoryLog log, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            Set<String> users = i % 2 == 0 ? Set.of("alice", "bob") : Set.of("alice", "carol");
+            log.append(1000 + i, i % 3, users, bytes("event-" + i));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> payloads(List<TaskHistoryLog.LogRecord> records) {
+        return records.stream().map(record -> new String(record.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+}
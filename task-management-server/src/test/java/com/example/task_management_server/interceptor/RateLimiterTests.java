@@ -0,0 +1,73 @@
+package com.example.task_management_server.interceptor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the limiter with a manual clock; rules allow 2 requests/s with a burst of 4 on task writes.
+ */
+class RateLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong();
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new RateLimiter(List.of("GET /tasks:100:100", "/tasks/**:2:4"), clock::get);
+    }
+
+    @Test
+    void resolvesFirstMatchingRule() {
+        assertThat(limiter.resolveRoute("GET", "/tasks")).isZero();
+        assertThat(limiter.resolveRoute("PUT", "/tasks/{id}")).isEqualTo(1);
+        assertThat(limiter.resolveRoute("POST", "/tasks")).isEqualTo(1);
+        assertThat(limiter.resolveRoute("GET", "/usernames")).isEqualTo(RateLimiter.UNLIMITED);
+    }
+
+    @Test
+    void allowsBurstThenRefillsAtRate() {
+        int route = limiter.resolveRoute("PUT", "/tasks/{id}");
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("alice", route)).isZero();
+        }
+
+        long wait = limiter.tryAcquire("alice", route);
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        clock.addAndGet(wait);
+        assertThat(limiter.tryAcquire("alice", route)).isZero();
+        assertThat(limiter.tryAcquire("alice", route)).isPositive();
+    }
+
+    @Test
+    void limitsUsersAndRoutesIndependently() {
+        int writes = limiter.resolveRoute("PUT", "/tasks/{id}");
+        int board = limiter.resolveRoute("GET", "/tasks");
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("alice", writes);
+        }
+
+        assertThat(limiter.tryAcquire("alice", writes)).isPositive();
+        assertThat(limiter.tryAcquire("alice", board)).isZero();
+        assertThat(limiter.tryAcquire("bob", writes)).isZero();
+    }
+
+    @Test
+    void evictsOnlyRefilledUsers() {
+        int route = limiter.resolveRoute("PUT", "/tasks/{id}");
+        limiter.tryAcquire("alice", route);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryAcquire("bob", route);
+
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.example.task_management_server.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskRankTests {
+
+    @Test
+    void randomInsertsKeepStrictOrderAndShortKeys() {
+        Random random = new Random(42);
+        List<String> column = new ArrayList<>(List.of(TaskRank.between(null, null)));
+        for (int i = 0; i < 10_000; i++) {
+            int position = random.nextInt(column.size() + 1);
+            String lower = position == 0 ? null : column.get(position - 1);
+            String upper = position == column.size() ? null : column.get(position);
+
+            String rank = TaskRank.between(lower, upper);
+
+            if (lower != null) {
+                assertThat(rank).isGreaterThan(lower);
+            }
+            if (upper != null) {
+                assertThat(rank).isLessThan(upper);
+            }
+            assertThat(rank).doesNotEndWith("0");
+            column.add(position, rank);
+        }
+        assertThat(column).allSatisfy(rank -> assertThat(rank.length()).isLessThanOrEqualTo(12));
+    }
+
+    @Test
+    void repeatedInsertsAtTheTopGrowSlowly() {
+        String top = TaskRank.between(null, null);
+        for (int i = 0; i < 100; i++) {
+            String next = TaskRank.between(null, top);
+            assertThat(next).isLessThan(top);
+            top = next;
+        }
+        assertThat(top.length()).isLessThan(25);
+    }
+
+    @Test
+    void appendingAddsACharacterEvery35Cards() {
+        String last = null;
+        for (int i = 0; i < 1000; i++) {
+            String next = TaskRank.after(last);
+            if (last != null) {
+                assertThat(next).isGreaterThan(last);
+            }
+            last = next;
+        }
+        assertThat(last.length()).isLessThanOrEqualTo(30);
+    }
+
+    @Test
+    void spreadProducesIncreasingKeysOfBoundedLength() {
+        List<String> ranks = TaskRank.spread(100_000);
+
+        assertThat(ranks).hasSize(100_000).isSorted().doesNotHaveDuplicates();
+        assertThat(ranks).allSatisfy(rank -> {
+            assertThat(rank.length()).isLessThanOrEqualTo(5);
+            assertThat(rank).doesNotEndWith("0");
+        });
+        // Every gap has room for a key of the same length
+        assertThat(TaskRank.between(ranks.get(0), ranks.get(1)).length()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void rejectsBoundsOutOfOrderOrMalformed() {
+        assertThatThrownBy(() -> TaskRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskRank.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskRank.between("a0", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskRank.between("A", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
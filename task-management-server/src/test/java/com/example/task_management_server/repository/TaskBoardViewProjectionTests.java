@@ -0,0 +1,191 @@
+package com.example.task_management_server.repository;
+
+import com.example.task_management_server.dto.TaskMessage;
+import com.example.task_management_server.dto.TaskRecord;
+import com.example.task_management_server.model.Account;
+import com.example.task_management_server.model.Task;
+import com.example.task_management_server.model.TaskBoardView;
+import com.example.task_management_server.model.Workspace;
+import com.example.task_management_server.service.TaskBoardViewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The board read model ({@code task_board_view}) as {@link TaskBoardViewService} maintains it: one row per member
+ * of a task from its events (skipping those older than the rows), and the reconciliation against the task tables
+ * that repairs or rebuilds it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-board-view;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "telegram.poller.initial-delay-ms=3600000"})
+class TaskBoardViewProjectionTests {
+
+    @Autowired
+    private TaskBoardViewService boardViewService;
+
+    @Autowired
+    private TaskBoardViewRepository viewRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    void emptyTables() {
+        viewRepository.deleteAllInBatch();
+        taskRepository.deleteAll();
+        for (String username : List.of("alice", "bob", "carol")) {
+            accountRepository.save(Account.builder()
+                    .username(username).email(username + "@example.com").password("x").build());
+        }
+    }
+
+    @Test
+    void createdTaskGetsOneRowPerMember() {
+        TaskRecord task = TaskRecord.build(task("Write docs", "alice", "bob", "carol"));
+
+        boardViewService.apply(new TaskMessage(null, task, TaskMessage.MessageType.CREATED));
+
+        assertThat(members(task.taskId())).containsExactlyInAnyOrder("alice", "bob", "carol");
+        List<TaskBoardView> board = boardViewService.getBoard(Workspace.DEFAULT_ID, "bob");
+        assertThat(board).singleElement().satisfies(row -> {
+            assertThat(row.getTitle()).isEqualTo("Write docs");
+            assertThat(row.getOwner()).isEqualTo("alice");
+            assertThat(row.getAssignees()).isEqualTo("bob,carol");
+        });
+    }
+
+    @Test
+    void updatedTaskRewritesRowsAndDropsRemovedAssignees() {
+        Task created = task("Write docs", "alice", "bob", "carol");
+        TaskRecord before = TaskRecord.build(created);
+        boardViewService.apply(new TaskMessage(null, before, TaskMessage.MessageType.CREATED));
+
+        // save() merges, and the copy it returns has a lazy owner; build the record from what was saved, at the
+        // version the save gave it
+        Task updated = created.toBuilder()
+                .title("Write and review docs")
+                .status(Task.TaskStatus.IN_PROGRESS)
+                .assignees(Set.of(account("bob")))
+                .build();
+        long savedVersion = taskRepository.save(updated).getVersion();
+        TaskRecord after = version(TaskRecord.build(updated), savedVersion, updated.getTitle());
+        boardViewService.apply(new TaskMessage(before, after, TaskMessage.MessageType.UPDATED));
+
+        assertThat(members(after.taskId())).containsExactlyInAnyOrder("alice", "bob");
+        assertThat(boardViewService.getBoard(Workspace.DEFAULT_ID, "carol")).isEmpty();
+        assertThat(viewRepository.findByTaskId(after.taskId())).allSatisfy(row -> {
+            assertThat(row.getTitle()).isEqualTo("Write and review docs");
+            assertThat(row.getStatus()).isEqualTo(Task.TaskStatus.IN_PROGRESS);
+            assertThat(row.getAssignees()).isEqualTo("bob");
+        });
+    }
+
+    @Test
+    void deletedTaskLosesEveryRow() {
+        TaskRecord task = TaskRecord.build(task("Write docs", "alice", "bob"));
+        boardViewService.apply(new TaskMessage(null, task, TaskMessage.MessageType.CREATED));
+
+        boardViewService.apply(new TaskMessage(task, null, TaskMessage.MessageType.DELETED));
+
+        assertThat(viewRepository.findByTaskId(task.taskId())).isEmpty();
+    }
+
+    @Test
+    void eventsNotNewerThanTheRowsAreSkipped() {
+        TaskRecord created = TaskRecord.build(task("Write docs", "alice", "bob"));
+        boardViewService.apply(new TaskMessage(null, created, TaskMessage.MessageType.CREATED));
+        TaskRecord second = version(created, 2, "Second title");
+        boardViewService.apply(new TaskMessage(created, second, TaskMessage.MessageType.UPDATED));
+
+        // Late, then redelivered
+        boardViewService.apply(new TaskMessage(created, version(created, 1, "First title"),
+                TaskMessage.MessageType.UPDATED));
+        boardViewService.apply(new TaskMessage(null, created, TaskMessage.MessageType.CREATED));
+        boardViewService.apply(new TaskMessage(created, version(created, 2, "Other second title"),
+                TaskMessage.MessageType.UPDATED));
+
+        assertThat(viewRepository.findByTaskId(created.taskId())).hasSize(2).allSatisfy(row -> {
+            assertThat(row.getTitle()).isEqualTo("Second title");
+            assertThat(row.getVersion()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void consistencyCheckCountsDriftAndRepairsIt() {
+        TaskRecord task = TaskRecord.build(task("Write docs", "alice", "bob", "carol"));
+        boardViewService.apply(new TaskMessage(null, task, TaskMessage.MessageType.CREATED));
+        TaskBoardView alice = row(task.taskId(), "alice");
+        // Stale, missing and orphaned rows
+        viewRepository.save(alice.toBuilder().title("Old title").build());
+        viewRepository.delete(row(task.taskId(), "bob"));
+        viewRepository.save(alice.toBuilder().taskId(task.taskId() + 1000).build());
+
+        assertThat(boardViewService.checkConsistency(false)).isEqualTo(3);
+        assertThat(row(task.taskId(), "alice").getTitle()).isEqualTo("Old title");
+
+        assertThat(boardViewService.checkConsistency(true)).isEqualTo(3);
+        assertThat(boardViewService.checkConsistency(false)).isZero();
+        assertThat(row(task.taskId(), "alice").getTitle()).isEqualTo("Write docs");
+        assertThat(members(task.taskId())).containsExactlyInAnyOrder("alice", "bob", "carol");
+        assertThat(viewRepository.findByTaskId(task.taskId() + 1000)).isEmpty();
+    }
+
+    @Test
+    void rebuildProjectsEveryTask() {
+        Task first = task("Write docs", "alice", "bob");
+        Task second = task("Review docs", "bob", "carol");
+        assertThat(boardViewService.needsInitialBuild()).isTrue();
+
+        boardViewService.rebuild();
+
+        assertThat(boardViewService.needsInitialBuild()).isFalse();
+        assertThat(members(first.getId())).containsExactlyInAnyOrder("alice", "bob");
+        assertThat(members(second.getId())).containsExactlyInAnyOrder("bob", "carol");
+        assertThat(boardViewService.getBoard(Workspace.DEFAULT_ID, "bob"))
+                .extracting(TaskBoardView::getTitle)
+                .containsExactlyInAnyOrder("Write docs", "Review docs");
+        assertThat(boardViewService.checkConsistency(false)).isZero();
+    }
+
+    private Task task(String title, String owner, String... assignees) {
+        return taskRepository.save(Task.builder()
+                .workspaceId(Workspace.DEFAULT_ID)
+                .title(title)
+                .status(Task.TaskStatus.TODO)
+                .rank("a")
+                .owner(account(owner))
+                .assignees(Arrays.stream(assignees).map(this::account).collect(Collectors.toSet()))
+                .build());
+    }
+
+    private static TaskRecord version(TaskRecord record, long version, String title) {
+        return new TaskRecord(record.taskId(), title, record.status(), record.owner(), record.description(),
+                record.endDate(), record.createdAt(), record.assignees(), record.telegramIds(), record.rank(),
+                record.workspaceId(), version);
+    }
+
+    private Account account(String username) {
+        return accountRepository.findById(username).orElseThrow();
+    }
+
+    private TaskBoardView row(long taskId, String username) {
+        return viewRepository.findById(new TaskBoardView.Key(username, taskId)).orElseThrow();
+    }
+
+    private List<String> members(long taskId) {
+        return viewRepository.findByTaskId(taskId).stream().map(TaskBoardView::getUsername).toList();
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.example.task_management_server.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the indexed access paths created by the Flyway migrations. Each query mirrors one issued by
+ * the repositories; if a migration drops or reshapes an index, H2 falls back to a table scan and the
+ * corresponding assertion fails.
+ */
+class TaskQueryPlanTests {
+
+    private static final String URL = "jdbc:h2:mem:query-plan;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("INSERT INTO account (username, email, password) "
+                    + "SELECT 'user' || x, 'user' || x || '@example.com', 'x' FROM SYSTEM_RANGE(1, 100)");
+            stmt.execute("INSERT INTO workspace (name, created_at) "
+                    + "SELECT 'workspace ' || x, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(2, 100)");
+            stmt.execute("INSERT INTO workspace_member (workspace_id, username, joined_at) "
+                    + "SELECT MOD(x, 10) + 1, 'user' || x, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 100)");
+            stmt.execute("INSERT INTO task (workspace_id, title, status, owner_id, end_date, sort_rank) "
+                    + "SELECT MOD(x, 100) + 1, 'task ' || x, MOD(x, 3), 'user' || (MOD(x, 100) + 1), "
+                    + "DATEADD('DAY', x, TIMESTAMP WITH TIME ZONE '2025-01-01 00:00:00+00'), "
+                    + "LPAD(CAST(x AS VARCHAR), 19, '0') || '1' FROM SYSTEM_RANGE(1, 1000)");
+            stmt.execute("INSERT INTO account_task (task_id, user_id) "
+                    + "SELECT id, 'user' || (MOD(id + 7, 100) + 1) FROM task");
+            stmt.execute("INSERT INTO task_board_view "
+                    + "(workspace_id, username, task_id, title, status, end_date, owner, assignees, sort_rank) "
+                    + "SELECT workspace_id, owner_id, id, title, status, end_date, owner_id, '', sort_rank FROM task");
+            stmt.execute("INSERT INTO task_archive (id, workspace_id, archived_at, title, status, owner_id) "
+                    + "SELECT id + 1000, workspace_id, CURRENT_TIMESTAMP, title, 2, owner_id FROM task");
+            stmt.execute("INSERT INTO account_task_archive (task_id, user_id, workspace_id) "
+                    + "SELECT id, owner_id, workspace_id FROM task_archive");
+            // H2 plans with column selectivities, which default to 50% until ANALYZE. With statistics and as many
+            // workspaces as owners, (workspace_id, owner_id) is more selective than the owner_id index H2 keeps
+            // for fk_task_owner (PostgreSQL has no such index)
+            stmt.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void boardQueryByOwnerUsesCompositeIndex() throws SQLException {
+        assertIndexed("SELECT * FROM task WHERE workspace_id = 2 AND owner_id = 'user1'", "IDX_TASK_BOARD");
+        assertIndexed("SELECT * FROM task WHERE workspace_id = 2 AND owner_id = 'user1' AND status = 1",
+                "IDX_TASK_BOARD");
+    }
+
+    @Test
+    void columnMaxRankIsReadFromRankIndex() throws SQLException {
+        assertIndexed("SELECT MAX(sort_rank) FROM task WHERE workspace_id = 2 AND status = 1", "IDX_TASK_RANK");
+    }
+
+    @Test
+    void boardViewColumnIsReadInRankOrderFromIndex() throws SQLException {
+        assertIndexed("SELECT task_id FROM task_board_view WHERE workspace_id = 2 AND username = 'user1' "
+                + "AND status = 1 ORDER BY sort_rank, task_id", "IDX_TASK_BOARD_VIEW_RANK");
+    }
+
+    @Test
+    void archiveByMemberUsesWorkspaceIndexes() throws SQLException {
+        assertIndexed("SELECT id FROM task_archive WHERE workspace_id = 2 AND owner_id = 'user1' AND id < 5000",
+                "IDX_TASK_ARCHIVE_OWNER");
+        assertIndexed("SELECT task_id FROM account_task_archive "
+                + "WHERE workspace_id = 2 AND user_id = 'user1' AND task_id < 5000", "IDX_ACCOUNT_TASK_ARCHIVE_USER");
+    }
+
+    @Test
+    void workspacesOfUserUseMemberIndex() throws SQLException {
+        assertIndexed("SELECT workspace_id FROM workspace_member WHERE username = 'user1'",
+                "IDX_WORKSPACE_MEMBER_USER");
+    }
+
+    @Test
+    void dependencyLookupByBlockedTaskUsesIndex() throws SQLException {
+        assertIndexed("SELECT blocker_id FROM task_dependency WHERE blocked_id = 1", "IDX_TASK_DEPENDENCY_BLOCKED");
+    }
+
+    @Test
+    void assigneeLookupUsesUserIndex() throws SQLException {
+        assertIndexed("SELECT task_id FROM account_task WHERE user_id = 'user1'", "IDX_ACCOUNT_TASK_USER");
+    }
+
+    @Test
+    void dueDateRangeUsesEndDateIndex() throws SQLException {
+        assertIndexed("SELECT * FROM task WHERE end_date BETWEEN "
+                + "TIMESTAMP WITH TIME ZONE '2025-02-01 00:00:00+00' AND TIMESTAMP WITH TIME ZONE '2025-02-08 00:00:00+00'",
+                "IDX_TASK_END_DATE");
+    }
+
+    @Test
+    void calendarWindowIsReadInDueOrderFromBoardViewIndex() throws SQLException {
+        assertIndexed("SELECT task_id FROM task_board_view WHERE workspace_id = 2 AND username = 'user1' "
+                + "AND end_date >= TIMESTAMP WITH TIME ZONE '2025-02-01 00:00:00+00' "
+                + "AND end_date < TIMESTAMP WITH TIME ZONE '2025-03-01 00:00:00+00' "
+                + "ORDER BY end_date, task_id", "IDX_TASK_BOARD_VIEW_DUE");
+    }
+
+    @Test
+    void idempotencyEvictionUsesExpiryIndex() throws SQLException {
+        assertIndexed("SELECT scope, idem_key FROM idempotency_key "
+                + "WHERE expires_at < TIMESTAMP WITH TIME ZONE '2025-02-01 00:00:00+00'", "IDX_IDEMPOTENCY_KEY_EXPIRY");
+    }
+
+    @Test
+    void statusLookupUsesStatusIndex() throws SQLException {
+        assertIndexed("SELECT id FROM task WHERE status = 2", "IDX_TASK_STATUS");
+    }
+
+    private static void assertIndexed(String query, String expectedIndex) throws SQLException {
+        String plan = explain(query);
+        assertThat(plan)
+                .as("plan for %s", query)
+                .containsIgnoringCase(expectedIndex)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    private static String explain(String query) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN " + query)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+
+}